@@ -7,29 +7,35 @@ import com.viddefe.viddefe_api.StatesCities.infrastructure.dto.CitiesDto;
 import com.viddefe.viddefe_api.StatesCities.infrastructure.dto.StatesDto;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
 @RequestMapping("/states")
 @RequiredArgsConstructor
 public class StatesCitiesController {
+    /**
+     * Datos geográficos de referencia: el cliente y los proxies pueden reutilizarlos sin volver a pedirlos.
+     */
+    private static final CacheControl GEO_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
     private final StatesCitiesService statesCitiesService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<StatesDto>>> getStates(){
         List<StatesDto> states = statesCitiesService.getAllStates();
-        return new ResponseEntity<>(ApiResponse.ok(states), HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(GEO_CACHE).body(ApiResponse.ok(states));
     }
     @GetMapping("/{id}/cities")
     public ResponseEntity<ApiResponse<List<CitiesDto>>> getStatesCities(@PathVariable Long id){
         List<CitiesDto> cities = statesCitiesService.getAllCitiesByState(id);
-        return new ResponseEntity<>(ApiResponse.ok(cities), HttpStatus.OK);
+        return ResponseEntity.ok().cacheControl(GEO_CACHE).body(ApiResponse.ok(cities));
     }
 }
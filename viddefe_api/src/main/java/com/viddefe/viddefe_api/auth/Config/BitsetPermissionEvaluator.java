@@ -0,0 +1,38 @@
+package com.viddefe.viddefe_api.auth.Config;
+
+import com.viddefe.viddefe_api.auth.contracts.PermissionEnum;
+import com.viddefe.viddefe_api.auth.contracts.PermissionService;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+
+import java.io.Serializable;
+
+/**
+ * Resuelve {@code hasPermission(..., permiso)} en {@code @PreAuthorize} con una prueba de bit
+ * sobre los permisos del {@link AuthenticatedUser}, sin recorrer una lista de authorities.
+ *
+ * <p>El permiso puede pasarse como {@link PermissionEnum} o por su nombre.</p>
+ */
+@RequiredArgsConstructor
+public class BitsetPermissionEvaluator implements PermissionEvaluator {
+
+    private final PermissionService permissionService;
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return false;
+        }
+        String name = permission instanceof PermissionEnum permissionEnum
+                ? permissionEnum.getName()
+                : String.valueOf(permission);
+        return user.permissions().has(permissionService.bitIndexOf(name));
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        return hasPermission(authentication, null, permission);
+    }
+}
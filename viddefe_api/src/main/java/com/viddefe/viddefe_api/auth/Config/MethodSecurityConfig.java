@@ -0,0 +1,28 @@
+package com.viddefe.viddefe_api.auth.Config;
+
+import com.viddefe.viddefe_api.auth.contracts.PermissionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+
+/**
+ * Activa {@code @PreAuthorize} y registra el {@link BitsetPermissionEvaluator} para {@code hasPermission}.
+ */
+@Configuration
+@EnableMethodSecurity
+public class MethodSecurityConfig {
+
+    /**
+     * Static so the method security infrastructure does not initialize this configuration early;
+     * {@code @Lazy} defers the PermissionService until the first check.
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(@Lazy PermissionService permissionService) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(new BitsetPermissionEvaluator(permissionService));
+        return handler;
+    }
+}
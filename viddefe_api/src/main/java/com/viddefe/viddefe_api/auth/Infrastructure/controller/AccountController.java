@@ -1,8 +1,10 @@
 package com.viddefe.viddefe_api.auth.Infrastructure.controller;
 
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.BulkInvitationDto;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.BulkInvitationResultDto;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.InvitationDto;
 import com.viddefe.viddefe_api.auth.contracts.AccountService;
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +19,6 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
-    private final JwtUtil jwtUtil;
 
     @GetMapping("/status")
     public String accountStatus() {
@@ -27,14 +28,23 @@ public class AccountController {
     @PostMapping("/invitations")
     public ResponseEntity<ApiResponse<Void>> sendInvitation(
             @Valid @RequestBody InvitationDto invitationDto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
         // Logic to send invitation
         accountService.invite(invitationDto, churchId);
         return ResponseEntity.ok(ApiResponse.ok(null));
     }
 
+    @PostMapping("/invitations/bulk")
+    public ResponseEntity<ApiResponse<BulkInvitationResultDto>> sendInvitations(
+            @Valid @RequestBody BulkInvitationDto bulkInvitationDto,
+            AuthenticatedUser user
+    ) {
+        BulkInvitationResultDto result = accountService.inviteAll(bulkInvitationDto.getInvitations(), user.churchId());
+        return ResponseEntity.ok(ApiResponse.ok(result));
+    }
+
     @PostMapping("/activate")
     public ResponseEntity<ApiResponse<Void>> activateAccount() {
         // Logic to activate account
@@ -4,11 +4,13 @@ import com.viddefe.viddefe_api.auth.Infrastructure.dto.*;
 import com.viddefe.viddefe_api.auth.contracts.AuthMeService;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDTO;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.Components.JwtUtil;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleResDto;
 import jakarta.servlet.http.Cookie;
 import com.viddefe.viddefe_api.auth.contracts.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,8 +33,13 @@ public class SignController {
 
     private final AuthService signService;
     private final AuthMeService authMeService;
-    private final Environment env;
     private final JwtUtil jwtUtil;
+    private final Environment env;
+
+    /**
+     * Cookie path of the refresh token, covering {@code /auth/refresh} and {@code /auth/sign-out}.
+     */
+    private static final String REFRESH_PATH = "/auth";
 
     @PostMapping("/sign-up/user")
     public ResponseEntity<ApiResponse<AuthProcessResponse<String>>> signUpUser(@Valid @RequestBody SignUpDTO signUpDTO) {
@@ -54,22 +62,56 @@ public class SignController {
     @PostMapping("/sign-in")
     public ResponseEntity<ApiResponse<AuthProcessResponse<SignInResDTO>>> signIn (@Valid @RequestBody SignInDTO signinDTO, HttpServletResponse response) {
         AuthProcessResponse<SignInResDTO> responseSign = signService.signIn(signinDTO);
-        List<String> permissions = authMeService.getUserPermissions(responseSign.getData().getUserId());
+        return issueTokens(responseSign, response);
+    }
+
+    /**
+     * Rota el token de refresco y emite un token de acceso nuevo con los permisos actuales del usuario.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthProcessResponse<SignInResDTO>>> refresh(
+            @CookieValue(name = JwtUtil.REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+            HttpServletResponse response) {
+        AuthProcessResponse<SignInResDTO> responseSign = signService.refresh(refreshToken);
+        return issueTokens(responseSign, response);
+    }
+
+    @PostMapping("/sign-out")
+    public ResponseEntity<Void> signOut(
+            @CookieValue(name = JwtUtil.REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        signService.signOut(JwtUtil.resolveToken(request), refreshToken);
+        response.addCookie(cookie(JwtUtil.TOKEN_COOKIE, "", "/", Duration.ZERO));
+        response.addCookie(cookie(JwtUtil.REFRESH_TOKEN_COOKIE, "", REFRESH_PATH, Duration.ZERO));
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<ApiResponse<AuthProcessResponse<SignInResDTO>>> issueTokens(
+            AuthProcessResponse<SignInResDTO> responseSign, HttpServletResponse response) {
+        List<String> permissions = responseSign.getData().getPermissions();
         Map<String, Object> metadata = new HashMap<>();
         metadata.put("permissions", permissions);
         String jwt = signService.generateJwt(responseSign.getData(), permissions);
-        Cookie cookie = new Cookie("access_token",jwt);
+        String refreshToken = signService.generateRefreshToken(responseSign.getData());
+        response.addCookie(cookie(JwtUtil.TOKEN_COOKIE, jwt, "/", jwtUtil.getAccessTokenTtl()));
+        // Scoped to /auth so the refresh token is not sent along with every API call
+        response.addCookie(cookie(JwtUtil.REFRESH_TOKEN_COOKIE, refreshToken, REFRESH_PATH, jwtUtil.getRefreshTokenTtl()));
+        return new ResponseEntity<>(ApiResponse.ok(responseSign).withMeta(metadata), HttpStatus.ACCEPTED);
+    }
+
+    private Cookie cookie(String name, String value, String path, Duration maxAge) {
+        Cookie cookie = new Cookie(name, value);
         cookie.setHttpOnly(true);
         cookie.setSecure(env.matchesProfiles("prod"));
-        cookie.setPath("/");
-        cookie.setMaxAge(60 * 60);
-        response.addCookie(cookie);
-        return new ResponseEntity<>(ApiResponse.ok(responseSign).withMeta(metadata), HttpStatus.ACCEPTED);
+        cookie.setPath(path);
+        cookie.setMaxAge((int) maxAge.toSeconds());
+        return cookie;
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<UserInfo>> me (@CookieValue(name = "access_token") String jwt) {
-        UUID userId = jwtUtil.getUserId(jwt);
+    public ResponseEntity<ApiResponse<UserInfo>> me (AuthenticatedUser user) {
+        UUID userId = user.userId();
         UserInfo userInfo = authMeService.getUserInfo(userId);
         return ResponseEntity.ok(ApiResponse.ok(userInfo));
     }
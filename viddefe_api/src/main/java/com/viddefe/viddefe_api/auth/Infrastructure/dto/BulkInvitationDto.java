@@ -0,0 +1,16 @@
+package com.viddefe.viddefe_api.auth.Infrastructure.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+public class BulkInvitationDto {
+    @NotEmpty(message = "Invitations are required")
+    @Size(max = 500, message = "At most 500 invitations per request")
+    private List<@Valid InvitationDto> invitations;
+}
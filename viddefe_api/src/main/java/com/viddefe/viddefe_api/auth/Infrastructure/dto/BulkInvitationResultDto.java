@@ -0,0 +1,21 @@
+package com.viddefe.viddefe_api.auth.Infrastructure.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a bulk invitation: how many users were created and which entries were skipped.
+ *
+ * @param invited  number of users created and notified
+ * @param rejected entries that were not invited, with the reason
+ */
+public record BulkInvitationResultDto(int invited, List<Rejected> rejected) {
+
+    /**
+     * @param index    position of the entry in the request
+     * @param personId person of the entry
+     * @param reason   why it was skipped
+     */
+    public record Rejected(int index, UUID personId, String reason) {
+    }
+}
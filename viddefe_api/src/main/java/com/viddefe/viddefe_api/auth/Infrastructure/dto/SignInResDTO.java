@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -21,4 +22,10 @@ public class SignInResDTO {
 
     @JsonIgnore
     private UUID churchId;
+
+    /**
+     * Permission names loaded with the sign-in query; sent in the response metadata and the token.
+     */
+    @JsonIgnore
+    private List<String> permissions;
 }
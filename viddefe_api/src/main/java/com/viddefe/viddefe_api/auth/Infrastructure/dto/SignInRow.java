@@ -0,0 +1,20 @@
+package com.viddefe.viddefe_api.auth.Infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Everything sign-in needs to verify the password and issue the token, loaded in one query.
+ * {@code permissions} is the comma-separated list of permission names, empty when the user has none.
+ */
+public interface SignInRow {
+    UUID getUserId();
+    String getEmail();
+    String getPassword();
+    Long getRoleId();
+    String getRoleName();
+    UUID getPeopleId();
+    String getFirstName();
+    String getLastName();
+    UUID getChurchId();
+    String getPermissions();
+}
@@ -0,0 +1,12 @@
+package com.viddefe.viddefe_api.auth.Infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Contact data of a user, loaded without the user entity and its relations.
+ */
+public interface UserContactRow {
+    UUID getPeopleId();
+    String getEmail();
+    String getPhone();
+}
@@ -0,0 +1,20 @@
+package com.viddefe.viddefe_api.auth.Infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Event published whenever the permissions granted to a user are written.
+ *
+ * @param userId  ID of the user whose permissions changed
+ * @param newUser {@code true} when the permissions were written on user creation, so no token exists yet
+ */
+public record UserPermissionsChangedEvent(UUID userId, boolean newUser) {
+
+    public static UserPermissionsChangedEvent created(UUID userId) {
+        return new UserPermissionsChangedEvent(userId, true);
+    }
+
+    public static UserPermissionsChangedEvent changed(UUID userId) {
+        return new UserPermissionsChangedEvent(userId, false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserPermissionsChangedEvent;
+import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Revoca los tokens de acceso vigentes de un usuario cuando cambian sus permisos.
+ *
+ * <p>El cliente recibe 401 en la siguiente petición, refresca y obtiene un token con los permisos nuevos,
+ * en lugar de seguir usando los anteriores hasta que el token caduque.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRevocationListener {
+    private final JwtUtil jwtUtil;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionsChanged(UserPermissionsChangedEvent event) {
+        if (event.newUser()) {
+            // A user that was just created has no tokens to revoke
+            return;
+        }
+        jwtUtil.revokeUser(event.userId());
+        log.debug("Access tokens revoked | userId={}", event.userId());
+    }
+}
@@ -1,6 +1,8 @@
 package com.viddefe.viddefe_api.auth.application;
 
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.BulkInvitationResultDto;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.InvitationDto;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserPermissionsChangedEvent;
 import com.viddefe.viddefe_api.auth.contracts.AccountService;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
@@ -9,20 +11,23 @@ import com.viddefe.viddefe_api.auth.domain.model.UserModel;
 import com.viddefe.viddefe_api.auth.domain.model.UserPermissions;
 import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationAccountEvent;
+import com.viddefe.viddefe_api.common.exception.CustomExceptions;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 import com.viddefe.viddefe_api.notifications.common.Channels;
 import com.viddefe.viddefe_api.config.rabbit.RabbitPriority;
 import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -35,10 +40,11 @@ public class AccountServiceImpl implements AccountService {
 
     private final PeopleReader peopleReader;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final RolesUserService rolesUserService;
     private final PermissionService permissionService;
     private final NotificationEventPublisher notificationEventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Temporary one-time password.
@@ -76,17 +82,116 @@ public class AccountServiceImpl implements AccountService {
 
         RolUserModel role = rolesUserService.foundRolUserById(dtp.getRole());
         PeopleModel person = peopleReader.getPeopleById(dtp.getPersonId());
+        String temporaryPassword = generateRandomPassword();
+        UserModel userModel = buildUser(dtp, person, role, permissionModels, passwordHasher.encode(temporaryPassword));
+        userRepository.save(userModel);
+        applicationEventPublisher.publishEvent(UserPermissionsChangedEvent.created(userModel.getId()));
+        notificationEventPublisher.publish(
+                buildInvitationEvent(person, userModel, Channels.from(dtp.getChannel()), temporaryPassword)
+        );
+    }
+
+    /**
+     * Validates the whole batch with set-based queries, hashes the temporary passwords in parallel
+     * on {@link PasswordHasher}, inserts the users (and their permissions, by cascade) in one JDBC batch
+     * and hands the notifications to RabbitMQ as one batch.
+     *
+     * <p>Not transactional on purpose: hashing hundreds of passwords must not hold a connection.
+     * {@code saveAll} opens its own transaction for the inserts.</p>
+     */
+    @Override
+    public BulkInvitationResultDto inviteAll(List<InvitationDto> invitations, UUID churchId) {
+        List<UUID> personIds = invitations.stream().map(InvitationDto::getPersonId).distinct().toList();
+        Map<UUID, PeopleModel> people = new HashMap<>();
+        peopleReader.getPeopleByIds(personIds).forEach(person -> people.put(person.getId(), person));
+        Set<UUID> peopleWithUser = new HashSet<>(userRepository.findPeopleIdsWithUser(personIds));
+        Set<String> takenEmails = new HashSet<>(findExisting(invitations, InvitationDto::getEmail, userRepository::findExistingEmails));
+        Set<String> takenPhones = new HashSet<>(findExisting(invitations, InvitationDto::getPhone, userRepository::findExistingPhones));
+        Map<String, PermissionModel> permissions = new HashMap<>();
+        permissionService.findByListNames(
+                invitations.stream().flatMap(dto -> dto.getPermissions().stream()).distinct().toList()
+        ).forEach(permission -> permissions.put(permission.getName(), permission));
+        Map<Long, Optional<RolUserModel>> roles = new HashMap<>();
+
+        List<PendingInvitation> accepted = new ArrayList<>();
+        List<BulkInvitationResultDto.Rejected> rejected = new ArrayList<>();
+        for (int i = 0; i < invitations.size(); i++) {
+            InvitationDto dto = invitations.get(i);
+            PeopleModel person = people.get(dto.getPersonId());
+            Optional<RolUserModel> role = roles.computeIfAbsent(dto.getRole(), this::findRole);
+            Channels channel = parseChannel(dto.getChannel());
+            String email = hasText(dto.getEmail()) ? dto.getEmail() : null;
+            String phone = hasText(dto.getPhone()) ? dto.getPhone() : null;
+
+            String reason = null;
+            if (person == null) {
+                reason = "Person not found";
+            } else if (person.getChurch() == null || !person.getChurch().getId().equals(churchId)) {
+                reason = "Person does not belong to the church";
+            } else if (peopleWithUser.contains(person.getId())) {
+                reason = "User for the selected person already exists in the church";
+            } else if (email != null && takenEmails.contains(email)) {
+                reason = "User with email already exists";
+            } else if (phone != null && takenPhones.contains(phone)) {
+                reason = "User with phone number already exists";
+            } else if (role.isEmpty()) {
+                reason = "Rol User not found";
+            } else if (channel == null) {
+                reason = "Unsupported channel: " + dto.getChannel();
+            }
+            if (reason != null) {
+                rejected.add(new BulkInvitationResultDto.Rejected(i, dto.getPersonId(), reason));
+                continue;
+            }
+            // Los repetidos dentro del mismo lote se rechazan como si ya existieran
+            peopleWithUser.add(person.getId());
+            if (email != null) takenEmails.add(email);
+            if (phone != null) takenPhones.add(phone);
+            accepted.add(new PendingInvitation(dto, person, role.get(), channel, generateRandomPassword()));
+        }
+        if (accepted.isEmpty()) {
+            return new BulkInvitationResultDto(0, rejected);
+        }
+
+        List<String> hashes = passwordHasher.encodeAll(
+                accepted.stream().map(PendingInvitation::temporaryPassword).toList()
+        );
+        List<UserModel> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            PendingInvitation pending = accepted.get(i);
+            List<PermissionModel> userPermissions = pending.dto().getPermissions().stream()
+                    .map(permissions::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            users.add(buildUser(pending.dto(), pending.person(), pending.role(), userPermissions, hashes.get(i)));
+        }
+        userRepository.saveAll(users);
+
+        List<NotificationAccountEvent> events = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            PendingInvitation pending = accepted.get(i);
+            UserModel user = users.get(i);
+            applicationEventPublisher.publishEvent(UserPermissionsChangedEvent.created(user.getId()));
+            events.add(buildInvitationEvent(pending.person(), user, pending.channel(), pending.temporaryPassword()));
+        }
+        notificationEventPublisher.publishAll(new NotificationEventBatch(events));
+        return new BulkInvitationResultDto(users.size(), rejected);
+    }
+
+    private UserModel buildUser(InvitationDto dto, PeopleModel person, RolUserModel role,
+                                List<PermissionModel> permissionModels, String passwordHash) {
         UserModel userModel = new UserModel();
-        userModel.setEmail(dtp.getEmail());
-        userModel.setPhone(dtp.getPhone());
+        userModel.setEmail(dto.getEmail());
+        userModel.setPhone(dto.getPhone());
         userModel.setPeople(person);
         userModel.setRolUser(role);
-        List<UserPermissions> userPermissions = getUserPermissionsCollection(userModel, permissionModels);
-        userModel.addListPermission(userPermissions);
-        String temporaryPassword = generateRandomPassword();
-        userModel.setPassword(passwordEncoder.encode(temporaryPassword));
-        userRepository.save(userModel);
-        Channels channel = Channels.from(dtp.getChannel());
+        userModel.addListPermission(getUserPermissionsCollection(userModel, permissionModels));
+        userModel.setPassword(passwordHash);
+        return userModel;
+    }
+
+    private NotificationAccountEvent buildInvitationEvent(PeopleModel person, UserModel userModel,
+                                                          Channels channel, String temporaryPassword) {
         NotificationAccountEvent event = new NotificationAccountEvent();
         event.setPriority(RabbitPriority.HIGH);
         event.setSubject("Bienvenido a VidDefe!");
@@ -95,7 +200,51 @@ public class AccountServiceImpl implements AccountService {
         event.setCreatedAt(Instant.now());
         event.setVariables(resolveVariables(event, person, userModel, temporaryPassword));
         event.setTemplate("/emails/invitation.html");
-        notificationEventPublisher.publish(event);
+        return event;
+    }
+
+    private List<String> findExisting(List<InvitationDto> invitations,
+                                      Function<InvitationDto, String> field,
+                                      Function<Collection<String>, List<String>> query) {
+        Set<String> values = new HashSet<>();
+        for (InvitationDto dto : invitations) {
+            String value = field.apply(dto);
+            if (hasText(value)) values.add(value);
+        }
+        return values.isEmpty() ? List.of() : query.apply(values);
+    }
+
+    private Optional<RolUserModel> findRole(Long roleId) {
+        try {
+            return Optional.ofNullable(rolesUserService.foundRolUserById(roleId));
+        } catch (CustomExceptions.ResourceNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Solo los canales con plantilla de invitación ({@link #resolveVariables}).
+     */
+    private static Channels parseChannel(String value) {
+        try {
+            Channels channel = Channels.from(value);
+            return channel == Channels.EMAIL || channel == Channels.WHATSAPP ? channel : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record PendingInvitation(
+            InvitationDto dto,
+            PeopleModel person,
+            RolUserModel role,
+            Channels channel,
+            String temporaryPassword
+    ) {
     }
 
     public Map<String, Object> resolveVariables(NotificationEvent event, PeopleModel person, UserModel user, String temporaryPassword) {
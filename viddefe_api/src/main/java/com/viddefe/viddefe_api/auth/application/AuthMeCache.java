@@ -0,0 +1,84 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserInfo;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchResDto;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleResDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria de lo que sirve {@code /auth/me}: el {@link UserInfo} y los permisos de cada usuario.
+ *
+ * <p>Las entradas se invalidan por eventos de dominio (ver {@link AuthMeCacheInvalidationListener}).
+ * El TTL solo acota cuánto puede tardar en verse un cambio hecho desde otra instancia.</p>
+ */
+@Component
+public class AuthMeCache {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final Cache<UUID, UserInfo> userInfos;
+    private final Cache<UUID, List<String>> permissions;
+
+    public AuthMeCache(MeterRegistry meterRegistry) {
+        this.userInfos = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        this.permissions = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userInfos, "auth.me.user-info");
+        CaffeineCacheMetrics.monitor(meterRegistry, permissions, "auth.me.permissions");
+    }
+
+    public UserInfo getUserInfo(UUID userId, Function<UUID, UserInfo> loader) {
+        return userInfos.get(userId, loader);
+    }
+
+    public List<String> getPermissions(UUID userId, Function<UUID, List<String>> loader) {
+        return permissions.get(userId, loader);
+    }
+
+    public void evictUser(UUID userId) {
+        userInfos.invalidate(userId);
+        permissions.invalidate(userId);
+    }
+
+    /**
+     * Invalida los usuarios de la persona y los que la muestran como pastor de su iglesia.
+     * Recorre las entradas en memoria: los cambios de personas son raros frente a las lecturas.
+     */
+    public void evictPerson(UUID personId) {
+        userInfos.asMap().values().removeIf(info ->
+                personId.equals(idOf(info.person())) || personId.equals(idOf(pastorOf(info.church())))
+        );
+    }
+
+    /**
+     * Invalida los usuarios que pertenecen a la iglesia.
+     */
+    public void evictChurch(UUID churchId) {
+        userInfos.asMap().values().removeIf(info -> info.church() != null && churchId.equals(info.church().getId()));
+    }
+
+    private static PeopleResDto pastorOf(ChurchResDto church) {
+        return church != null ? church.getPastor() : null;
+    }
+
+    private static UUID idOf(PeopleResDto person) {
+        return person != null ? person.getId() : null;
+    }
+}
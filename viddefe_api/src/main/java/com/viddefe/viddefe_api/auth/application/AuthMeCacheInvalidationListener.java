@@ -0,0 +1,40 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserPermissionsChangedEvent;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchUpdatedEvent;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Invalida {@link AuthMeCache} cuando cambian los permisos de un usuario, una persona o una iglesia.
+ *
+ * <p>Corre tras el commit y en el mismo hilo: la siguiente lectura de {@code /auth/me}
+ * ya recarga los datos confirmados.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthMeCacheInvalidationListener {
+    private final AuthMeCache authMeCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionsChanged(UserPermissionsChangedEvent event) {
+        authMeCache.evictUser(event.userId());
+        log.debug("Auth me cache evicted | userId={}", event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPersonUpdated(PersonUpdatedEvent event) {
+        authMeCache.evictPerson(event.personId());
+        log.debug("Auth me cache evicted | personId={}", event.personId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChurchUpdated(ChurchUpdatedEvent event) {
+        authMeCache.evictChurch(event.churchId());
+        log.debug("Auth me cache evicted | churchId={}", event.churchId());
+    }
+}
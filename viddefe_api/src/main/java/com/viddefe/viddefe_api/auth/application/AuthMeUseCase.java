@@ -2,6 +2,7 @@ package com.viddefe.viddefe_api.auth.application;
 
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserInfo;
 import com.viddefe.viddefe_api.auth.contracts.AuthMeService;
+import com.viddefe.viddefe_api.auth.contracts.ContactResolver;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
 import com.viddefe.viddefe_api.auth.domain.model.UserModel;
@@ -15,7 +16,6 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,16 +28,39 @@ public class AuthMeUseCase implements AuthMeService {
     private final UserRepository userRepository;
     private final ChurchPastorService churchPastorService;
     private final PermissionService permissionService;
+    private final ContactResolver contactResolver;
+    private final AuthMeCache authMeCache;
     /**
      * Retrieves user information based on the provided user ID.
+     * Served from {@link AuthMeCache}; a miss loads it with two fetch-joined queries,
+     * so no surrounding transaction is needed.
      *
      * @param userId the UUID of the user
      * @return UserInfo containing church details, user email, role, and personal details
      * @throws EntityNotFoundException if the user is not found
      */
     @Override
-    @Transactional(readOnly = true)
     public UserInfo getUserInfo(@NonNull UUID userId) {
+        return authMeCache.getUserInfo(userId, this::loadUserInfo);
+    }
+
+    /**
+     * Retrieves a list of permissions associated with the specified user ID.
+     *
+     * @param userId the {@link UUID}  of the user
+     * @return List of permission names
+     */
+    @Override
+    public List<String> getUserPermissions(@NonNull UUID userId) {
+        return authMeCache.getPermissions(userId, this::loadUserPermissions);
+    }
+
+    @Override
+    public String getContactByPersonId(UUID personId) {
+        return contactResolver.getContact(personId);
+    }
+
+    private UserInfo loadUserInfo(UUID userId) {
         // Usa findByIdWithPeopleAndChurch para evitar N+1 queries
         UserModel user = userRepository.findByIdWithPeopleAndChurch(userId).orElseThrow(
                 () -> new EntityNotFoundException("User not found")
@@ -58,31 +81,10 @@ public class AuthMeUseCase implements AuthMeService {
         );
     }
 
-    /**
-     * Retrieves a list of permissions associated with the specified user ID.
-     *
-     * @param userId the {@link UUID}  of the user
-     * @return List of permission names
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<String> getUserPermissions(@NonNull UUID userId) {
+    private List<String> loadUserPermissions(UUID userId) {
         List<PermissionModel> permissions = permissionService.findByUserId(userId);
         return permissions.stream()
                 .map(PermissionModel::getName)
                 .toList();
     }
-
-    @Override
-    public String getContactByPersonId(UUID personId) throws InterruptedException {
-        UserModel user = userRepository.findByPeopleId(personId).orElseThrow(
-                () -> new EntityNotFoundException("User not found for personId: " + personId)
-        );
-        Thread.sleep(2000); // Simulated delay of 2 seconds
-        if (user.getEmail() != null && !user.getEmail().isBlank()) {
-            return user.getEmail();
-        } else {
-            return user.getPhone();
-        }
-    }
 }
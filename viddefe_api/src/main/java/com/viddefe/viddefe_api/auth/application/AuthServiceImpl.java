@@ -5,6 +5,7 @@ import com.viddefe.viddefe_api.auth.Infrastructure.dto.AuthProcessResponse;
 import com.viddefe.viddefe_api.auth.contracts.AuthService;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInDTO;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInResDTO;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInRow;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignUpDTO;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
@@ -20,14 +21,16 @@ import com.viddefe.viddefe_api.people.contracts.PeopleWriter;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleResDto;
+import io.jsonwebtoken.Claims;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Servicio de autenticación refactorizado.
@@ -42,7 +45,7 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final RolesUserService rolesUserService;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
@@ -66,7 +69,7 @@ public class AuthServiceImpl implements AuthService {
         RolUserModel rolUserModel = rolesUserService.foundRolUserById(roleId);
         PeopleModel peopleModel = peopleReader.getPeopleById(dto.getPeopleId());
         userModel.setPeople(peopleModel);
-        userModel.setPassword(passwordEncoder.encode(dto.getPassword()));
+        userModel.setPassword(passwordHasher.encode(dto.getPassword()));
         userModel.setEmail(dto.getEmail());
         userModel.setRolUser(rolUserModel);
         List<PermissionModel> bankPermissions = permissionService.findAll();
@@ -93,30 +96,57 @@ public class AuthServiceImpl implements AuthService {
         return AuthProcessResponse.completed(null);
     }
 
+    /**
+     * Sin transacción: una sola consulta trae los datos del token y los permisos agregados, y
+     * la verificación en {@link PasswordHasher} no debe retener una conexión mientras espera.
+     */
     @Override
-    @Transactional(readOnly = true)
     public AuthProcessResponse<SignInResDTO> signIn(SignInDTO dto) {
         if((dto.getEmail() == null || dto.getEmail().isBlank()) && (dto.getPhone() == null || dto.getPhone().isBlank())) {
             throw new IllegalArgumentException("Email or phone must be provided");
         }
-        UserModel user = resolveUserByEmailOrPhone(dto);
-        if(!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+        SignInRow row = resolveSignInByEmailOrPhone(dto);
+        if(!passwordHasher.matches(dto.getPassword(), row.getPassword())) {
             throw new IllegalArgumentException("Contraseña incorrecta");
         }
+        passwordHasher.upgradeIfNeeded(row.getUserId(), dto.getPassword(), row.getPassword());
+        return toSignInResponse(row);
+    }
+
+    @Override
+    public AuthProcessResponse<SignInResDTO> refresh(String refreshToken) {
+        // Rotation: the token is claimed atomically before issuing a new pair, a replay loses the claim
+        Claims claims = Optional.ofNullable(refreshToken)
+                .flatMap(jwtUtil::consumeRefreshToken)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        UUID userId = UUID.fromString(claims.get("userId", String.class));
+        SignInRow row = userRepository.findSignInByUserId(userId)
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        return toSignInResponse(row);
+    }
 
+    @Override
+    public void signOut(String accessToken, String refreshToken) {
+        if (accessToken != null) jwtUtil.revoke(accessToken);
+        if (refreshToken != null) jwtUtil.revoke(refreshToken);
+    }
 
-        PeopleModel person = user.getPeople();
+    private static AuthProcessResponse<SignInResDTO> toSignInResponse(SignInRow row) {
+        RolUserModel role = new RolUserModel();
+        role.setId(row.getRoleId());
+        role.setName(row.getRoleName());
         SignInResDTO dtoRes = new SignInResDTO(
-                user.getEmail(),
-                user.getRolUser(),
-                person.getFirstName(),
-                person.getLastName(),
-                person.getId(),
-                user.getId(),
-                person.getChurch().getId()
+                row.getEmail(),
+                role,
+                row.getFirstName(),
+                row.getLastName(),
+                row.getPeopleId(),
+                row.getUserId(),
+                row.getChurchId(),
+                splitPermissions(row.getPermissions())
         );
 
-        if(person.getChurch() == null){
+        if(row.getChurchId() == null){
             return AuthProcessResponse.pending(AuthFlowPastorEnum.CREATION_CHURCH,dtoRes);
         }
 
@@ -125,20 +155,22 @@ public class AuthServiceImpl implements AuthService {
         );
     }
 
-    private UserModel resolveUserByEmailOrPhone(SignInDTO dto) {
+    private SignInRow resolveSignInByEmailOrPhone(SignInDTO dto) {
         if(dto.getEmail() != null && !dto.getEmail().isBlank()) {
-            // Usa findByEmailWithRelations para evitar N+1 al acceder a people y church
-            return userRepository.findByEmailWithRelations(dto.getEmail())
+            return userRepository.findSignInByEmail(dto.getEmail())
                     .orElseThrow(() -> new EntityNotFoundException("User not found by email: " + dto.getEmail()));
         } else if(dto.getPhone() != null && !dto.getPhone().isBlank()) {
-            // Usa findByPhoneWithRelations para evitar N+1 al acceder a people y church
-            return userRepository.findByPhoneWithRelations(dto.getPhone())
+            return userRepository.findSignInByPhone(dto.getPhone())
                     .orElseThrow(() -> new EntityNotFoundException("User not found by phone: " + dto.getPhone()));
         } else {
             throw new IllegalArgumentException("Email or phone must be provided");
         }
     }
 
+    private static List<String> splitPermissions(String permissions) {
+        return permissions == null || permissions.isEmpty() ? List.of() : List.of(permissions.split(","));
+    }
+
     @Override
     public String generateJwt(SignInResDTO dto, List<String> permissions) {
         return jwtUtil.generateToken(
@@ -149,8 +181,13 @@ public class AuthServiceImpl implements AuthService {
                 dto.getUserId(),
                 dto.getPeopleId(),
                 dto.getChurchId(),
-                permissions
+                permissionService.encode(permissions)
         );
     }
 
+    @Override
+    public String generateRefreshToken(SignInResDTO dto) {
+        return jwtUtil.generateRefreshToken(dto.getUserId());
+    }
+
 }
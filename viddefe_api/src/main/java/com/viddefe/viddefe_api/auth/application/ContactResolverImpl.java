@@ -0,0 +1,80 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserContactRow;
+import com.viddefe.viddefe_api.auth.contracts.ContactResolver;
+import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Resolución de contactos con caché corta en memoria.
+ *
+ * <p>Los fallos de caché de un lote se cargan juntos con {@link UserRepository#findContactsByPeopleIds},
+ * y las invitaciones/recordatorios repetidos a la misma persona no vuelven a la base de datos
+ * durante {@link #CONTACT_TTL}.</p>
+ */
+@Service
+public class ContactResolverImpl implements ContactResolver {
+
+    private static final Duration CONTACT_TTL = Duration.ofMinutes(5);
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final LoadingCache<UUID, String> contacts;
+
+    public ContactResolverImpl(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.contacts = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(CONTACT_TTL)
+                .recordStats()
+                .build(new CacheLoader<UUID, String>() {
+                    @Override
+                    public String load(UUID personId) {
+                        return loadAll(Set.of(personId)).get(personId);
+                    }
+
+                    @Override
+                    public Map<UUID, String> loadAll(Set<? extends UUID> personIds) {
+                        List<UserContactRow> rows = userRepository.findContactsByPeopleIds(List.copyOf(personIds));
+                        Map<UUID, String> loaded = new HashMap<>(rows.size());
+                        for (UserContactRow row : rows) {
+                            String contact = contactOf(row);
+                            if (contact != null) loaded.put(row.getPeopleId(), contact);
+                        }
+                        return loaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, contacts, "auth.contacts");
+    }
+
+    @Override
+    public String getContact(UUID personId) {
+        String contact = contacts.get(personId);
+        if (contact == null) {
+            throw new EntityNotFoundException("User not found for personId: " + personId);
+        }
+        return contact;
+    }
+
+    @Override
+    public Map<UUID, String> getContacts(Collection<UUID> personIds) {
+        if (personIds.isEmpty()) return Map.of();
+        return contacts.getAll(personIds);
+    }
+
+    private static String contactOf(UserContactRow row) {
+        return row.getEmail() != null && !row.getEmail().isBlank() ? row.getEmail() : row.getPhone();
+    }
+}
@@ -0,0 +1,145 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
+import com.viddefe.viddefe_api.common.exception.CustomExceptions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ejecuta el hash y la verificación de contraseñas en un pool propio y acotado.
+ *
+ * <p>Un pico de logins ya no consume CPU de los hilos de Tomcat: como mucho {@code threads}
+ * hashes corren a la vez y {@code queue-capacity} esperan. Con la cola llena se responde
+ * 503 de inmediato en lugar de encolar sin límite. El pool publica sus métricas
+ * (cola, activos, completados) como {@code auth.password-hashing}.</p>
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ExecutorService executor;
+    private final int threads;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:4}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.threads = threads;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "auth.password-hashing");
+    }
+
+    /**
+     * @throws CustomExceptions.ServiceUnavailableException if the hashing pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes a batch in parallel, keeping at most {@code threads} hashes of the batch in flight
+     * so concurrent logins still find room in the queue.
+     *
+     * @return hashes in the same order as {@code rawPasswords}
+     * @throws CustomExceptions.ServiceUnavailableException if the hashing pool is saturated
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        List<Future<String>> inFlight = new ArrayList<>(threads);
+        for (CharSequence rawPassword : rawPasswords) {
+            inFlight.add(submit(() -> passwordEncoder.encode(rawPassword)));
+            if (inFlight.size() == threads) {
+                inFlight.forEach(future -> encoded.add(await(future)));
+                inFlight.clear();
+            }
+        }
+        inFlight.forEach(future -> encoded.add(await(future)));
+        return encoded;
+    }
+
+    /**
+     * @throws CustomExceptions.ServiceUnavailableException if the hashing pool is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Re-hashea en segundo plano una contraseña ya verificada si su hash usa un algoritmo
+     * o coste anterior al configurado. Si el pool está lleno se omite: se reintentará en el próximo login.
+     */
+    public void upgradeIfNeeded(UUID userId, CharSequence rawPassword, String encodedPassword) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) return;
+        try {
+            executor.execute(() -> {
+                String upgraded = passwordEncoder.encode(rawPassword);
+                if (userRepository.updatePasswordHash(userId, encodedPassword, upgraded) == 1) {
+                    log.info("Password hash upgraded | userId={}", userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password hash upgrade skipped, hashing pool saturated | userId={}", userId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new CustomExceptions.ServiceUnavailableException("Authentication is busy, please retry");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomExceptions.ServiceUnavailableException("Authentication was interrupted, please retry");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
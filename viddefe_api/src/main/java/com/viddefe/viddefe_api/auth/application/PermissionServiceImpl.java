@@ -5,16 +5,52 @@ import com.viddefe.viddefe_api.auth.contracts.PermissionEnum;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
 import com.viddefe.viddefe_api.auth.domain.repository.PermissionRepository;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class PermissionServiceImpl implements PermissionService {
+    /**
+     * Key of the Postgres advisory lock that serializes bit index allocation across replicas.
+     */
+    private static final long BIT_INDEX_LOCK_KEY = 0x7065726d_62697473L;
+    /**
+     * A name missing from the map triggers a reload at most this often: permissions seeded by another
+     * replica are picked up, unknown names do not reach the database on every token.
+     */
+    private static final long RELOAD_ON_MISS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
     private final PermissionRepository permissionRepository;
+    private final LongSupplier nanoClock;
+    /**
+     * name -> bit index; loaded on first use, dropped after a seed commits and reloaded on a missing name.
+     */
+    private volatile BitIndexes bitIndexes;
+
+    @Autowired
+    public PermissionServiceImpl(PermissionRepository permissionRepository) {
+        this(permissionRepository, System::nanoTime);
+    }
+
+    PermissionServiceImpl(PermissionRepository permissionRepository, LongSupplier nanoClock) {
+        this.permissionRepository = permissionRepository;
+        this.nanoClock = nanoClock;
+    }
 
     @Override
     public List<PermissionModel> findAll() {
@@ -23,15 +59,35 @@ public class PermissionServiceImpl implements PermissionService {
 
 
     @Override
+    @Transactional
     public void seed(PermissionSeedRequest request) {
+        // Replicas starting together would otherwise read the same max and collide on the unique bit_index
+        permissionRepository.lockBitIndexAllocation(BIT_INDEX_LOCK_KEY);
+        int nextBitIndex = permissionRepository.findMaxBitIndex() + 1;
+        // Permissions stored before bit indexes existed get theirs in creation order
+        for (PermissionModel legacy : permissionRepository.findAllByBitIndexIsNullOrderByIdAsc()) {
+            legacy.setBitIndex(nextBitIndex++);
+        }
         for (PermissionEnum permission : request.permissions()) {
 
             boolean exists = permissionRepository.existsByName(permission.getName());
             if (exists) continue;
             PermissionModel model = new PermissionModel();
             model.setName(permission.getName());
+            model.setBitIndex(nextBitIndex++);
             permissionRepository.save(model);
         }
+        // Dropped after commit: a reload before it would cache the pre-seed map
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bitIndexes = null;
+                }
+            });
+        } else {
+            bitIndexes = null;
+        }
     }
 
     @Override
@@ -50,4 +106,47 @@ public class PermissionServiceImpl implements PermissionService {
     public List<PermissionModel> findByUserId(UUID userId) {
         return permissionRepository.findAllByUserId(userId);
     }
+
+    @Override
+    public PermissionBits encode(Collection<String> names) {
+        BitIndexes indexes = bitIndexes();
+        if (!indexes.byName().keySet().containsAll(names)) {
+            indexes = reloadIfStale(indexes);
+        }
+        BitSet bits = new BitSet();
+        for (String name : names) {
+            Integer bitIndex = indexes.byName().get(name);
+            if (bitIndex != null) bits.set(bitIndex);
+        }
+        return PermissionBits.of(bits);
+    }
+
+    @Override
+    public int bitIndexOf(String name) {
+        BitIndexes indexes = bitIndexes();
+        if (!indexes.byName().containsKey(name)) {
+            indexes = reloadIfStale(indexes);
+        }
+        return indexes.byName().getOrDefault(name, -1);
+    }
+
+    private BitIndexes bitIndexes() {
+        BitIndexes indexes = bitIndexes;
+        return indexes != null ? indexes : load();
+    }
+
+    private BitIndexes reloadIfStale(BitIndexes indexes) {
+        return nanoClock.getAsLong() - indexes.loadedAt() >= RELOAD_ON_MISS_INTERVAL_NANOS ? load() : indexes;
+    }
+
+    private BitIndexes load() {
+        Map<String, Integer> byName = permissionRepository.findAll().stream()
+                .filter(permission -> Objects.nonNull(permission.getBitIndex()))
+                .collect(Collectors.toUnmodifiableMap(PermissionModel::getName, PermissionModel::getBitIndex));
+        BitIndexes indexes = new BitIndexes(byName, nanoClock.getAsLong());
+        bitIndexes = indexes;
+        return indexes;
+    }
+
+    private record BitIndexes(Map<String, Integer> byName, long loadedAt) {}
 }
@@ -1,8 +1,10 @@
 package com.viddefe.viddefe_api.auth.contracts;
 
 
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.BulkInvitationResultDto;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.InvitationDto;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface AccountService {
@@ -12,4 +14,15 @@ public interface AccountService {
      * @param invitationDto The invitation details including email, role, and permissions.
      */
     void invite(InvitationDto invitationDto, UUID churchId);
+
+    /**
+     * Invites many people of the same church at once.
+     * Entries that cannot be invited (unknown person, person from another church, existing user,
+     * email or phone, unknown role or channel) are skipped and reported; the rest are created together.
+     *
+     * @param invitations the invitation details
+     * @param churchId    church of the inviting user
+     * @return how many users were created and which entries were skipped
+     */
+    BulkInvitationResultDto inviteAll(List<InvitationDto> invitations, UUID churchId);
 }
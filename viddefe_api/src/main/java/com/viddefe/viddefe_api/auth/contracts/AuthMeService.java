@@ -29,6 +29,7 @@ public interface AuthMeService {
      *
      * @param personId {@link UUID}
      * @return contact string {EMAIL or PHONE}
+     * @see ContactResolver#getContacts(java.util.Collection) to resolve many people at once
      */
-    String getContactByPersonId(UUID personId) throws InterruptedException;
+    String getContactByPersonId(UUID personId);
 }
@@ -45,5 +45,25 @@ public interface AuthService {
      * @return JWT token as String
      */
     String generateJwt(SignInResDTO dto, List<String> permissions);
+    /**
+     *
+     * @param dto
+     * @return signed refresh token as String
+     */
+    String generateRefreshToken(SignInResDTO dto);
+    /**
+     * Validates and revokes the refresh token (rotation) and reloads the user's current data,
+     * so the new access token carries up-to-date permissions.
+     * @param refreshToken
+     * @return AuthProcessResponse with SignInResDTO if successful
+     * @throws org.springframework.security.authentication.BadCredentialsException if the token is invalid or revoked
+     */
+    AuthProcessResponse<SignInResDTO> refresh(String refreshToken);
+    /**
+     * Revokes both tokens on every instance. Missing or invalid tokens are ignored.
+     * @param accessToken
+     * @param refreshToken
+     */
+    void signOut(String accessToken, String refreshToken);
 }
 
@@ -0,0 +1,27 @@
+package com.viddefe.viddefe_api.auth.contracts;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resolves the contact (email, or phone when there is no email) of the users behind a set of people.
+ * Results are cached for a short time, so consumers can resolve a whole batch of events with one query.
+ */
+public interface ContactResolver {
+
+    /**
+     * @param personId {@link UUID} of the person
+     * @return contact string {EMAIL or PHONE}
+     * @throws jakarta.persistence.EntityNotFoundException if the person has no user
+     */
+    String getContact(UUID personId);
+
+    /**
+     * Resolves the contacts of many people with at most one query.
+     *
+     * @param personIds {@link UUID}s of the people
+     * @return contact by personId; people without a user are not present in the map
+     */
+    Map<UUID, String> getContacts(Collection<UUID> personIds);
+}
@@ -3,7 +3,9 @@ package com.viddefe.viddefe_api.auth.contracts;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.PermissionSeedRequest;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
 import com.viddefe.viddefe_api.auth.domain.model.UserModel;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,4 +41,21 @@ public interface PermissionService {
      * @return
      */
     List<PermissionModel> findByUserId(UUID userId);
+
+    /**
+     * Encodes permission names as the bitset carried in the access token.
+     * Unknown names are ignored.
+     *
+     * @param names permission names
+     * @return the {@link PermissionBits} of the given permissions
+     */
+    PermissionBits encode(Collection<String> names);
+
+    /**
+     * Returns the stable bit index of a permission.
+     *
+     * @param name the name of the permission
+     * @return the bit index, or -1 if the permission does not exist
+     */
+    int bitIndexOf(String name);
 }
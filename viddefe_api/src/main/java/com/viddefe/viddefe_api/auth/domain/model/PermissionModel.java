@@ -12,4 +12,9 @@ public class PermissionModel {
     @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     private String name;
+    /**
+     * Stable position of the permission in the token bitset. Assigned once when seeded and never reused.
+     */
+    @Column(name = "bit_index", unique = true)
+    private Integer bitIndex;
 }
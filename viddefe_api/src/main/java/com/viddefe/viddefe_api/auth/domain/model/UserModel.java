@@ -9,7 +9,13 @@ import lombok.Setter;
 import java.util.List;
 import java.util.UUID;
 
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_users_email", columnList = "email"),
+                @Index(name = "idx_users_phone", columnList = "phone")
+        }
+)
 @Entity
 @Getter @Setter
 public class UserModel {
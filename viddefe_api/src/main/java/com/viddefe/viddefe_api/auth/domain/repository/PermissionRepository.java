@@ -17,6 +17,20 @@ public interface PermissionRepository extends JpaRepository<PermissionModel, Lon
 
     List<PermissionModel> findAllByNameIn(List<String> names);
 
+    /**
+     * Permissions created before bit indexes existed, in creation order.
+     */
+    List<PermissionModel> findAllByBitIndexIsNullOrderByIdAsc();
+
+    /**
+     * Takes a transaction-scoped Postgres advisory lock, released on commit or rollback.
+     */
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(:key)) AS allocation_lock", nativeQuery = true)
+    Integer lockBitIndexAllocation(@Param("key") long key);
+
+    @Query("SELECT COALESCE(MAX(p.bitIndex), -1) FROM PermissionModel p")
+    int findMaxBitIndex();
+
     /**
      * Find all permissions by user
      * @param user
@@ -1,10 +1,16 @@
 package com.viddefe.viddefe_api.auth.domain.repository;
 
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInRow;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserContactRow;
 import com.viddefe.viddefe_api.auth.domain.model.UserModel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,29 +39,68 @@ public interface UserRepository extends JpaRepository<UserModel, UUID> {
            "WHERE u.id = :userId")
     Optional<UserModel> findByIdWithPeopleAndChurch(@Param("userId") UUID userId);
 
+    String SIGN_IN_SELECT = """
+        SELECT u.id AS userId, u.email AS email, u.password AS password,
+               r.id AS roleId, r.name AS roleName,
+               p.id AS peopleId, p.first_name AS firstName, p.last_name AS lastName, p.church_id AS churchId,
+               COALESCE(STRING_AGG(pm.name, ',' ORDER BY pm.name), '') AS permissions
+        FROM users u
+        JOIN people p ON p.id = u.people_id
+        JOIN roles_user r ON r.id = u.role_id
+        LEFT JOIN user_permissions up ON up.user_id = u.id
+        LEFT JOIN permissions pm ON pm.id = up.permission_id
+        """;
+    String SIGN_IN_GROUP_BY = " GROUP BY u.id, r.id, p.id";
+
     /**
-     * Busca usuario por email con todas las relaciones necesarias para signIn.
-     * Evita N+1 en AuthServiceImpl.signIn()
+     * Datos de signIn (incluidos los permisos agregados) por email, en una sola consulta
+     * apoyada en {@code idx_users_email}.
      */
-    @Query("SELECT u FROM UserModel u " +
-           "JOIN FETCH u.people p " +
-           "LEFT JOIN FETCH p.church c " +
-           "JOIN FETCH u.rolUser " +
-           "LEFT JOIN FETCH p.state ps " +
-           "WHERE u.email = :email")
-    Optional<UserModel> findByEmailWithRelations(@Param("email") String email);
+    @Query(value = SIGN_IN_SELECT + "WHERE u.email = :email" + SIGN_IN_GROUP_BY, nativeQuery = true)
+    Optional<SignInRow> findSignInByEmail(@Param("email") String email);
 
     /**
-     * Busca usuario por teléfono con todas las relaciones necesarias para signIn.
-     * Evita N+1 en AuthServiceImpl.signIn()
+     * Datos de signIn (incluidos los permisos agregados) por teléfono, en una sola consulta
+     * apoyada en {@code idx_users_phone}.
      */
-    @Query("SELECT u FROM UserModel u " +
-           "JOIN FETCH u.people p " +
-           "LEFT JOIN FETCH p.church c " +
-           "JOIN FETCH u.rolUser " +
-           "LEFT JOIN FETCH p.state ps " +
-           "WHERE u.phone = :phone")
-    Optional<UserModel> findByPhoneWithRelations(@Param("phone") String phone);
+    @Query(value = SIGN_IN_SELECT + "WHERE u.phone = :phone" + SIGN_IN_GROUP_BY, nativeQuery = true)
+    Optional<SignInRow> findSignInByPhone(@Param("phone") String phone);
+
+    /**
+     * Datos de signIn por ID, para reemitir el token de acceso con los permisos actuales al refrescar.
+     */
+    @Query(value = SIGN_IN_SELECT + "WHERE u.id = :userId" + SIGN_IN_GROUP_BY, nativeQuery = true)
+    Optional<SignInRow> findSignInByUserId(@Param("userId") UUID userId);
 
     Optional<UserModel> findByPeopleId(UUID personId);
+
+    @Query("SELECT u.email FROM UserModel u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.phone FROM UserModel u WHERE u.phone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+
+    @Query("SELECT u.people.id FROM UserModel u WHERE u.people.id IN :peopleIds")
+    List<UUID> findPeopleIdsWithUser(@Param("peopleIds") Collection<UUID> peopleIds);
+
+    /**
+     * Contactos de varias personas en una sola consulta, sin cargar el usuario ni sus relaciones.
+     */
+    @Query("SELECT u.people.id AS peopleId, u.email AS email, u.phone AS phone " +
+           "FROM UserModel u " +
+           "WHERE u.people.id IN :peopleIds")
+    List<UserContactRow> findContactsByPeopleIds(@Param("peopleIds") Collection<UUID> peopleIds);
+
+    /**
+     * Reemplaza el hash de la contraseña solo si sigue siendo {@code currentHash},
+     * para no pisar un cambio de contraseña concurrente.
+     *
+     * @return filas actualizadas (0 o 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserModel u SET u.password = :newHash WHERE u.id = :userId AND u.password = :currentHash")
+    int updatePasswordHash(@Param("userId") UUID userId,
+                           @Param("currentHash") String currentHash,
+                           @Param("newHash") String newHash);
 }
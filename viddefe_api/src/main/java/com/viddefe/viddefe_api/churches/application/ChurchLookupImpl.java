@@ -17,6 +17,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChurchLookupImpl implements ChurchLookup {
     private final ChurchRepository churchRepository;
+    private static final int MAX_TREE_DEPTH = 32;
 
     @Override
     public ChurchModel getChurchById(java.util.UUID id) {
@@ -43,4 +44,13 @@ public class ChurchLookupImpl implements ChurchLookup {
     public EntityIdWithTotalPeople findChurchIdWithTotalPeopleByChurchId(UUID churchId) {
         return churchRepository.findChurchIdWithTotalPeopleByChurchId(churchId);
     }
+
+    /**
+     * @param churchId
+     * @return the church id and the ids of all its ancestors
+     */
+    @Override
+    public List<UUID> findAncestorPathIds(UUID churchId) {
+        return churchRepository.findAncestorPathIds(churchId, MAX_TREE_DEPTH);
+    }
 }
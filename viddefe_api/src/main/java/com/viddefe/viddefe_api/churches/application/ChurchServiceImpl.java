@@ -10,10 +10,12 @@ import com.viddefe.viddefe_api.churches.domain.repository.ChurchRepository;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDTO;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDetailedResDto;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchResDto;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchUpdatedEvent;
 import com.viddefe.viddefe_api.people.contracts.ChurchMembershipService;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class ChurchServiceImpl implements ChurchService {
     private final StatesCitiesService statesCitiesService;
     private final ChurchPastorService churchPastorService;
     private final ChurchMembershipService churchMembershipService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * Crear una iglesia raíz.
@@ -45,6 +48,7 @@ public class ChurchServiceImpl implements ChurchService {
                 dto.getCityId()
         );
         ChurchPastor churchPastor = churchPastorService.addPastorToChurch(pastorId, church);
+        applicationEventPublisher.publishEvent(new ChurchUpdatedEvent(church.getId(), null, null));
         ChurchResDto churchResDto = church.toDto();
         churchResDto.setPastor(churchPastor.getPastor().toDto());
         return churchResDto;
@@ -67,6 +71,7 @@ public class ChurchServiceImpl implements ChurchService {
         church = createAndPersistChurch(church, parentChurch, dto.getCityId());
 
         ChurchPastor churchPastor = churchPastorService.addPastorToChurch(pastorId, church);
+        applicationEventPublisher.publishEvent(new ChurchUpdatedEvent(church.getId(), parentChurchId, null));
 
         ChurchResDto churchResDto = church.toDto();
         churchResDto.setPastor(churchPastor.getPastor().toDto());
@@ -80,11 +85,16 @@ public class ChurchServiceImpl implements ChurchService {
         ChurchModel church = churchRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Iglesia no encontrada: " + id));
 
+        // La iglesia madre anterior ya no se puede obtener tras guardar
+        UUID previousParentChurchId = idOf(church.getParentChurch());
         dto.setId(id);
         UUID pastorId = resolvePastorId(dto, updaterPastorId);
         church.fromDto(dto);
         church = createAndPersistChurch(church, church.getParentChurch(), dto.getCityId());
         ChurchPastor churchPastor = churchPastorService.changeChurchPastor(pastorId,church);
+        applicationEventPublisher.publishEvent(
+                new ChurchUpdatedEvent(id, idOf(church.getParentChurch()), previousParentChurchId)
+        );
         ChurchResDto churchResDto = church.toDto();
         churchResDto.setPastor(churchPastor.getPastor().toDto());
         return churchResDto;
@@ -100,6 +110,7 @@ public class ChurchServiceImpl implements ChurchService {
         ChurchModel parentChurch = church.getParentChurch();
         churchPastorService.removePastorFromChurch(church);
         churchRepository.delete(church);
+        applicationEventPublisher.publishEvent(new ChurchUpdatedEvent(id, null, idOf(parentChurch)));
         if(parentChurch != null){
             churchMembershipService.transferToChurch(pastor, parentChurch);
         }
@@ -171,6 +182,10 @@ public class ChurchServiceImpl implements ChurchService {
     /**
      * Construye, persiste y asigna el pastor a una iglesia.
      */
+    private static UUID idOf(ChurchModel church) {
+        return church != null ? church.getId() : null;
+    }
+
     private ChurchModel createAndPersistChurch(
             ChurchModel childChurch,
             ChurchModel parentChurch,
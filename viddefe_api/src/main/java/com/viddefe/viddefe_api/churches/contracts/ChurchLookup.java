@@ -11,4 +11,9 @@ public interface ChurchLookup {
 
     List<EntityIdWithTotalPeople> findChildrenIdsWithTotalPeopleChurchIdsByChurchId(UUID churchId);
     EntityIdWithTotalPeople findChurchIdWithTotalPeopleByChurchId(UUID churchId);
+
+    /**
+     * @return the ids of the root and every ancestor down to the church itself, root first
+     */
+    List<UUID> findAncestorPathIds(UUID churchId);
 }
@@ -127,4 +127,23 @@ public interface ChurchRepository extends JpaRepository<ChurchModel, UUID> {
         GROUP BY c.id
     """)
     EntityIdWithTotalPeople findChurchIdWithTotalPeopleByChurchId(UUID churchId);
+
+    /**
+     * Ids of the church and all its ancestors, walking parent_church_id upwards; the root comes first.
+     */
+    @Query(value = """
+        WITH RECURSIVE path AS (
+            SELECT c.id, c.parent_church_id, 0 AS depth
+            FROM churches c
+            WHERE c.id = :churchId
+            UNION ALL
+            SELECT c.id, c.parent_church_id, p.depth + 1
+            FROM churches c
+            JOIN path p ON c.id = p.parent_church_id
+            WHERE p.depth < :maxDepth
+        )
+        SELECT id FROM path
+        ORDER BY depth DESC
+    """, nativeQuery = true)
+    List<UUID> findAncestorPathIds(UUID churchId, int maxDepth);
 }
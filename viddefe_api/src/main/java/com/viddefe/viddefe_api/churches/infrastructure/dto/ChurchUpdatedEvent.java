@@ -0,0 +1,16 @@
+package com.viddefe.viddefe_api.churches.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado cuando se crea una iglesia, cambian sus datos (incluido su pastor) o se elimina.
+ *
+ * <p>Lleva la iglesia madre antes y después del cambio: tras eliminar o mover una iglesia ya no
+ * se puede saber de qué árbol colgaba.</p>
+ *
+ * @param churchId               ID de la iglesia creada, modificada o eliminada
+ * @param parentChurchId         iglesia madre tras el cambio, {@code null} si es raíz o se eliminó
+ * @param previousParentChurchId iglesia madre antes del cambio, {@code null} si era raíz o es nueva
+ */
+public record ChurchUpdatedEvent(UUID churchId, UUID parentChurchId, UUID previousParentChurchId) {
+}
@@ -4,7 +4,7 @@ import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDTO;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDetailedResDto;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchResDto;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -23,7 +23,6 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChurchController {
     private final ChurchService churchService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ChurchResDto>> createChurch(@Valid @RequestBody ChurchDTO dto){;
@@ -33,9 +32,9 @@ public class ChurchController {
 
     @GetMapping("/mine")
     public ResponseEntity<ApiResponse<ChurchDetailedResDto>> getMyChurches(
-            @CookieValue("access_token") String jwt
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(jwt);
+        UUID churchId = user.churchId();
         ChurchDetailedResDto response = churchService.getChurchById(churchId);
         return new ResponseEntity<>(ApiResponse.ok(response), HttpStatus.OK);
     }
@@ -50,8 +49,8 @@ public class ChurchController {
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ChurchResDto>> updateChurch(@PathVariable UUID id,
                                                                   @Valid @RequestBody ChurchDTO dto,
-                                                                  @CookieValue("access_token") String jwt) {
-        UUID updaterPastorId = jwtUtil.getUserId(jwt);
+                                                                  AuthenticatedUser user) {
+        UUID updaterPastorId = user.userId();
         ChurchResDto response = churchService.updateChurch(id, dto, updaterPastorId);
         return new ResponseEntity<>(ApiResponse.ok(response), HttpStatus.OK);
     }
@@ -86,8 +85,8 @@ public class ChurchController {
     @PostMapping("/{churchId}/childrens")
     public ResponseEntity<ApiResponse<ChurchResDto>> addChildChurch(@PathVariable UUID churchId,
                                                                     @Valid @RequestBody ChurchDTO dto,
-                                                                    @CookieValue("access_token") String jwt){
-        UUID creatorPastorId = jwtUtil.getUserId(jwt);
+                                                                    AuthenticatedUser user){
+        UUID creatorPastorId = user.userId();
         ChurchResDto response = churchService.addChildChurch(churchId, dto, creatorPastorId);
         return new ResponseEntity<>(ApiResponse.created(response), HttpStatus.CREATED);
     }
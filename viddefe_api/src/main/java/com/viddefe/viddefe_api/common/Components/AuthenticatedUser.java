@@ -0,0 +1,48 @@
+package com.viddefe.viddefe_api.common.Components;
+
+import io.jsonwebtoken.Claims;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Usuario autenticado de la petición, construido una sola vez a partir de los claims verificados del JWT.
+ *
+ * <p>{@code JwtFilter} lo deja como principal del {@code SecurityContext} y los controladores lo reciben
+ * como parámetro, sin volver a leer la cookie ni el token.</p>
+ *
+ * @param userId      ID del usuario
+ * @param personId    ID de la persona asociada al usuario
+ * @param churchId    ID de la iglesia del usuario
+ * @param email       correo (subject del token)
+ * @param role        rol del usuario
+ * @param permissions permisos del claim {@link JwtUtil#PERMISSIONS_CLAIM}, ya decodificados
+ */
+public record AuthenticatedUser(
+        UUID userId,
+        UUID personId,
+        UUID churchId,
+        String email,
+        String role,
+        PermissionBits permissions
+) implements Principal {
+
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        return new AuthenticatedUser(
+                UUID.fromString(claims.get("userId", String.class)),
+                UUID.fromString(claims.get("personId", String.class)),
+                UUID.fromString(claims.get("churchId", String.class)),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                PermissionBits.decode(claims.get(JwtUtil.PERMISSIONS_CLAIM, String.class))
+        );
+    }
+
+    /**
+     * Keeps {@code Authentication#getName()} returning the email.
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+}
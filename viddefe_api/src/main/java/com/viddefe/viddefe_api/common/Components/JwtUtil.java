@@ -1,30 +1,82 @@
 package com.viddefe.viddefe_api.common.Components;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
-import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 
 import javax.crypto.SecretKey;
 
+/**
+ * Emisión y verificación de los JWT de acceso y de refresco.
+ *
+ * <p>Los tokens de acceso duran poco ({@code jwt.access-token-ttl}) y se renuevan con un token de refresco
+ * firmado ({@code jwt.refresh-token-ttl}) que se rota en cada uso. Las revocaciones (cierre de sesión,
+ * cambios de permisos) se comprueban contra {@link TokenRevocationList} sin salir de memoria.</p>
+ *
+ * <p>La clave y el parser se construyen una sola vez al arrancar. Los claims ya verificados se guardan
+ * en memoria por el hash SHA-256 del token hasta su expiración (como máximo {@link #MAX_CLAIMS_TTL}),
+ * junto con el {@link AuthenticatedUser} ya construido, así ni el filtro ni los controladores repiten
+ * la verificación HMAC ni el parseo de permisos.</p>
+ */
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret}")
-    private String SECRET;
-    private final long EXPIRATION = 86400000;
+    public static final String TOKEN_COOKIE = "access_token";
+    public static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+    /**
+     * Claim holding the user's permissions as a base64url bitset, see {@link PermissionBits}.
+     */
+    public static final String PERMISSIONS_CLAIM = "perms";
+
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final Duration MAX_CLAIMS_TTL = Duration.ofMinutes(5);
+    private static final long MAX_CACHED_TOKENS = 10_000;
 
-    private Key getKey(){
-        return  Keys.hmacShaKeyFor(SECRET.getBytes());
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+    private final TokenRevocationList revocationList;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+            @Value("${jwt.refresh-token-ttl:7d}") Duration refreshTokenTtl,
+            TokenRevocationList revocationList
+    ) {
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+        this.revocationList = revocationList;
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_TOKENS)
+                .expireAfter(Expiry.creating((String tokenHash, VerifiedToken verified) -> remainingLifetime(verified.claims())))
+                .build();
     }
 
     /**
@@ -35,7 +87,7 @@ public class JwtUtil {
      * @param lastName
      * @param userId
      * @param churchId
-     * @param permissions list of permissions {@link List<String>}
+     * @param permissions permissions of the user, encoded as a bitset {@link PermissionBits}
      * @return String JWT token
      */
     public String generateToken(
@@ -46,7 +98,7 @@ public class JwtUtil {
             UUID userId,
             UUID personId,
             UUID churchId,
-            List<String> permissions) {
+            PermissionBits permissions) {
         Map<String, String > claims = Map.of(
                 "role", role,
                 "first_name", firstName,
@@ -54,31 +106,133 @@ public class JwtUtil {
                 "userId", userId.toString(),
                 "personId", personId.toString(), // Placeholder for personId
                 "churchId", churchId.toString(), // Placeholder for churchId
-                "permissions", String.join(",", permissions)
+                PERMISSIONS_CLAIM, permissions.encode(),
+                TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE
         );
 
         return Jwts.builder()
                 .header()
                 .keyId(UUID.randomUUID().toString())
                 .and()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .claims(claims)
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .expiration(new Date(System.currentTimeMillis() + accessTokenTtl.toMillis()))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    /**
+     * Generate a refresh token. It only identifies the user: the access token issued with it is
+     * rebuilt from the current data, so permission changes apply on the next refresh.
+     */
+    public String generateRefreshToken(UUID userId) {
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userId.toString())
+                .claims(Map.of(
+                        "userId", userId.toString(),
+                        TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE
+                ))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + refreshTokenTtl.toMillis()))
+                .signWith(key, Jwts.SIG.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies a refresh token and returns its claims, or empty when it is invalid, revoked or not a refresh token.
+     */
+    public Optional<Claims> verifyRefreshToken(String token) {
+        return verify(token).filter(claims -> REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class)));
+    }
+
+    /**
+     * Verifies a refresh token and revokes it atomically, so each refresh token is used at most once
+     * even when the same token is replayed concurrently.
+     *
+     * @return the claims when this call consumed the token, empty if it is invalid or was already used
+     */
+    public Optional<Claims> consumeRefreshToken(String token) {
+        return verifyRefreshToken(token)
+                .filter(claims -> revocationList.claimToken(claims.getId(), claims.getExpiration()));
+    }
+
+    /**
+     * Revokes the token until it expires, on every instance. Invalid tokens are ignored.
+     */
+    public void revoke(String token) {
+        verify(token).ifPresent(claims -> revocationList.revokeToken(claims.getId(), claims.getExpiration()));
+    }
+
+    /**
+     * Revokes every access token issued so far to the user, e.g. after a permission change.
+     */
+    public void revokeUser(UUID userId) {
+        revocationList.revokeUser(userId);
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public Duration getRefreshTokenTtl() {
+        return refreshTokenTtl;
+    }
+
     public String extractEmail(String token) {
         return getClaims(token).getSubject();
     }
 
+    /**
+     * Returns the verified claims of the token, verifying the signature only on the first call.
+     * Revocation is checked on every call.
+     *
+     * @throws JwtException if the token is malformed, expired, revoked or not signed with our key
+     */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return verifiedToken(token).claims();
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or empty when it is not valid.
+     */
+    public Optional<Claims> verify(String token) {
+        try {
+            return Optional.of(getClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Verifies the token once and returns its authenticated user, or empty when it is not a valid access token.
+     */
+    public Optional<AuthenticatedUser> authenticate(String token) {
+        try {
+            return Optional.ofNullable(verifiedToken(token).principal());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the access token from the {@code Authorization: Bearer} header, falling back to the cookie.
+     */
+    public static String resolveToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (TOKEN_COOKIE.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
     }
 
     public UUID getUserId(String token) {
@@ -97,11 +251,56 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+
+    private VerifiedToken verifiedToken(String token) {
+        String tokenHash = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified == null) {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verified = new VerifiedToken(claims, isAccessToken(claims) ? AuthenticatedUser.fromClaims(claims) : null);
+            verifiedTokens.put(tokenHash, verified);
+        }
+        if (revocationList.isRevoked(verified.claims(), verified.principal() != null)) {
+            throw new JwtException("Token revoked");
+        }
+        return verified;
+    }
+
+    /**
+     * Tokens issued before the token type claim existed are access tokens.
+     */
+    private static boolean isAccessToken(Claims claims) {
+        return !REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    private static Duration remainingLifetime(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return MAX_CLAIMS_TTL;
+        }
+        Duration remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(MAX_CLAIMS_TTL) < 0 ? remaining : MAX_CLAIMS_TTL;
+    }
+
+    /**
+     * The raw token is never kept as a cache key.
+     */
+    private static String hash(String token) {
         try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @param principal the authenticated user, {@code null} for refresh tokens
+     */
+    private record VerifiedToken(Claims claims, AuthenticatedUser principal) {}
+}
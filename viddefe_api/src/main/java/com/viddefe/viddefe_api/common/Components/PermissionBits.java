@@ -0,0 +1,69 @@
+package com.viddefe.viddefe_api.common.Components;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * Conjunto inmutable de permisos codificado como bitset.
+ *
+ * <p>Cada permiso tiene un índice de bit estable (asignado al sembrarlo). En el token viaja
+ * como un único claim base64url en lugar de la lista de nombres, y comprobar un permiso es
+ * una prueba de bit.</p>
+ */
+public final class PermissionBits {
+
+    public static final PermissionBits EMPTY = new PermissionBits(new long[0]);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long[] words;
+
+    private PermissionBits(long[] words) {
+        this.words = words;
+    }
+
+    public static PermissionBits of(BitSet bits) {
+        return bits.isEmpty() ? EMPTY : new PermissionBits(bits.toLongArray());
+    }
+
+    /**
+     * @param encoded claim produced by {@link #encode()}; null or blank means no permissions
+     * @throws IllegalArgumentException if the value is not valid base64url
+     */
+    public static PermissionBits decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return EMPTY;
+        }
+        return of(BitSet.valueOf(DECODER.decode(encoded)));
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(BitSet.valueOf(words).toByteArray());
+    }
+
+    public boolean has(int bitIndex) {
+        int word = bitIndex >> 6;
+        return bitIndex >= 0 && word < words.length && (words[word] & (1L << bitIndex)) != 0;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PermissionBits other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return BitSet.valueOf(words).toString();
+    }
+}
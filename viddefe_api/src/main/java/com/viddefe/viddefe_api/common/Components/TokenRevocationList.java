@@ -0,0 +1,235 @@
+package com.viddefe.viddefe_api.common.Components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Lista de revocación de tokens compartida entre instancias.
+ *
+ * <p>La fuente de verdad son claves de Redis con TTL ({@code auth:revoked:*}); cada revocación se anuncia
+ * además por el canal {@link #CHANNEL} y todas las instancias la añaden a un {@link BloomFilter} en memoria.
+ * Así la comprobación por petición es una consulta al filtro, sin ir a Redis ni a la base de datos:
+ * solo un positivo (un token realmente revocado o un falso positivo) se confirma en Redis.</p>
+ *
+ * <p>Un filtro de Bloom no admite borrados, así que se mantienen dos generaciones que rotan cada
+ * {@code retention}: una entrada sigue visible al menos ese tiempo, que cubre la vida del token más largo.</p>
+ *
+ * <p>Las revocaciones por usuario no pasan por el filtro: solo afectan a tokens de acceso, así que viven
+ * lo que un token de acceso en un mapa en memoria con esa misma expiración, y se deciden sin ir a Redis.</p>
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MessageListener {
+    public static final String CHANNEL = "auth:token-revocations";
+
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final String TOKEN_ENTRY = "jti:";
+    private static final String USER_ENTRY = "user:";
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+    private final Duration userRevocationTtl;
+    private final long expectedRevocations;
+
+    private volatile Generations generations;
+    /**
+     * userId -> epoch second of the revocation; entries expire with the access tokens they affect.
+     */
+    private final Cache<String, Long> revokedUsers;
+
+    @Autowired
+    public TokenRevocationList(
+            StringRedisTemplate redisTemplate,
+            @Value("${jwt.refresh-token-ttl:7d}") Duration retention,
+            @Value("${jwt.access-token-ttl:15m}") Duration userRevocationTtl,
+            @Value("${jwt.revocation.expected-revocations:100000}") long expectedRevocations
+    ) {
+        this(redisTemplate, retention, userRevocationTtl, expectedRevocations, Ticker.systemTicker());
+    }
+
+    TokenRevocationList(
+            StringRedisTemplate redisTemplate,
+            Duration retention,
+            Duration userRevocationTtl,
+            long expectedRevocations,
+            Ticker ticker
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+        this.userRevocationTtl = userRevocationTtl;
+        this.expectedRevocations = expectedRevocations;
+        this.generations = new Generations(newFilter(), newFilter(), System.currentTimeMillis() + retention.toMillis());
+        this.revokedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(userRevocationTtl)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Revoca un token concreto hasta su expiración.
+     */
+    public void revokeToken(String tokenId, Date expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt.toInstant());
+        if (tokenId == null || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        publish(TOKEN_ENTRY + tokenId, "1", ttl);
+    }
+
+    /**
+     * Revoca el token solo si nadie lo había revocado antes, de forma atómica en Redis ({@code SET NX}).
+     * Así, de dos peticiones concurrentes con el mismo token de un solo uso, solo una lo consume.
+     *
+     * @return {@code true} si esta llamada lo revocó; {@code false} si ya estaba revocado o Redis no respondió
+     */
+    public boolean claimToken(String tokenId, Date expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt.toInstant());
+        if (tokenId == null || ttl.isNegative() || ttl.isZero()) {
+            return false;
+        }
+        String entry = TOKEN_ENTRY + tokenId;
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + entry, "1", ttl))) {
+                return false;
+            }
+            generations().current().add(entry);
+            redisTemplate.convertAndSend(CHANNEL, entry);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Could not claim token, rejecting | jti={}", tokenId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Revoca los tokens de acceso del usuario emitidos hasta ahora. Los que se emitan después
+     * (por ejemplo al refrescar con los permisos nuevos) siguen siendo válidos.
+     */
+    public void revokeUser(UUID userId) {
+        long revokedAt = Instant.now().getEpochSecond();
+        redisTemplate.opsForValue().set(KEY_PREFIX + USER_ENTRY + userId, Long.toString(revokedAt), userRevocationTtl);
+        rememberUser(userId.toString(), revokedAt);
+        redisTemplate.convertAndSend(CHANNEL, USER_ENTRY + userId + ":" + revokedAt);
+    }
+
+    /**
+     * @return {@code true} si el token o, para tokens de acceso, su usuario fueron revocados
+     */
+    public boolean isRevoked(Claims claims, boolean accessToken) {
+        if (accessToken && isUserRevoked(claims)) {
+            return true;
+        }
+        String tokenEntry = TOKEN_ENTRY + claims.getId();
+        if (claims.getId() == null || !mightContain(tokenEntry)) {
+            return false;
+        }
+        // Only bloom filter hits reach Redis. If it cannot answer, fail closed: it only affects hits
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenEntry));
+        } catch (RuntimeException e) {
+            log.warn("Could not confirm token revocation, rejecting | jti={}", claims.getId(), e);
+            return true;
+        }
+    }
+
+    /**
+     * Revocación anunciada por cualquier instancia, incluida esta.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String entry = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (entry.startsWith(USER_ENTRY)) {
+            int separator = entry.lastIndexOf(':');
+            rememberUser(entry.substring(USER_ENTRY.length(), separator), Long.parseLong(entry.substring(separator + 1)));
+        } else {
+            generations().current().add(entry);
+        }
+    }
+
+    /**
+     * Carga en el filtro las revocaciones aún vigentes, anunciadas antes de que arrancara esta instancia.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadExisting() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        int loaded = 0;
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String entry = keys.next().substring(KEY_PREFIX.length());
+                if (entry.startsWith(USER_ENTRY)) {
+                    String revokedAt = redisTemplate.opsForValue().get(KEY_PREFIX + entry);
+                    if (revokedAt != null) {
+                        rememberUser(entry.substring(USER_ENTRY.length()), Long.parseLong(revokedAt));
+                    }
+                } else {
+                    generations().current().add(entry);
+                }
+                loaded++;
+            }
+            log.info("Token revocations loaded | count={}", loaded);
+        } catch (RuntimeException e) {
+            log.warn("Could not load token revocations from Redis, loaded={}", loaded, e);
+        }
+    }
+
+    private void publish(String entry, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + entry, value, ttl);
+        // Local first so this instance rejects the token even if the pub/sub round trip is slow
+        generations().current().add(entry);
+        redisTemplate.convertAndSend(CHANNEL, entry);
+    }
+
+    private boolean isUserRevoked(Claims claims) {
+        Long revokedAt = revokedUsers.getIfPresent(String.valueOf(claims.get("userId", String.class)));
+        return revokedAt != null && claims.getIssuedAt() != null
+                && claims.getIssuedAt().toInstant().getEpochSecond() < revokedAt;
+    }
+
+    private void rememberUser(String userId, long revokedAt) {
+        revokedUsers.asMap().merge(userId, revokedAt, Math::max);
+    }
+
+    private boolean mightContain(String entry) {
+        Generations current = generations();
+        return current.current().mightContain(entry) || current.previous().mightContain(entry);
+    }
+
+    private Generations generations() {
+        Generations current = generations;
+        if (System.currentTimeMillis() < current.rotateAt()) {
+            return current;
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() >= generations.rotateAt()) {
+                generations = new Generations(newFilter(), generations.current(), System.currentTimeMillis() + retention.toMillis());
+            }
+            return generations;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    private record Generations(BloomFilter current, BloomFilter previous, long rotateAt) {}
+}
@@ -27,4 +27,11 @@ public class CustomExceptions {
             super(message);
         }
     }
+
+
+    public static class ServiceUnavailableException extends RuntimeException {
+        public ServiceUnavailableException(String message) {
+            super(message);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.viddefe.viddefe_api.common.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lease distribuido sobre Redis ({@code SET NX PX}), compartido por todas las réplicas.
+ *
+ * <p>Quien adquiere el lease recibe un token de propietario; solo ese token puede liberarlo antes de
+ * que caduque, de modo que una réplica lenta cuyo lease ya expiró no borra el de otra. Si Redis no
+ * responde el lease no se concede: es preferible saltarse una ejecución que duplicarla.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaseLock {
+
+    private static final String KEY_PREFIX = "lease:";
+    private static final RedisScript<Long> RELEASE_IF_OWNER = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return token de propietario, o vacío si otra réplica tiene el lease o Redis no está disponible
+     */
+    public Optional<String> tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            boolean acquired = Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl));
+            return acquired ? Optional.of(token) : Optional.empty();
+        } catch (RuntimeException e) {
+            log.warn("Could not acquire lease, skipping | name={}", name, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Libera el lease si sigue perteneciendo a {@code token}; si ya caducó no hace nada.
+     */
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_IF_OWNER, List.of(KEY_PREFIX + name), token);
+        } catch (RuntimeException e) {
+            log.warn("Could not release lease, it will expire on its own | name={}", name, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.viddefe.viddefe_api.common.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Ejecuta un job programado repartido en shards entre las réplicas, sin que dos réplicas procesen
+ * el mismo shard en el mismo periodo.
+ *
+ * <p>Cada shard se protege con un {@link LeaseLock}. Tras procesarlo el lease no se libera: se deja
+ * caducar, así una réplica que despierte más tarde en el mismo periodo no lo repite. Si el shard
+ * falla sí se libera, para que la siguiente ejecución lo reintente. Cada réplica empieza por un shard
+ * aleatorio, de modo que réplicas que despiertan a la vez se reparten los shards en lugar de competir
+ * por el primero.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardedJobRunner {
+
+    private final LeaseLock leaseLock;
+
+    /**
+     * @param lease duración del lease de cada shard; debe ser algo menor que el periodo del job
+     * @return número de shards que procesó esta réplica
+     */
+    public int run(String job, int shards, Duration lease, IntConsumer shardTask) {
+        int processed = 0;
+        int first = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            int shard = (first + i) % shards;
+            String name = "jobs:" + job + ":shard:" + shard;
+            Optional<String> token = leaseLock.tryAcquire(name, lease);
+            if (token.isEmpty()) {
+                continue;
+            }
+            try {
+                shardTask.accept(shard);
+                processed++;
+            } catch (RuntimeException e) {
+                log.error("Scheduled job shard failed | job={} shard={}", job, shard, e);
+                leaseLock.release(name, token.get());
+            }
+        }
+        log.debug("Scheduled job run | job={} shards={} processed={}", job, shards, processed);
+        return processed;
+    }
+
+    /**
+     * Shard estable de {@code id}: la misma iglesia cae siempre en el mismo shard.
+     */
+    public static int shardOf(UUID id, int shards) {
+        return Math.floorMod(id.hashCode(), shards);
+    }
+}
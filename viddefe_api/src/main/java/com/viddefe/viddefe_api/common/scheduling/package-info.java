@@ -0,0 +1,4 @@
+@NamedInterface("scheduling")
+package com.viddefe.viddefe_api.common.scheduling;
+
+import org.springframework.modulith.NamedInterface;
@@ -1,13 +1,12 @@
 package com.viddefe.viddefe_api.config.Filters;
 
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.Components.JwtUtil;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.http.HttpMethod;
 
 import jakarta.servlet.FilterChain;
@@ -23,22 +22,13 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
 
-    private static final String TOKEN_COOKIE = "access_token";
-
-    private static final List<String> PUBLIC_PATHS = List.of(
-            "/error",
-            "/auth"
-    );
-
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-
         if (HttpMethod.OPTIONS.matches(request.getMethod())) {
             return true;
         }
 
-        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
+        return PublicPaths.isPublic(request);
     }
 
     @Override
@@ -47,51 +37,21 @@ public class JwtFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws IOException, jakarta.servlet.ServletException {
 
-        String token = resolveToken(request);
-
-        if (token != null && jwtUtil.isTokenValid(token)) {
-            Claims claims = jwtUtil.getClaims(token);
-
-            String email = claims.getSubject();
-
-            List<String> permissions = claims.get("permissions", String.class).split(",").length == 0
-                    ? null
-                    : List.of(claims.get("permissions", String.class).split(","));
-
-            var authorities = permissions == null
-                    ? List.<SimpleGrantedAuthority>of()
-                    : permissions.stream()
-                    .map(SimpleGrantedAuthority::new)
-                    .toList();
-
-            var authentication = new UsernamePasswordAuthenticationToken(
-                    email,
-                    null,
-                    authorities
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        String token = JwtUtil.resolveToken(request);
+
+        if (token != null) {
+            // The principal is built once per token and cached by JwtUtil. Permissions are checked
+            // against its bitset by the PermissionEvaluator, so no GrantedAuthority is allocated per request
+            jwtUtil.authenticate(token).ifPresent(user -> {
+                var authentication = new UsernamePasswordAuthenticationToken(
+                        user,
+                        null,
+                        List.of()
+                );
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
     }
-
-    private String resolveToken(HttpServletRequest request) {
-        // Authorization header
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            return authHeader.substring(7);
-        }
-
-        // Cookie fallback
-        if (request.getCookies() != null) {
-            for (var cookie : request.getCookies()) {
-                if (TOKEN_COOKIE.equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-
-        return null;
-    }
 }
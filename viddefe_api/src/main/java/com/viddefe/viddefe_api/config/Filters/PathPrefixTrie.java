@@ -0,0 +1,79 @@
+package com.viddefe.viddefe_api.config.Filters;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie inmutable de prefijos de ruta, compilado una sola vez al arrancar.
+ *
+ * <p>Compara por segmentos: el prefijo {@code /auth} cubre {@code /auth} y {@code /auth/me}, pero no
+ * {@code /authors}. Cada consulta recorre la ruta una vez, sin crear substrings ni streams, con un coste
+ * proporcional al número de segmentos y no al número de prefijos registrados.</p>
+ */
+public final class PathPrefixTrie {
+
+    private final Node root;
+
+    private PathPrefixTrie(Node root) {
+        this.root = root;
+    }
+
+    public static PathPrefixTrie of(String... prefixes) {
+        Node root = new Node();
+        for (String prefix : prefixes) {
+            Node node = root;
+            for (String segment : prefix.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            node.terminal = true;
+        }
+        return new PathPrefixTrie(root);
+    }
+
+    /**
+     * @return {@code true} si {@code path} es uno de los prefijos o está por debajo de alguno
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        int length = path.length();
+        int start = 0;
+        while (!node.terminal) {
+            while (start < length && path.charAt(start) == '/') start++;
+            if (start == length) {
+                return false;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) end = length;
+            node = node.child(path, start, end);
+            if (node == null) {
+                return false;
+            }
+            start = end;
+        }
+        return true;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+
+        /**
+         * Children are few per node, so a linear scan avoids allocating the segment string.
+         */
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (Map.Entry<String, Node> child : children.entrySet()) {
+                String segment = child.getKey();
+                if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                    return child.getValue();
+                }
+            }
+            return null;
+        }
+    }
+}
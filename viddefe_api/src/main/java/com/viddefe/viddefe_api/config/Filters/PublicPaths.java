@@ -0,0 +1,43 @@
+package com.viddefe.viddefe_api.config.Filters;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Rutas que no requieren token, compartidas por {@link JwtFilter} y {@code SecurityConfig}.
+ */
+public final class PublicPaths {
+
+    /**
+     * Públicas para cualquier método: el filtro JWT no resuelve token en ellas.
+     */
+    private static final PathPrefixTrie ANY_METHOD = PathPrefixTrie.of(
+            "/error",
+            "/auth"
+    );
+
+    /**
+     * GET públicos de solo lectura y cacheables (datos geográficos). Se sirven por una cadena de
+     * seguridad propia, sin contexto de seguridad ni autorización.
+     */
+    private static final PathPrefixTrie CACHEABLE_GETS = PathPrefixTrie.of(
+            "/states"
+    );
+
+    private PublicPaths() {
+    }
+
+    public static boolean isPublic(HttpServletRequest request) {
+        return ANY_METHOD.matches(path(request)) || isCacheableGet(request);
+    }
+
+    public static boolean isCacheableGet(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) && CACHEABLE_GETS.matches(path(request));
+    }
+
+    private static String path(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath == null || contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+}
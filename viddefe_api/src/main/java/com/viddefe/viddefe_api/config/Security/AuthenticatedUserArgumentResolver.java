@@ -0,0 +1,55 @@
+package com.viddefe.viddefe_api.config.Security;
+
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
+import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Inyecta el {@link AuthenticatedUser} de la petición en los parámetros de los controladores.
+ *
+ * <p>En rutas protegidas lo toma del {@code SecurityContext} que dejó {@code JwtFilter}. En rutas públicas
+ * (p. ej. {@code /auth/**}, donde el filtro no corre) verifica el token de la petición a través de
+ * {@link JwtUtil}, que lo sirve desde su caché si ya fue verificado.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthenticatedUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public AuthenticatedUser resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory
+    ) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        String token = request == null ? null : JwtUtil.resolveToken(request);
+        if (token == null) {
+            throw new AuthenticationCredentialsNotFoundException("Missing access token");
+        }
+        return jwtUtil.authenticate(token)
+                .orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Invalid access token"));
+    }
+}
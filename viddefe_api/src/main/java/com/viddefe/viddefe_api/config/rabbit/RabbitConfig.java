@@ -2,12 +2,16 @@ package com.viddefe.viddefe_api.config.rabbit;
 
 import com.viddefe.viddefe_api.notifications.common.NotificationTypeEnum;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class RabbitConfig {
 
@@ -30,6 +34,33 @@ public class RabbitConfig {
         return template;
     }
 
+    /* ===============================
+     *  Batch consumers
+     * =============================== */
+
+    /**
+     * Contenedor para listeners por lotes: entrega hasta {@code batch-size} mensajes por llamada,
+     * esperando como mucho {@code receive-timeout} a que el lote se llene, con un prefetch que
+     * mantiene el siguiente lote ya en camino.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            Jackson2JsonMessageConverter converter,
+            @Value("${notifications.consumer.batch-size:50}") int batchSize,
+            @Value("${notifications.consumer.receive-timeout:500ms}") Duration receiveTimeout
+    ) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(converter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize * 2);
+        factory.setReceiveTimeout(receiveTimeout.toMillis());
+        return factory;
+    }
+
     /* ===============================
      *  Exchange
      * =============================== */
@@ -78,6 +109,11 @@ public class RabbitConfig {
                 .build();
     }
 
+    @Bean
+    public Queue whatsappDeadLetterQueue() {
+        return QueueBuilder.durable(RabbitQueues.WHATSAPP_DEAD_LETTER_QUEUE).build();
+    }
+
     @Bean
     public Queue attendanceQualityQueue() {
         return QueueBuilder
@@ -13,6 +13,12 @@ public final class RabbitQueues {
     public static final String PASSWORD_QUEUE = "notifications.password.queue";
     public static final String MINISTRY_QUEUE = "notifications.ministry.queue";
 
+    /**
+     * WhatsApp messages that exhausted their retries or were rejected by the Graph API.
+     * Published through the default exchange with the queue name as routing key.
+     */
+    public static final String WHATSAPP_DEAD_LETTER_QUEUE = "notifications.whatsapp.dlq";
+
     /* ===============================
      * Attendance qualification
      * =============================== */
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.viddefe.viddefe_api.common.Components.TokenRevocationList;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -21,6 +24,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * - Conexión a Redis (Lettuce)
  * - ObjectMapper exclusivo para Redis serialization (con polymorphic typing)
  * - RedisTemplate configurado con serializers específicos
+ * - Suscripciones pub/sub (revocación de tokens)
  *
  * Nota: El ObjectMapper global para Spring MVC está en JacksonConfig.
  * Este ObjectMapper solo se usa dentro de RedisTemplate.
@@ -102,4 +106,21 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Contenedor de suscripciones pub/sub.
+     *
+     * Cada instancia escucha las revocaciones de tokens anunciadas por cualquiera de ellas
+     * y las añade a su filtro en memoria.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenRevocationList tokenRevocationList
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationList, new ChannelTopic(TokenRevocationList.CHANNEL));
+        return container;
+    }
 }
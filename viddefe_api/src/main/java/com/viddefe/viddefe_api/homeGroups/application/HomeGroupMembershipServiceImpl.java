@@ -6,11 +6,13 @@ import com.viddefe.viddefe_api.homeGroups.domain.model.HomeGroupsModel;
 import com.viddefe.viddefe_api.homeGroups.domain.model.HomeGroupsPeopleMembers;
 import com.viddefe.viddefe_api.homeGroups.domain.model.serializable.HomeGroupPeopleMembersId;
 import com.viddefe.viddefe_api.homeGroups.domain.repository.HomeGroupMembersRepository;
+import com.viddefe.viddefe_api.homeGroups.infrastructure.dto.HomeGroupMembershipChangedEvent;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleResDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -23,6 +25,7 @@ public class HomeGroupMembershipServiceImpl implements HomeGroupMemberShipServic
     private final HomeGroupMembersRepository homeGroupMembersRepository;
     private final HomeGroupReader homeGroupReader;
     private final PeopleReader peopleReader;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private void verifyMembershipExistence(HomeGroupPeopleMembersId membershipId) {
         boolean exists = homeGroupMembersRepository.existsById(membershipId);
         if (!exists) return;
@@ -45,6 +48,9 @@ public class HomeGroupMembershipServiceImpl implements HomeGroupMemberShipServic
                 .people(person)
                 .build();
         homeGroupMembersRepository.save(memberShip);
+        applicationEventPublisher.publishEvent(
+                new HomeGroupMembershipChangedEvent(homeGroupId, homeGroup.getChurch().getId())
+        );
         return person.toDto();
     }
 
@@ -59,6 +65,9 @@ public class HomeGroupMembershipServiceImpl implements HomeGroupMemberShipServic
             throw  new EntityNotFoundException("Miembro no encontrado en el grupo");
         }
         homeGroupMembersRepository.deleteById(memberId);
+        applicationEventPublisher.publishEvent(
+                new HomeGroupMembershipChangedEvent(homeGroupId, homeGroupReader.findById(homeGroupId).getChurch().getId())
+        );
     }
 
     @Override
@@ -0,0 +1,12 @@
+package com.viddefe.viddefe_api.homeGroups.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado cuando una persona entra o sale de un grupo.
+ *
+ * @param homeGroupId ID del grupo cuyo número de miembros cambió
+ * @param churchId    iglesia dueña del grupo
+ */
+public record HomeGroupMembershipChangedEvent(UUID homeGroupId, UUID churchId) {
+}
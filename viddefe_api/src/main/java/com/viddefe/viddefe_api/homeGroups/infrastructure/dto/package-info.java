@@ -0,0 +1,4 @@
+@NamedInterface("dto")
+package com.viddefe.viddefe_api.homeGroups.infrastructure.dto;
+
+import org.springframework.modulith.NamedInterface;
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.viddefe.viddefe_api.homeGroups.infrastructure.web;
 
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchResDto;
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import com.viddefe.viddefe_api.homeGroups.contracts.HomeGroupService;
 import com.viddefe.viddefe_api.homeGroups.contracts.RolesPeopleStrategiesService;
@@ -25,14 +25,13 @@ import java.util.UUID;
 public class HomeGroupsController {
     private final HomeGroupService homeGroupService;
     private final RolesPeopleStrategiesService rolesPeopleStrategiesService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping
     public ResponseEntity<ApiResponse<HomeGroupsDTO>> createHomeGroup(
             @Valid @RequestBody CreateHomeGroupsDto dto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
         HomeGroupsDTO createdGroup = homeGroupService.createHomeGroup(dto,churchId);
         return new ResponseEntity<>(ApiResponse.created(createdGroup), HttpStatus.CREATED);
     }
@@ -57,22 +56,22 @@ public class HomeGroupsController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<HomeGroupsDTO>>> getHomeGroups(
             Pageable pageable,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
         Page<HomeGroupsDTO> groups = homeGroupService.getHomeGroups(pageable, churchId);
         return ResponseEntity.ok(ApiResponse.ok(groups));
     }
 
     @GetMapping(value = "/nearby")
     public ResponseEntity<ApiResponse<List<HomeGroupsDTO>>> getChildChurchesByPositionInMap(
-            @CookieValue("access_token") String accessToken,
+            AuthenticatedUser user,
             @RequestParam BigDecimal southLat,
             @RequestParam BigDecimal westLng,
             @RequestParam BigDecimal northLat,
             @RequestParam BigDecimal eastLng
     ){
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
 
         List<HomeGroupsDTO> response = homeGroupService.getHomeGroupsByPositionInMap(
                 churchId,
@@ -112,9 +111,9 @@ public class HomeGroupsController {
 
     @GetMapping("/mine")
     public ResponseEntity<ApiResponse<HomeGroupsDetailDto >> getMyHomeGroup(
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID personId = jwtUtil.getPersonId(accessToken);
+        UUID personId = user.personId();
         HomeGroupsDetailDto myGroup = homeGroupService.getHomeGroupByIntegrantId(personId);
         return ResponseEntity.ok(ApiResponse.ok(myGroup));
     }
@@ -1,6 +1,6 @@
 package com.viddefe.viddefe_api.homeGroups.infrastructure.web;
 
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import com.viddefe.viddefe_api.homeGroups.contracts.RolesStrategiesService;
 import com.viddefe.viddefe_api.homeGroups.contracts.StrategyService;
@@ -23,14 +23,13 @@ public class StrategiesController {
 
     private final StrategyService strategyService;
     private final RolesStrategiesService rolesStrategiesService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping
     public ResponseEntity<ApiResponse<StrategyDto>> create(
             @Valid @RequestBody StrategyDto strategyDto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
         StrategyDto created = strategyService.create(strategyDto, churchId);
         return ResponseEntity.ok(ApiResponse.created(created));
     }
@@ -39,9 +38,9 @@ public class StrategiesController {
     public ResponseEntity<ApiResponse<StrategyDto>> update(
             @PathVariable UUID strategyId,
             @Valid @RequestBody StrategyDto strategyDto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
+        UUID churchId = user.churchId();
         StrategyDto updated = strategyService.update(strategyDto, churchId, strategyId);
         return ResponseEntity.ok(ApiResponse.ok(updated));
     }
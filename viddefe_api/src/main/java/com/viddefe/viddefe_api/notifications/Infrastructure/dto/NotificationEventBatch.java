@@ -0,0 +1,12 @@
+package com.viddefe.viddefe_api.notifications.Infrastructure.dto;
+
+import java.util.List;
+
+/**
+ * Lote de notificaciones publicado como un solo evento de aplicación.
+ * Se envía a RabbitMQ tras el commit, en un único canal.
+ *
+ * @param events notificaciones del lote
+ */
+public record NotificationEventBatch(List<? extends NotificationEvent> events) {
+}
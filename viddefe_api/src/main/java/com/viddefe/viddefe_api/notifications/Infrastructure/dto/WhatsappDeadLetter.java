@@ -0,0 +1,22 @@
+package com.viddefe.viddefe_api.notifications.Infrastructure.dto;
+
+import java.time.Instant;
+
+/**
+ * Mensaje de WhatsApp que no se pudo entregar, publicado en
+ * {@link com.viddefe.viddefe_api.config.rabbit.RabbitQueues#WHATSAPP_DEAD_LETTER_QUEUE}.
+ *
+ * @param to       número de destino
+ * @param message  texto ya renderizado
+ * @param attempts intentos realizados
+ * @param error    causa del último fallo
+ * @param failedAt momento del último intento
+ */
+public record WhatsappDeadLetter(
+        String to,
+        String message,
+        int attempts,
+        String error,
+        Instant failedAt
+) {
+}
@@ -14,6 +14,8 @@ import org.springframework.stereotype.Service;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class SmtpEmailService implements Notificator {
@@ -28,7 +30,7 @@ public class SmtpEmailService implements Notificator {
 
     @Override
     @Async
-    public void send(@Valid NotificationDto dto) {
+    public CompletableFuture<Void> send(@Valid NotificationDto dto) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper =
@@ -44,6 +46,7 @@ public class SmtpEmailService implements Notificator {
             helper.setText(html, true);
 
             mailSender.send(message);
+            return CompletableFuture.completedFuture(null);
 
         } catch (MessagingException e) {
             throw new IllegalStateException("Failed to send email", e);
@@ -1,30 +1,33 @@
 package com.viddefe.viddefe_api.notifications.Infrastructure.whatsapp;
 
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationDto;
-import com.viddefe.viddefe_api.notifications.application.WhatsappClient;
+import com.viddefe.viddefe_api.notifications.application.WhatsappDeliveryEngine;
 import com.viddefe.viddefe_api.notifications.common.ResolverMessage;
 import com.viddefe.viddefe_api.notifications.common.Channels;
 import com.viddefe.viddefe_api.notifications.contracts.Notificator;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class WhatsappNotifierService implements Notificator {
-    private final WhatsappClient whatsappClient;
+    private final WhatsappDeliveryEngine whatsappDeliveryEngine;
 
     @Override
     public Channels channel() {
         return Channels.WHATSAPP;
     }
 
-    @Async
+    /**
+     * Hands the message to {@link WhatsappDeliveryEngine}, which sends it on its own pool with rate limiting and retries.
+     */
     @Override
-    public void send(@Valid NotificationDto notificationDto) {
+    public CompletableFuture<Void> send(@Valid NotificationDto notificationDto) {
         String message = ResolverMessage.resolveMessage(notificationDto.getTemplate(), notificationDto.getVariables());
-        whatsappClient.sendTextMessage(
+        return whatsappDeliveryEngine.submit(
                 notificationDto.getTo(),
                 message
         );
@@ -1,6 +1,6 @@
 package com.viddefe.viddefe_api.notifications.application;
 
-import com.viddefe.viddefe_api.auth.contracts.AuthMeService;
+import com.viddefe.viddefe_api.auth.contracts.ContactResolver;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationDto;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
 import com.viddefe.viddefe_api.notifications.Infrastructure.factory.NotificatorFactory;
@@ -8,16 +8,21 @@ import com.viddefe.viddefe_api.notifications.common.Channels;
 import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
 import com.viddefe.viddefe_api.notifications.contracts.Notificator;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
-import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleResDto;
-import com.viddefe.viddefe_api.worship_meetings.contracts.MinistryFunctionReader;
+import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MinistryFunctionReminderSentWriter;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.MinistryFunction;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryReminderKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -25,69 +30,105 @@ import java.time.Instant;
 public class NotificationConsumer {
 
     private final PeopleReader peopleReader;
-    private final AuthMeService authMeService;
+    private final ContactResolver contactResolver;
     private final NotificatorFactory notificatorFactory;
-    private final MinistryFunctionReader ministryFunctionReader;
     private final MinistryFunctionReminderSentWriter ministryFunctionReminderSentWriter;
 
+    /**
+     * Lote de recordatorios ministeriales: una consulta de personas, envíos despachados a los
+     * notificadores (que entregan en su propio pool) y un único UPDATE de recordatorios enviados.
+     *
+     * <p>Solo se marcan los recordatorios entregados, cuando termina el último envío del lote: uno que acaba
+     * en la cola de mensajes muertos queda pendiente y la siguiente ejecución del job lo vuelve a intentar.
+     * Ni un evento que falla ni un fallo al marcar relanzan el lote: reencolarlo reenviaría los ya entregados.</p>
+     */
     @RabbitListener(
             queues = RabbitQueues.MINISTRY_QUEUE,
+            containerFactory = "batchListenerContainerFactory",
             concurrency = "1-5"
     )
-    public void consumeMinistry(NotificationEvent event) {
+    public void consumeMinistry(List<NotificationEvent> events) {
 
-        log.info("Starting MINISTRY notification processing");
-        System.out.println("MINISTRY NOTIFICATION PROCESSING");
-        printDataEvent(event);
+        log.info("Starting MINISTRY notification batch | size={}", events.size());
+        events.forEach(this::printDataEvent);
 
-        PeopleResDto person =
-                peopleReader.getPeopleById(event.getPersonId()).toDto();
+        Map<UUID, String> phones = peopleReader.getPeopleByIds(personIds(events)).stream()
+                .filter(person -> person.getPhone() != null)
+                .collect(Collectors.toMap(PeopleModel::getId, PeopleModel::getPhone));
 
-        sendNotification(person.getPhone(), event);
+        List<CompletableFuture<MinistryReminderKey>> deliveries = new ArrayList<>(events.size());
+        for (NotificationEvent event : events) {
+            MinistryReminderKey key = new MinistryReminderKey(event.getMeetingId(), event.getPersonId());
+            deliveries.add(dispatch(phones.get(event.getPersonId()), event)
+                    .thenApply(delivered -> key)
+                    .exceptionally(e -> null));
+        }
 
-        handleMinistryFunctionReminder(event);
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new))
+                .thenRun(() -> markDelivered(deliveries));
 
-        log.info("MINISTRY notification sent successfully at {}", Instant.now());
+        log.info("MINISTRY notification batch dispatched | size={}", events.size());
     }
 
     @RabbitListener(
             queues = RabbitQueues.ACCOUNT_QUEUE,
+            containerFactory = "batchListenerContainerFactory",
             concurrency = "1-5"
     )
-    public void consumeAccount(NotificationEvent event) throws InterruptedException {
-
-        log.info("Starting ACCOUNT notification processing");
+    public void consumeAccount(List<NotificationEvent> events) {
 
-        printDataEvent(event);
+        log.info("Starting ACCOUNT notification batch | size={}", events.size());
+        events.forEach(this::printDataEvent);
 
-        String contact =
-                authMeService.getContactByPersonId(event.getPersonId());
+        Map<UUID, String> contacts = contactResolver.getContacts(personIds(events));
 
-        sendNotification(contact, event);
+        events.forEach(event -> dispatch(contacts.get(event.getPersonId()), event));
 
-        log.info("ACCOUNT notification sent successfully at {}", Instant.now());
+        log.info("ACCOUNT notification batch dispatched | size={}", events.size());
     }
 
-    private void sendNotification(String to, NotificationEvent event) {
-
-        Notificator notificator =
-                notificatorFactory.get(event.getChannels());
-
-        NotificationDto dto = resolveNotificationDto(to, event);
-
-        notificator.send(dto);
+    /**
+     * Marca con un solo UPDATE los recordatorios entregados. Corre en el hilo que completó el último envío,
+     * fuera del listener, y un fallo solo se registra: los mensajes ya se entregaron.
+     */
+    private void markDelivered(List<CompletableFuture<MinistryReminderKey>> deliveries) {
+        List<MinistryReminderKey> delivered = deliveries.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+        try {
+            int marked = ministryFunctionReminderSentWriter.writeMinistryFunctionRemindersSent(delivered);
+            log.info("MINISTRY reminders delivered | delivered={} failed={} marked={}",
+                    delivered.size(), deliveries.size() - delivered.size(), marked);
+        } catch (RuntimeException e) {
+            log.error("Could not mark delivered MINISTRY reminders as sent | delivered={}", delivered.size(), e);
+        }
     }
 
-    private void handleMinistryFunctionReminder(NotificationEvent event) {
-
-        MinistryFunction ministryFunction =
-                ministryFunctionReader.getByPeopleIdAndMeetingId(
-                        event.getPersonId(),
-                        event.getMeetingId()
-                );
+    /**
+     * @return completes when the notification was delivered, exceptionally if it was not
+     */
+    private CompletableFuture<Void> dispatch(String to, NotificationEvent event) {
+        if (to == null || to.isBlank()) {
+            log.warn("Notification skipped, no contact | personId={} channel={}", event.getPersonId(), event.getChannels());
+            return CompletableFuture.failedFuture(new IllegalStateException("No contact for person " + event.getPersonId()));
+        }
+        try {
+            Notificator notificator =
+                    notificatorFactory.get(event.getChannels());
+
+            return notificator.send(resolveNotificationDto(to, event));
+        } catch (RuntimeException e) {
+            log.error("Notification dispatch failed | personId={} channel={}", event.getPersonId(), event.getChannels(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-        ministryFunctionReminderSentWriter
-                .writeMinistryFunctionReminderSent(ministryFunction);
+    private static List<UUID> personIds(List<NotificationEvent> events) {
+        return events.stream()
+                .map(NotificationEvent::getPersonId)
+                .distinct()
+                .toList();
     }
 
     private NotificationDto resolveNotificationDto(String to, NotificationEvent event) {
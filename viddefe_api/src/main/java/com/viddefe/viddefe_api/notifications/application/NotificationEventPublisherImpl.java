@@ -1,9 +1,11 @@
 package com.viddefe.viddefe_api.notifications.application;
 
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
 import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -33,11 +35,37 @@ public class NotificationEventPublisherImpl implements NotificationEventPublishe
                 RabbitQueues.NOTIFICATIONS_EXCHANGE,
                 event.getNotificationType().routingKey(),   // Decide the routing key based on notification type
                 event,
-                message -> {
-                    message.getMessageProperties()
-                            .setPriority(event.getPriority().value());
-                    return message;
-                }
+                withPriority(event)
         );
     }
+
+    /**
+     * Sends every event of the batch over one channel instead of one checkout per message.
+     */
+    @Async
+    @TransactionalEventListener(
+            phase = TransactionPhase.AFTER_COMMIT
+    )
+    @Override
+    public void publishAll(NotificationEventBatch batch) {
+        rabbitTemplate.invoke(operations -> {
+            for (NotificationEvent event : batch.events()) {
+                operations.convertAndSend(
+                        RabbitQueues.NOTIFICATIONS_EXCHANGE,
+                        event.getNotificationType().routingKey(),
+                        event,
+                        withPriority(event)
+                );
+            }
+            return null;
+        });
+    }
+
+    private static MessagePostProcessor withPriority(NotificationEvent event) {
+        return message -> {
+            message.getMessageProperties()
+                    .setPriority(event.getPriority().value());
+            return message;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.viddefe.viddefe_api.notifications.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket: admite ráfagas de hasta {@code capacity} envíos y, sostenido, {@code permitsPerSecond}.
+ *
+ * <p>No bloquea: {@link #reserve()} siempre reserva un permiso, dejando el saldo en negativo si hace falta,
+ * y devuelve cuánto debe esperar quien llama antes de usarlo. Así cada envío recibe su propio turno y los
+ * envíos en espera no compiten de nuevo por el mismo permiso al despertar.</p>
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Invalid token bucket configuration");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return nanoseconds the caller must wait before using the permit it has just reserved (0 = use it now)
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+}
@@ -1,45 +1,49 @@
 package com.viddefe.viddefe_api.notifications.application;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
-import java.util.Map;
-
 @Component
 @RequiredArgsConstructor
 public class WhatsappClient {
+    /**
+     * Base URL already points to {@code {graph-url}/{phone-number-id}}, see {@code WhatsappRestClientConfig}.
+     */
     private final RestClient restClient;
 
-    @Value("${whatsapp.api.url}")
-    private String graphBaseUrl;
-
-    @Value("${whatsapp.api.phone.number.id}")
-    private String phoneNumberId;
-
+    /**
+     * Sends one text message, blocking until the Graph API answers.
+     *
+     * @throws org.springframework.web.client.RestClientException on I/O errors or non-2xx responses
+     */
     public void sendTextMessage(
             String to,
             String message
     ) {
-
-        String url = graphBaseUrl + "/" + phoneNumberId + "/messages";
-        Map<String, Object> payload = Map.of(
-                "messaging_product", "whatsapp",
-                "to", to,
-                "type", "text",
-                "text", Map.of(
-                        "body", message
-                )
-        );
-
         restClient.post()
-                .uri(url)
+                .uri("/messages")
                 .contentType(MediaType.APPLICATION_JSON)
-                .body(payload)
+                .body(TextMessage.of(to, message))
                 .retrieve()
                 .toBodilessEntity();
     }
 
+    /**
+     * Graph API text message payload, serialized without building a {@code Map} per message.
+     */
+    public record TextMessage(
+            @JsonProperty("messaging_product") String messagingProduct,
+            String to,
+            String type,
+            Text text
+    ) {
+        static TextMessage of(String to, String body) {
+            return new TextMessage("whatsapp", to, "text", new Text(body));
+        }
+
+        public record Text(String body) {}
+    }
 }
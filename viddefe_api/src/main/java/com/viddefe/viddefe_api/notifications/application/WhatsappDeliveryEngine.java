@@ -0,0 +1,198 @@
+package com.viddefe.viddefe_api.notifications.application;
+
+import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.WhatsappDeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Motor de entrega de mensajes de WhatsApp, independiente del executor {@code @Async} compartido.
+ *
+ * <ul>
+ *     <li>Pool propio de {@code whatsapp.delivery.threads} hilos sobre el cliente HTTP con conexiones reutilizadas.</li>
+ *     <li>Token bucket con el cupo de la Graph API ({@code rate-per-second}, {@code burst}): si no hay permiso
+ *     el envío se reprograma, ningún hilo duerme esperando.</li>
+ *     <li>Reintentos con backoff exponencial y jitter para errores transitorios (I/O, 429, 5xx), respetando
+ *     {@code Retry-After}. Los rechazos definitivos y los que agotan los intentos van a
+ *     {@link RabbitQueues#WHATSAPP_DEAD_LETTER_QUEUE}.</li>
+ *     <li>Como mucho {@code max-in-flight} mensajes pendientes: después {@link #submit} bloquea al consumidor
+ *     de RabbitMQ, que deja de recibir mensajes hasta que haya hueco.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WhatsappDeliveryEngine {
+
+    private final WhatsappClient whatsappClient;
+    private final RabbitTemplate rabbitTemplate;
+    private final TokenBucket rateLimiter;
+    private final ScheduledExecutorService executor;
+    private final Semaphore inFlight;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    public WhatsappDeliveryEngine(
+            WhatsappClient whatsappClient,
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${whatsapp.delivery.threads:8}") int threads,
+            @Value("${whatsapp.delivery.max-in-flight:500}") int maxInFlight,
+            @Value("${whatsapp.delivery.rate-per-second:80}") double ratePerSecond,
+            @Value("${whatsapp.delivery.burst:80}") int burst,
+            @Value("${whatsapp.delivery.max-attempts:5}") int maxAttempts,
+            @Value("${whatsapp.delivery.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${whatsapp.delivery.max-backoff:30s}") Duration maxBackoff
+    ) {
+        this.whatsappClient = whatsappClient;
+        this.rabbitTemplate = rabbitTemplate;
+        this.rateLimiter = new TokenBucket(ratePerSecond, burst);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(
+                threads, new CustomizableThreadFactory("whatsapp-delivery-")
+        );
+        pool.setRemoveOnCancelPolicy(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "notifications.whatsapp-delivery");
+        this.sent = outcome(meterRegistry, "sent");
+        this.retried = outcome(meterRegistry, "retried");
+        this.deadLettered = outcome(meterRegistry, "dead_lettered");
+    }
+
+    /**
+     * Encola el mensaje para su entrega asíncrona. Bloquea solo si ya hay {@code max-in-flight} pendientes.
+     *
+     * @return se completa al entregarse; excepcionalmente si acabó en la cola de mensajes muertos
+     */
+    public CompletableFuture<Void> submit(String to, String message) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for WhatsApp delivery capacity", e);
+        }
+        CompletableFuture<Void> delivery = new CompletableFuture<>();
+        try {
+            executor.execute(() -> attempt(to, message, 1, delivery));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+        return delivery;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("WhatsApp delivery engine stopped with pending deliveries");
+        }
+    }
+
+    private void attempt(String to, String message, int attempt, CompletableFuture<Void> delivery) {
+        long waitNanos = rateLimiter.reserve();
+        if (waitNanos > 0) {
+            executor.schedule(() -> send(to, message, attempt, delivery), waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            send(to, message, attempt, delivery);
+        }
+    }
+
+    private void send(String to, String message, int attempt, CompletableFuture<Void> delivery) {
+        try {
+            whatsappClient.sendTextMessage(to, message);
+            sent.increment();
+            inFlight.release();
+            delivery.complete(null);
+        } catch (RuntimeException e) {
+            if (attempt < maxAttempts && isRetryable(e)) {
+                long delay = backoffMillis(attempt, e);
+                log.debug("WhatsApp delivery failed, retrying | attempt={} delayMs={} error={}", attempt, delay, e.getMessage());
+                retried.increment();
+                executor.schedule(() -> attempt(to, message, attempt + 1, delivery), delay, TimeUnit.MILLISECONDS);
+            } else {
+                deadLetter(to, message, attempt, e);
+                inFlight.release();
+                delivery.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof RestClientResponseException response) {
+            return response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError();
+        }
+        return false;
+    }
+
+    /**
+     * Exponential backoff with equal jitter, never below the server's {@code Retry-After}.
+     */
+    private long backoffMillis(int attempt, RuntimeException e) {
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        long delay = ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        return Math.max(delay, retryAfterMillis(e));
+    }
+
+    private static long retryAfterMillis(RuntimeException e) {
+        if (e instanceof RestClientResponseException response && response.getResponseHeaders() != null) {
+            String retryAfter = response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+                } catch (NumberFormatException ignored) {
+                    // HTTP-date form, fall back to the computed backoff
+                }
+            }
+        }
+        return 0;
+    }
+
+    private void deadLetter(String to, String message, int attempts, RuntimeException cause) {
+        deadLettered.increment();
+        log.warn("WhatsApp delivery dead-lettered | attempts={} error={}", attempts, cause.getMessage());
+        try {
+            rabbitTemplate.convertAndSend(
+                    "",
+                    RabbitQueues.WHATSAPP_DEAD_LETTER_QUEUE,
+                    new WhatsappDeadLetter(to, message, attempts, cause.getMessage(), Instant.now())
+            );
+        } catch (RuntimeException e) {
+            log.error("Could not publish WhatsApp dead letter", e);
+        }
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("notifications.whatsapp.deliveries")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
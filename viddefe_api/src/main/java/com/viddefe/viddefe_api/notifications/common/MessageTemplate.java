@@ -0,0 +1,161 @@
+package com.viddefe.viddefe_api.notifications.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Plantilla de mensaje con placeholders {@code {{variable}}}, parseada una sola vez en segmentos
+ * literales y de variable.
+ *
+ * <p>{@link #render(Map)} recorre los segmentos una vez y escribe en un {@link StringBuilder} con la
+ * capacidad exacta, en lugar de una pasada de {@code String.replace} (y un String nuevo) por variable.
+ * Los productores compilan sus plantillas al cargar la clase con {@link #compile(String, Set)} y construyen
+ * los valores con {@link #variables(Set, Function)} a partir del mismo conjunto de {@link TemplateVariable},
+ * de modo que una variable que el productor no aporta falla al arrancar y no al enviar.</p>
+ */
+public final class MessageTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final long MAX_CACHED_TEMPLATES = 256;
+
+    /**
+     * Compiled forms of the templates received by the consumers, keyed by their source.
+     * Producers use a handful of constant templates, so the cache stays small.
+     */
+    private static final Cache<String, MessageTemplate> COMPILED = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TEMPLATES)
+            .build();
+
+    private final String source;
+    /**
+     * {@code literals.length == variables.length + 1}: literal, variable, literal, ..., literal.
+     */
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private MessageTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) length += literal.length();
+        this.literalLength = length;
+    }
+
+    /**
+     * Compila la plantilla comprobando que todos sus placeholders están entre las variables que
+     * el productor va a aportar.
+     *
+     * @throws IllegalArgumentException si la plantilla usa variables no declaradas
+     */
+    public static MessageTemplate compile(String source, String... providedVariables) {
+        MessageTemplate template = parse(source);
+        Set<String> missing = new TreeSet<>(template.placeholders());
+        missing.removeAll(Set.of(providedVariables));
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Template variables without a value: " + missing);
+        }
+        COMPILED.put(source, template);
+        return template;
+    }
+
+    /**
+     * Compila la plantilla contra el conjunto de variables con el que el productor construye sus valores
+     * en {@link #variables(Set, Function)}.
+     *
+     * @throws IllegalArgumentException si la plantilla usa variables fuera del conjunto
+     */
+    public static <E extends Enum<E> & TemplateVariable> MessageTemplate compile(String source, Set<E> providedVariables) {
+        return compile(source, providedVariables.stream().map(TemplateVariable::key).toArray(String[]::new));
+    }
+
+    /**
+     * Valores de las variables del conjunto, por nombre de placeholder; {@code valueOf} se llama una vez por variable.
+     */
+    public static <E extends Enum<E> & TemplateVariable> Map<String, Object> variables(
+            Set<E> providedVariables,
+            Function<? super E, ?> valueOf
+    ) {
+        Map<String, Object> values = new HashMap<>(providedVariables.size() * 2);
+        for (E variable : providedVariables) {
+            values.put(variable.key(), valueOf.apply(variable));
+        }
+        return values;
+    }
+
+    /**
+     * Forma compilada de {@code source}, parseándola solo la primera vez que se ve.
+     */
+    public static MessageTemplate cached(String source) {
+        return COMPILED.get(source, MessageTemplate::parse);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Nombres de los placeholders, en orden de aparición y sin repetir.
+     */
+    public Set<String> placeholders() {
+        Set<String> names = new LinkedHashSet<>();
+        Collections.addAll(names, variables);
+        return names;
+    }
+
+    /**
+     * Renders the template in a single pass. A placeholder without a value is left as is, so a message
+     * is never dropped at send time; producers catch those cases in {@link #compile(String, String...)}.
+     */
+    public String render(Map<String, ?> values) {
+        String[] rendered = new String[variables.length];
+        int length = literalLength;
+        for (int i = 0; i < variables.length; i++) {
+            Object value = values.get(variables[i]);
+            rendered[i] = value != null ? value.toString() : OPEN + variables[i] + CLOSE;
+            length += rendered[i].length();
+        }
+        StringBuilder message = new StringBuilder(length);
+        message.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            message.append(rendered[i]).append(literals[i + 1]);
+        }
+        return message.toString();
+    }
+
+    private static MessageTemplate parse(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalStart = 0;
+        int open = source.indexOf(OPEN);
+        while (open >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                open = source.indexOf(OPEN, close + CLOSE.length());
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            variables.add(name);
+            literalStart = close + CLOSE.length();
+            open = source.indexOf(OPEN, literalStart);
+        }
+        literals.add(source.substring(literalStart));
+        return new MessageTemplate(source, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+}
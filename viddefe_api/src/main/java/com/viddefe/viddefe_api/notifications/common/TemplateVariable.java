@@ -0,0 +1,13 @@
+package com.viddefe.viddefe_api.notifications.common;
+
+/**
+ * Variable que un productor aporta a sus plantillas. Los productores la declaran como enum y usan el
+ * mismo conjunto para compilar la plantilla y para construir sus valores, ver {@link MessageTemplate}.
+ */
+public interface TemplateVariable {
+
+    /**
+     * Nombre del placeholder, sin las llaves.
+     */
+    String key();
+}
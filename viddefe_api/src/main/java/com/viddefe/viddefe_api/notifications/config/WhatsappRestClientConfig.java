@@ -4,20 +4,40 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class WhatsappRestClientConfig {
 
+    /**
+     * Cliente de la Graph API sobre un único {@link HttpClient} del JDK, que reutiliza las conexiones
+     * (keep-alive, o multiplexadas si el servidor negocia HTTP/2) entre todos los envíos.
+     * La URL base ya incluye el número emisor, así cada envío no vuelve a construirla.
+     */
     @Bean
     public RestClient whatsappRestClient(
-            @Value("${whatsapp.api.token}") String token
+            @Value("${whatsapp.api.token}") String token,
+            @Value("${whatsapp.api.url}") String graphBaseUrl,
+            @Value("${whatsapp.api.phone.number.id}") String phoneNumberId,
+            @Value("${whatsapp.delivery.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${whatsapp.delivery.read-timeout:10s}") Duration readTimeout
     ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
         return RestClient.builder()
+                .baseUrl(graphBaseUrl + "/" + phoneNumberId)
+                .requestFactory(requestFactory)
                 .defaultHeader(
                         HttpHeaders.AUTHORIZATION,
                         "Bearer " + token
                 )
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.viddefe.viddefe_api.notifications.contracts;
 
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 
 public interface NotificationEventPublisher {
     /**
@@ -9,4 +10,11 @@ public interface NotificationEventPublisher {
      * @param event the notification event to be published
      */
     void publish(NotificationEvent event);
+
+    /**
+     * Publishes a batch of notification events over a single channel.
+     *
+     * @param batch the notification events to be published
+     */
+    void publishAll(NotificationEventBatch batch);
 }
@@ -4,6 +4,8 @@ import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationDto;
 import com.viddefe.viddefe_api.notifications.common.Channels;
 import jakarta.validation.Valid;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Messenger contract to send messages via different channels
  */
@@ -14,7 +16,8 @@ public interface Notificator {
     /**
      * Send a notification
      * @param notificationDto The notification details
+     * @return completes when the message was delivered, exceptionally when it could not be
      */
-        void send(@Valid NotificationDto notificationDto);
+    CompletableFuture<Void> send(@Valid NotificationDto notificationDto);
 
 }
\ No newline at end of file
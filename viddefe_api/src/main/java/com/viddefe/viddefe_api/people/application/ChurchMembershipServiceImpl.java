@@ -7,8 +7,10 @@ import com.viddefe.viddefe_api.people.contracts.ChurchMembershipService;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.domain.model.PeopleTypeModel;
 import com.viddefe.viddefe_api.people.domain.repository.PeopleRepository;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,41 +34,61 @@ public class ChurchMembershipServiceImpl implements ChurchMembershipService {
     private final PeopleRepository peopleRepository;
     private final PeopleTypeService peopleTypeService;
     private final ChurchLookup churchLookup;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
     @Override
     @Transactional
     public PeopleModel assignPersonToChurchAsPastor(UUID personId, UUID churchId) {
         PeopleModel person = findPersonOrThrow(personId);
+        UUID previousChurchId = churchIdOf(person);
         ChurchModel church = churchLookup.getChurchById(churchId);
         PeopleTypeModel pastorType = peopleTypeService.getPeopleTypeByName(TypesPeople.PASTOR.getLabel());
         
         person.setChurch(church);
         person.setTypePerson(pastorType);
         
-        return peopleRepository.save(person);
+        return save(person, previousChurchId);
     }
 
     @Override
     @Transactional
     public PeopleModel removeChurchAssignment(UUID personId) {
         PeopleModel person = findPersonOrThrow(personId);
+        UUID previousChurchId = churchIdOf(person);
         person.setChurch(null);
-        return peopleRepository.save(person);
+        return save(person, previousChurchId);
     }
 
     @Override
     @Transactional
     public PeopleModel transferToChurch(UUID personId, UUID newChurchId) {
         PeopleModel person = findPersonOrThrow(personId);
+        UUID previousChurchId = churchIdOf(person);
         ChurchModel newChurch = churchLookup.getChurchById(newChurchId);
         person.setChurch(newChurch);
-        return peopleRepository.save(person);
+        return save(person, previousChurchId);
     }
 
     @Override
     public PeopleModel transferToChurch(PeopleModel person, ChurchModel church) {
+        UUID previousChurchId = churchIdOf(person);
         person.setChurch(church);
-        return peopleRepository.save(person);
+        return save(person, previousChurchId);
+    }
+
+    /**
+     * @param previousChurchId iglesia antes del cambio, leída antes de modificar la persona
+     */
+    private PeopleModel save(PeopleModel person, UUID previousChurchId) {
+        PeopleModel saved = peopleRepository.save(person);
+        applicationEventPublisher.publishEvent(
+                new PersonUpdatedEvent(person.getId(), churchIdOf(person), previousChurchId)
+        );
+        return saved;
+    }
+
+    private static UUID churchIdOf(PeopleModel person) {
+        return person.getChurch() != null ? person.getChurch().getId() : null;
     }
 
     private PeopleModel findPersonOrThrow(UUID personId) {
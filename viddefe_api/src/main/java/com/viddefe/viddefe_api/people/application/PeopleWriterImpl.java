@@ -11,6 +11,7 @@ import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.domain.model.PeopleTypeModel;
 import com.viddefe.viddefe_api.people.domain.repository.PeopleRepository;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
 import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceQualityPeopleRepository;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PersonCreatedQualityAttendanceEvent;
 import lombok.RequiredArgsConstructor;
@@ -46,6 +47,7 @@ public class PeopleWriterImpl implements PeopleWriter {
         PeopleModel saved = peopleRepository.save(person);
         PersonCreatedQualityAttendanceEvent event = new PersonCreatedQualityAttendanceEvent(saved.getId(), dto.getChurchId());
         applicationEventPublisher.publishEvent(event.getPersonId());
+        applicationEventPublisher.publishEvent(new PersonUpdatedEvent(saved.getId(), churchIdOf(saved), null));
         return saved;
     }
     
@@ -54,7 +56,8 @@ public class PeopleWriterImpl implements PeopleWriter {
     public PeopleModel updatePerson(PeopleDTO dto, UUID id) {
         PeopleModel person = peopleRepository.findById(id)
                 .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Person not found: " + id));
-        
+        UUID previousChurchId = churchIdOf(person);
+
         person.fromDto(dto);
         if(!person.getCc().equals(dto.getCc())) {
             peopleReader.verifyPersonExistsByCcAndChurchId(dto.getCc(), dto.getId());
@@ -70,18 +73,24 @@ public class PeopleWriterImpl implements PeopleWriter {
             person.setChurch(churchLookup.getChurchById(dto.getChurchId()));
         }
         
-        return peopleRepository.save(person);
+        PeopleModel saved = peopleRepository.save(person);
+        applicationEventPublisher.publishEvent(new PersonUpdatedEvent(id, churchIdOf(saved), previousChurchId));
+        return saved;
     }
     
     @Override
     @Transactional
     public void deletePerson(UUID id) {
-        if (!peopleRepository.existsById(id)) {
-            throw new CustomExceptions.ResourceNotFoundException("Person not found: " + id);
-        }
-        peopleRepository.deleteById(id);
+        PeopleModel person = peopleRepository.findById(id)
+                .orElseThrow(() -> new CustomExceptions.ResourceNotFoundException("Person not found: " + id));
+        peopleRepository.delete(person);
+        applicationEventPublisher.publishEvent(new PersonUpdatedEvent(id, null, churchIdOf(person)));
     }
     
+    private static UUID churchIdOf(PeopleModel person) {
+        return person.getChurch() != null ? person.getChurch().getId() : null;
+    }
+
     /**
      * Construye un PeopleModel a partir de un DTO, resolviendo todas las relaciones.
      */
@@ -0,0 +1,13 @@
+package com.viddefe.viddefe_api.people.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Evento publicado cuando se crea una persona, cambian sus datos o su iglesia asignada, o se elimina.
+ *
+ * @param personId         ID de la persona creada, modificada o eliminada
+ * @param churchId         iglesia de la persona tras el cambio, {@code null} si no tiene o se eliminó
+ * @param previousChurchId iglesia de la persona antes del cambio, {@code null} si no tenía o es nueva
+ */
+public record PersonUpdatedEvent(UUID personId, UUID churchId, UUID previousChurchId) {
+}
@@ -1,6 +1,6 @@
 package com.viddefe.viddefe_api.people.infrastructure.web;
 
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
 import com.viddefe.viddefe_api.people.contracts.PeopleService;
@@ -22,19 +22,18 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PeopleController {
     private final PeopleService peopleService;
-    private final JwtUtil jwtUtil;
     //
     @PreAuthorize(
-            "hasAuthority(T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
+            "hasPermission(null, T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
                     ".PEOPLE_ADD_PEOPLE)"
     )
     @PostMapping
     public ResponseEntity<ApiResponse<PeopleResDto>> addPeople(
             @RequestBody @Valid PeopleDTO dto,
-            @CookieValue(value = "access_token") String jwtToken
+            AuthenticatedUser user
     ) {
 
-        UUID churchIdFromJwt = jwtUtil.getChurchId(jwtToken);
+        UUID churchIdFromJwt = user.churchId();
         UUID churchIdFromDto = dto.getChurchId() == null ? churchIdFromJwt : dto.getChurchId();
         dto.setChurchId(churchIdFromDto);
         PeopleResDto person = peopleService.createPeople(dto);
@@ -46,15 +45,15 @@ public class PeopleController {
             Pageable pageable,
             @RequestParam(required = false) Long typePersonId,
             @RequestParam(required = false)AttendanceQualityEnum attendanceQuality,
-            @CookieValue(value = "access_token") String jwtToken
+            AuthenticatedUser user
     ){
-        UUID churchId = jwtUtil.getChurchId(jwtToken);
+        UUID churchId = user.churchId();
         Page<PeopleResDto> people = peopleService.getAllPeople(pageable, typePersonId, churchId, attendanceQuality);
         return ResponseEntity.ok(ApiResponse.ok(people));
     }
 
     @PreAuthorize(
-            "hasAuthority(T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
+            "hasPermission(null, T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
                     ".PEOPLE_EDIT_PEOPLE)"
     )
     @PutMapping("/{id}")
@@ -63,7 +62,7 @@ public class PeopleController {
     }
 
     @PreAuthorize(
-            "hasAuthority(T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
+            "hasPermission(null, T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
                     ".PEOPLE_DELETE_PEOPLE)"
     )
     @DeleteMapping("/{id}")
@@ -73,7 +72,7 @@ public class PeopleController {
     }
 
     @PreAuthorize(
-            "hasAuthority(T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
+            "hasPermission(null, T(com.viddefe.viddefe_api.people.config.PeoplePermissions)" +
                     ".PEOPLE_VIEW_PEOPLE)"
     )
     @GetMapping("/{id}")
@@ -1,34 +1,33 @@
 package com.viddefe.viddefe_api.worship_meetings.application;
 
 import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
-import com.viddefe.viddefe_api.people.contracts.PeopleReader;
-import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
-import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
-import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceQualityReader;
-import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceService;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceQuality;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceQualityPeople;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceQualityPeopleId;
-import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceQualityPeopleRepository;
-import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceRepository;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceQualityRecalculationService;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceQualityRecalcDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.AttendanceQualityRecalcLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recalcula la calidad de asistencia a partir de los mensajes de {@link RabbitQueues#ATTENDANCE_QUALITY_QUEUE}.
+ * Un mensaje sin {@code peopleId} recalcula todos los miembros del contexto en lote.
+ *
+ * <p>Entre todas las instancias solo corre un recálculo por contexto: si el contexto está ocupado
+ * se deja una marca y quien lo está recalculando repite una vez al terminar.</p>
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceQualifyConsumer {
 
-    private final AttendanceQualityPeopleRepository attendanceQualityPeopleRepository;
-    private final PeopleReader peopleReader;
-    private final AttendanceQualityReader attendanceQualityReader;
-    private final AttendanceRepository attendanceRepository;
+    private final AttendanceQualityRecalculationService attendanceQualityRecalculationService;
+    private final AttendanceQualityRecalcLock attendanceQualityRecalcLock;
 
     @Async
     @RabbitListener(
@@ -46,105 +45,46 @@ public class AttendanceQualifyConsumer {
                 event.getTo()
         );
 
-        PeopleModel people = peopleReader.getPeopleById(event.getPeopleId());
-
-        Double percentage = attendanceRepository.calculateAttendancePercentage(
-                people.getId(),
-                event.getEventType(),
-                event.getTo(),
-                event.getFrom()
-        );
-
-        log.debug(
-                "Attendance percentage calculated | peopleId={} eventType={} percentage={}",
-                people.getId(),
-                event.getEventType(),
-                percentage
-        );
-
-        AttendanceQualityEnum quality = determineQuality(percentage);
-        TopologyEventType eventType = event.getEventType();
-
-        log.debug(
-                "Attendance quality determined | peopleId={} percentage={} quality={}",
-                people.getId(),
-                percentage,
-                quality
-        );
-
-        AttendanceQuality attendanceQuality =
-                attendanceQualityReader.findByAttendanceQualityEnum(quality);
-
-        AttendanceQualityPeople attendanceQualityPeople =
-                attendanceQualityPeopleRepository
-                        .findByPeopleIdAndContextIdAndEventType(
-                                people.getId(),
-                                event.getContextId(),
-                                eventType
-                        )
-                        .orElseGet(() -> {
-                            AttendanceQualityPeople entity =
-                                    new AttendanceQualityPeople();
-                            entity.setPeople(people);
-                            entity.setEventType(eventType);
-                            return entity;
-                        });
-
-        // 👇 idempotency guard
-        AttendanceQualityEnum currentQuality =
-                attendanceQualityPeople.getAttendanceQuality() != null
-                        ? attendanceQualityPeople.getAttendanceQuality().getAttendanceQuality()
-                        : null;
-
-        if (currentQuality == quality) {
-            log.debug(
-                    "No attendance quality change | peopleId={} contextId={} eventType={} quality={}",
-                    people.getId(),
-                    event.getContextId(),
-                    eventType,
-                    quality
-            );
+        if (event.getPeopleId() == null) {
+            recalculateContextOnce(event);
             return;
         }
 
-        log.info(
-                "Upserting attendance quality | peopleId={} contextId={} eventType={} from={} to={}",
-                people.getId(),
-                event.getContextId(),
-                eventType,
-                currentQuality,
-                quality
-        );
-
-        AttendanceQualityPeopleId id = new AttendanceQualityPeopleId(
-                people.getId(),
-                event.getContextId()
-        );
-
-        attendanceQualityPeople.setId(id);
-        attendanceQualityPeople.setAttendanceQuality(attendanceQuality);
-
-        attendanceQualityPeopleRepository.save(attendanceQualityPeople);
-
-        log.info(
-                "Attendance quality saved | peopleId={} contextId={} eventType={} quality={}",
-                people.getId(),
+        attendanceQualityRecalculationService.recalculatePeople(
                 event.getContextId(),
-                eventType,
-                quality
+                event.getEventType(),
+                List.of(event.getPeopleId()),
+                event.getFrom(),
+                event.getTo()
         );
     }
 
-    private AttendanceQualityEnum determineQuality(Double percentage){
-        log.debug("Determining attendance quality | percentage={}", percentage);
-        if(percentage >= AttendanceQualityEnum.HIGH.getValue()){
-            return AttendanceQualityEnum.HIGH;
-        } else if (percentage >= AttendanceQualityEnum.MEDIUM.getValue()) {
-            return AttendanceQualityEnum.MEDIUM;
-        } else if(percentage >= AttendanceQualityEnum.LOW.getValue() || percentage > AttendanceQualityEnum.NO_YET.getValue()) {
-            return AttendanceQualityEnum.LOW;
-        }else {
-            return AttendanceQualityEnum.NO_YET;
-        }
+    private void recalculateContextOnce(AttendanceQualityRecalcDto event) {
+        UUID contextId = event.getContextId();
+        TopologyEventType eventType = event.getEventType();
+        String token = UUID.randomUUID().toString();
+
+        do {
+            if (!attendanceQualityRecalcLock.tryAcquire(eventType, contextId, token)) {
+                attendanceQualityRecalcLock.markPending(eventType, contextId);
+                // The holder may have checked the mark and released in between: try once more
+                if (!attendanceQualityRecalcLock.tryAcquire(eventType, contextId, token)) {
+                    log.debug("Attendance quality recalculation already running | contextId={} eventType={}",
+                            contextId, eventType);
+                    return;
+                }
+            }
+            try {
+                attendanceQualityRecalcLock.clearPending(eventType, contextId);
+                attendanceQualityRecalculationService.recalculateContext(
+                        contextId,
+                        eventType,
+                        event.getFrom(),
+                        event.getTo()
+                );
+            } finally {
+                attendanceQualityRecalcLock.release(eventType, contextId, token);
+            }
+        } while (attendanceQualityRecalcLock.isPending(eventType, contextId));
     }
 }
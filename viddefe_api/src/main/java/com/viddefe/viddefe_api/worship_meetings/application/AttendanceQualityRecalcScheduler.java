@@ -0,0 +1,92 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.config.rabbit.AttendanceRoutingKey;
+import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceQualityRecalcDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa los cambios de asistencia de un mismo contexto y pide un solo recálculo de calidad.
+ *
+ * <p>El primer cambio de un contexto abre una ventana corta; los que llegan dentro de ella
+ * (p. ej. un líder marcando 80 asistencias seguidas) no generan mensajes nuevos. Al cerrar
+ * la ventana se publica un único mensaje que recalcula a todos los miembros del contexto.</p>
+ */
+@Slf4j
+@Component
+public class AttendanceQualityRecalcScheduler {
+
+    private static final Duration DEBOUNCE_WINDOW = Duration.ofSeconds(3);
+    private static final int MONTHS_BACK = 6;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Duration debounceWindow;
+    private final Set<DirtyContext> dirtyContexts = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("attendance-quality-debounce").daemon().factory()
+    );
+
+    @Autowired
+    public AttendanceQualityRecalcScheduler(RabbitTemplate rabbitTemplate) {
+        this(rabbitTemplate, DEBOUNCE_WINDOW);
+    }
+
+    AttendanceQualityRecalcScheduler(RabbitTemplate rabbitTemplate, Duration debounceWindow) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.debounceWindow = debounceWindow;
+    }
+
+    /**
+     * Marks the context as changed; the recalculation is published when its window closes.
+     */
+    public void markDirty(UUID contextId, TopologyEventType eventType) {
+        DirtyContext context = new DirtyContext(contextId, eventType);
+        if (dirtyContexts.add(context)) {
+            flusher.schedule(() -> flush(context), debounceWindow.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(DirtyContext context) {
+        // Removed before publishing: a change arriving now opens a new window instead of being lost
+        dirtyContexts.remove(context);
+        try {
+            OffsetDateTime to = OffsetDateTime.now();
+            rabbitTemplate.convertAndSend(
+                    RabbitQueues.ATTENDANCE_EXCHANGE,
+                    AttendanceRoutingKey.RECALCULATE_ATTENDANCE_QUALITY.routingKey(),
+                    AttendanceQualityRecalcDto.builder()
+                            .contextId(context.contextId())
+                            .eventType(context.eventType())
+                            .from(to.minusMonths(MONTHS_BACK))
+                            .to(to)
+                            .build()
+            );
+            log.debug("Attendance quality recalculation requested | contextId={} eventType={}",
+                    context.contextId(), context.eventType());
+        } catch (RuntimeException e) {
+            log.error("Could not request attendance quality recalculation | contextId={} eventType={}",
+                    context.contextId(), context.eventType(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+    }
+
+    private record DirtyContext(UUID contextId, TopologyEventType eventType) {}
+}
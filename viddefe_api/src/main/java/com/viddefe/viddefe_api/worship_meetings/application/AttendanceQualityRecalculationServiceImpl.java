@@ -0,0 +1,87 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceQualityRecalculationService;
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceQualityPeopleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recalcula la calidad de asistencia de todos los miembros de una iglesia o grupo.
+ *
+ * <p>Los miembros se recorren por lotes con paginación por llave; cada lote calcula todos los
+ * porcentajes en una consulta agrupada y los guarda con un único {@code INSERT ... ON CONFLICT}.
+ * Una iglesia de 5.000 miembros son 10 sentencias en lugar de más de 20.000.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceQualityRecalculationServiceImpl implements AttendanceQualityRecalculationService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final AttendanceQualityPeopleRepository attendanceQualityPeopleRepository;
+
+    @Override
+    @Transactional
+    public int recalculateContext(UUID contextId, TopologyEventType eventType, OffsetDateTime from, OffsetDateTime to) {
+        int changed = 0;
+        int members = 0;
+        UUID afterId = FIRST_ID;
+        List<UUID> batch;
+        do {
+            batch = findMemberIdsAfter(contextId, eventType, afterId);
+            if (batch.isEmpty()) break;
+            changed += upsert(contextId, eventType, batch, from, to);
+            members += batch.size();
+            afterId = batch.getLast();
+        } while (batch.size() == BATCH_SIZE);
+
+        log.info("Attendance qualities recalculated | contextId={} eventType={} members={} changed={}",
+                contextId, eventType, members, changed);
+        return changed;
+    }
+
+    @Override
+    @Transactional
+    public int recalculatePeople(UUID contextId, TopologyEventType eventType, List<UUID> peopleIds,
+                                 OffsetDateTime from, OffsetDateTime to) {
+        int changed = 0;
+        for (int start = 0; start < peopleIds.size(); start += BATCH_SIZE) {
+            List<UUID> batch = peopleIds.subList(start, Math.min(start + BATCH_SIZE, peopleIds.size()));
+            changed += upsert(contextId, eventType, batch, from, to);
+        }
+        log.debug("Attendance qualities recalculated | contextId={} eventType={} people={} changed={}",
+                contextId, eventType, peopleIds.size(), changed);
+        return changed;
+    }
+
+    private List<UUID> findMemberIdsAfter(UUID contextId, TopologyEventType eventType, UUID afterId) {
+        return switch (eventType) {
+            case TEMPLE_WORHSIP -> attendanceQualityPeopleRepository.findChurchMemberIdsAfter(contextId, afterId, BATCH_SIZE);
+            case GROUP_MEETING -> attendanceQualityPeopleRepository.findGroupMemberIdsAfter(contextId, afterId, BATCH_SIZE);
+        };
+    }
+
+    private int upsert(UUID contextId, TopologyEventType eventType, List<UUID> peopleIds,
+                       OffsetDateTime from, OffsetDateTime to) {
+        double highFrom = AttendanceQualityEnum.HIGH.getValue();
+        double mediumFrom = AttendanceQualityEnum.MEDIUM.getValue();
+        return switch (eventType) {
+            case TEMPLE_WORHSIP -> attendanceQualityPeopleRepository.upsertWorshipQualities(
+                    contextId, peopleIds, from, to, highFrom, mediumFrom
+            );
+            case GROUP_MEETING -> attendanceQualityPeopleRepository.upsertGroupQualities(
+                    contextId, peopleIds, from, to, highFrom, mediumFrom
+            );
+        };
+    }
+}
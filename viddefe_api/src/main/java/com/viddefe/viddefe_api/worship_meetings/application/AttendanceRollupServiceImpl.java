@@ -0,0 +1,121 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceDailyRollupId;
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceDailyRollupRepository;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeNodeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricAttendanceProjectionRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@code attendance_daily_rollups} in sync with the attendance table.
+ *
+ * <p>Each change only recomputes the single (context, eventType, day) bucket it touches,
+ * so the cost of a write is bounded by the attendance of one context in one day.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceRollupServiceImpl implements AttendanceRollupService {
+
+    /**
+     * Guard against malformed (cyclic) parentChurch chains.
+     */
+    private static final int MAX_TREE_DEPTH = 32;
+
+    private final AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+
+    @Override
+    @Transactional
+    public void refreshBucket(UUID contextId, TopologyEventType eventType, OffsetDateTime scheduledDate) {
+        LocalDate day = scheduledDate.atZoneSameInstant(ROLLUP_ZONE).toLocalDate();
+        OffsetDateTime dayStart = day.atStartOfDay(ROLLUP_ZONE).toOffsetDateTime();
+        OffsetDateTime dayEnd = day.plusDays(1).atStartOfDay(ROLLUP_ZONE).toOffsetDateTime();
+
+        attendanceDailyRollupRepository.deleteBucket(new AttendanceDailyRollupId(contextId, eventType, day));
+        switch (eventType) {
+            case TEMPLE_WORHSIP -> attendanceDailyRollupRepository.refreshWorshipBucket(
+                    contextId, eventType.name(), day, dayStart, dayEnd
+            );
+            case GROUP_MEETING -> attendanceDailyRollupRepository.refreshGroupBucket(
+                    contextId, eventType.name(), day, dayStart, dayEnd
+            );
+        }
+        log.debug("Attendance rollup refreshed | contextId={} eventType={} day={}", contextId, eventType, day);
+    }
+
+    @Override
+    @Transactional
+    public void refreshMeetingBucket(Meeting meeting, OffsetDateTime scheduledDate) {
+        if (meeting.getGroup() != null) {
+            refreshBucket(meeting.getGroup().getId(), TopologyEventType.GROUP_MEETING, scheduledDate);
+        } else {
+            refreshBucket(meeting.getChurch().getId(), TopologyEventType.TEMPLE_WORHSIP, scheduledDate);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MetricAttendanceProjectionRow> findRangeMetrics(
+            List<UUID> contextIds,
+            TopologyEventType eventType,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {
+        return attendanceDailyRollupRepository.sumByContextIdsAndDayBetween(
+                contextIds,
+                eventType,
+                startTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate(),
+                endTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate()
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MetricsSeriesRow> findSeriesMetrics(
+            UUID contextId,
+            TopologyEventType eventType,
+            MetricsGranularity granularity,
+            LocalDate fromDay,
+            LocalDate toDay
+    ) {
+        return attendanceDailyRollupRepository.sumByContextIdGroupedByBucket(
+                contextId,
+                eventType.name(),
+                granularity.getTruncUnit(),
+                fromDay,
+                toDay
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ChurchTreeNodeRow> findChurchTreeMetrics(UUID rootId, OffsetDateTime startTime, OffsetDateTime endTime) {
+        return attendanceDailyRollupRepository.findChurchTreeMetrics(
+                rootId,
+                MAX_TREE_DEPTH,
+                startTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate(),
+                endTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate()
+        );
+    }
+
+    @Override
+    @Transactional
+    public void backfillIfEmpty() {
+        if (attendanceDailyRollupRepository.count() != 0) return;
+        int buckets = attendanceDailyRollupRepository.backfillAll(ROLLUP_ZONE.getId());
+        log.info("Attendance rollups backfilled | buckets={}", buckets);
+    }
+}
@@ -5,6 +5,7 @@ import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceStatus;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
 import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceService;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MeetingReader;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceModel;
@@ -13,14 +14,23 @@ import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceRepo
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceProjectionDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.CreateAttendanceDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MeetingAttendeeRow;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PeopleAttendanceEventDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallResultDto;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +40,7 @@ public class AttendanceServiceImpl implements AttendanceService {
     private final PeopleReader peopleReader;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final MeetingReader meetingReader;
+    private final AttendanceRollupService attendanceRollupService;
 
     @Override
     public AttendanceDto updateAttendance(CreateAttendanceDto dto, TopologyEventType type) {
@@ -57,17 +68,108 @@ public class AttendanceServiceImpl implements AttendanceService {
                 .contextId(contextId)
                 .meetingId(meeting.getId())
                 .eventType(type)
+                .churchId(meeting.getChurch().getId())
+                .scheduledDates(Stream.ofNullable(meeting.getScheduledDate()).toList())
                 .build();
         if(attendanceModel.getId() != null){
             attendanceRepository.deleteById(attendanceModel.getId());
+            attendanceRollupService.refreshBucket(contextId, type, meeting.getScheduledDate());
             applicationEventPublisher.publishEvent(peopleAttendanceEventDto);
             return attendanceModel.toDto();
         }
          AttendanceModel saved = attendanceRepository.save(attendanceModel);
+        attendanceRollupService.refreshBucket(contextId, type, meeting.getScheduledDate());
         applicationEventPublisher.publishEvent(peopleAttendanceEventDto);
         return saved.toDto();
     }
 
+    @Override
+    public RollCallResultDto recordRollCall(UUID eventId, RollCallDto dto, TopologyEventType type) {
+        Meeting meeting = meetingReader.getById(eventId);
+        UUID contextId = resolveContextId(meeting, type);
+        Set<UUID> present = Set.copyOf(dto.getPresentPeopleIds());
+
+        Map<UUID, UUID> attendanceIdByPeopleId = attendanceRepository.findAttendeesByEventId(eventId)
+                .stream()
+                .collect(Collectors.toMap(MeetingAttendeeRow::getPeopleId, MeetingAttendeeRow::getId));
+        List<UUID> attendancesToRemove = attendanceIdByPeopleId.entrySet().stream()
+                .filter(entry -> !present.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        List<UUID> peopleToAdd = present.stream()
+                .filter(peopleId -> !attendanceIdByPeopleId.containsKey(peopleId))
+                .toList();
+
+        List<AttendanceModel> attendancesToAdd = buildRollCallAttendances(meeting, contextId, peopleToAdd, type);
+        if (!attendancesToRemove.isEmpty()) {
+            attendanceRepository.deleteAllByIdInBatch(attendancesToRemove);
+        }
+        // Ids are generated client side, so Hibernate sends the inserts as one JDBC batch
+        attendanceRepository.saveAll(attendancesToAdd);
+
+        if (!attendancesToRemove.isEmpty() || !attendancesToAdd.isEmpty()) {
+            attendanceRollupService.refreshBucket(contextId, type, meeting.getScheduledDate());
+            applicationEventPublisher.publishEvent(PeopleAttendanceEventDto.builder()
+                    .contextId(contextId)
+                    .meetingId(meeting.getId())
+                    .eventType(type)
+                    .churchId(meeting.getChurch().getId())
+                    .scheduledDates(Stream.ofNullable(meeting.getScheduledDate()).toList())
+                    .build());
+        }
+
+        return RollCallResultDto.builder()
+                .meetingId(meeting.getId())
+                .totalPresent(present.size())
+                .added(attendancesToAdd.size())
+                .removed(attendancesToRemove.size())
+                .newAttendees((int) attendancesToAdd.stream().filter(AttendanceModel::getIsNewAttendee).count())
+                .build();
+    }
+
+    /**
+     * Loads the people being added with one query and flags first-time attendees with another,
+     * instead of a lookup and a count per person.
+     */
+    private List<AttendanceModel> buildRollCallAttendances(
+            Meeting meeting,
+            UUID contextId,
+            List<UUID> peopleToAdd,
+            TopologyEventType type
+    ) {
+        if (peopleToAdd.isEmpty()) return List.of();
+
+        List<PeopleModel> people = peopleReader.getPeopleByIds(peopleToAdd);
+        if (people.size() != peopleToAdd.size()) {
+            throw new EntityNotFoundException("Una o más personas de la lista no existen");
+        }
+        UUID churchId = meeting.getChurch().getId();
+        boolean foreignPeople = people.stream()
+                .anyMatch(person -> person.getChurch() == null || !churchId.equals(person.getChurch().getId()));
+        if (foreignPeople) {
+            throw new IllegalArgumentException("Todas las personas deben pertenecer a la iglesia de la reunión");
+        }
+
+        Set<UUID> returningAttendees = Set.copyOf(findReturningAttendees(peopleToAdd, contextId, meeting.getId(), type));
+        return people.stream()
+                .map(person -> new AttendanceModel(
+                        null,
+                        person,
+                        meeting,
+                        type,
+                        AttendanceStatus.PRESENT,
+                        !returningAttendees.contains(person.getId())
+                ))
+                .toList();
+    }
+
+    private List<UUID> findReturningAttendees(List<UUID> peopleIds, UUID contextId, UUID eventId, TopologyEventType type) {
+        return switch (type) {
+            case TEMPLE_WORHSIP -> attendanceRepository.findReturningWorshipAttendees(peopleIds, contextId, eventId, type);
+            case GROUP_MEETING -> attendanceRepository.findReturningGroupAttendees(peopleIds, contextId, eventId, type);
+        };
+    }
+
     @Override
     public Page<AttendanceDto> getAttendanceByEventIdAndContextId(UUID eventId, Pageable pageable, TopologyEventType type, UUID contextId, AttendanceQualityEnum levelOfAttendance) {
         return resolveAttendancePage(
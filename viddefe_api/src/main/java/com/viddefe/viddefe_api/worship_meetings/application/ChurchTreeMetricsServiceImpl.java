@@ -0,0 +1,163 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import com.viddefe.viddefe_api.worship_meetings.contracts.ChurchTreeMetricsService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeNodeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsRedisAdapter;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas de culto sobre todo el árbol de iglesias (iglesia madre, hijas, nietas...).
+ *
+ * <p>El árbol y las métricas propias de cada iglesia salen de un único CTE recursivo.
+ * El agregado de cada subárbol se memoriza en Redis con una versión por iglesia; una asistencia
+ * en una iglesia solo invalida su camino hasta la raíz, así que al recalcular se reutilizan
+ * los subárboles hermanos que siguen en caché.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChurchTreeMetricsServiceImpl implements ChurchTreeMetricsService {
+    private final AttendanceRollupService attendanceRollupService;
+    private final ChurchLookup churchLookup;
+    private final MetricsRedisAdapter metricsRedisAdapter;
+    private final static Duration TREE_CACHE_TTL = Duration.ofHours(6);
+
+    @Override
+    public ChurchTreeMetricsDto getChurchTreeMetrics(UUID churchId, OffsetDateTime startTime, OffsetDateTime endTime) {
+        long rootVersion = metricsRedisAdapter.currentTreeVersions(List.of(churchId)).get(churchId);
+        ChurchTreeMetricsDto cachedRoot = metricsRedisAdapter
+                .getTreeMetrics(Map.of(churchId, rootVersion), startTime, endTime)
+                .get(churchId);
+        if (cachedRoot != null) {
+            return cachedRoot;
+        }
+
+        List<ChurchTreeNodeRow> nodes = attendanceRollupService.findChurchTreeMetrics(churchId, startTime, endTime);
+        ChurchTreeNodeRow rootNode = nodes.stream()
+                .filter(node -> node.getId().equals(churchId))
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Church not found"));
+
+        Map<UUID, List<ChurchTreeNodeRow>> childrenByParent = nodes.stream()
+                .filter(node -> !node.getId().equals(churchId))
+                .collect(Collectors.groupingBy(ChurchTreeNodeRow::getParentId));
+
+        Map<UUID, Long> versions = metricsRedisAdapter.currentTreeVersions(
+                nodes.stream().map(ChurchTreeNodeRow::getId).toList()
+        );
+        Map<UUID, ChurchTreeMetricsDto> subtrees = new HashMap<>(
+                metricsRedisAdapter.getTreeMetrics(versions, startTime, endTime)
+        );
+        List<ChurchTreeMetricsDto> computed = new ArrayList<>();
+        ChurchTreeMetricsDto root = aggregate(rootNode, childrenByParent, subtrees, computed);
+
+        // Any change inside the tree also bumps the root, and the root goes first: an unchanged root
+        // version means no version below it moved either, so the CTE read is consistent with the
+        // versions the subtrees are stored under
+        if (versions.get(churchId) == rootVersion) {
+            metricsRedisAdapter.saveAllTreeMetrics(computed, versions, TREE_CACHE_TTL, startTime, endTime);
+        }
+        log.debug("Church tree metrics | churchId={} churches={} recomputed={}",
+                churchId, nodes.size(), computed.size());
+        return root;
+    }
+
+    @Override
+    public void invalidateAncestorPath(UUID churchId) {
+        List<UUID> path = churchLookup.findAncestorPathIds(churchId);
+        // A deleted church has no path anymore; its own entry still has to go
+        metricsRedisAdapter.bumpTreeVersions(path.isEmpty() ? List.of(churchId) : path);
+    }
+
+    /**
+     * Post-order aggregation that stops at any subtree already memoized.
+     */
+    private ChurchTreeMetricsDto aggregate(
+            ChurchTreeNodeRow node,
+            Map<UUID, List<ChurchTreeNodeRow>> childrenByParent,
+            Map<UUID, ChurchTreeMetricsDto> subtrees,
+            List<ChurchTreeMetricsDto> computed
+    ) {
+        ChurchTreeMetricsDto memoized = subtrees.get(node.getId());
+        if (memoized != null) {
+            return memoized;
+        }
+
+        List<ChurchTreeMetricsDto> children = childrenByParent.getOrDefault(node.getId(), List.of()).stream()
+                .map(child -> aggregate(child, childrenByParent, subtrees, computed))
+                .toList();
+
+        long people = Optional.ofNullable(node.getTotalPeople()).orElse(0L);
+        long meetings = Optional.ofNullable(node.getTotalMeetings()).orElse(0L);
+        long newAttendees = Optional.ofNullable(node.getTotalNewAttendees()).orElse(0L)
+                + children.stream().mapToLong(ChurchTreeMetricsDto::getNewAttendees).sum();
+        long attended = Optional.ofNullable(node.getTotalPeopleAttended()).orElse(0L)
+                + children.stream().mapToLong(ChurchTreeMetricsDto::getTotalPeopleAttended).sum();
+        long totalMeetings = meetings
+                + children.stream().mapToLong(ChurchTreeMetricsDto::getTotalMeetings).sum();
+        long totalPeople = people
+                + children.stream().mapToLong(ChurchTreeMetricsDto::getTotalPeople).sum();
+        long expectedAttendances = meetings * people
+                + children.stream().mapToLong(ChurchTreeMetricsDto::getExpectedAttendances).sum();
+        int totalChurches = 1
+                + children.stream().mapToInt(ChurchTreeMetricsDto::getTotalChurches).sum();
+
+        double attendanceRate = expectedAttendances == 0 ? 0.0 : attended / (double) expectedAttendances * 100.0;
+        ChurchTreeMetricsDto subtree = ChurchTreeMetricsDto.builder()
+                .churchId(node.getId())
+                .totalChurches(totalChurches)
+                .expectedAttendances(expectedAttendances)
+                .newAttendees(newAttendees)
+                .totalPeopleAttended(attended)
+                .totalMeetings(totalMeetings)
+                .totalPeople(totalPeople)
+                .averageAttendancePerMeeting(totalMeetings == 0 ? 0.0 : attended / (double) totalMeetings)
+                .attendanceRate(attendanceRate)
+                .absenceRate(100.0 - attendanceRate)
+                .children(children.stream().map(ChurchTreeMetricsServiceImpl::withoutChildren).toList())
+                .build();
+
+        subtrees.put(node.getId(), subtree);
+        computed.add(subtree);
+        return subtree;
+    }
+
+    /**
+     * Children are listed one level deep only, so a cached subtree stays small regardless of tree depth.
+     */
+    private static ChurchTreeMetricsDto withoutChildren(ChurchTreeMetricsDto subtree) {
+        if (Objects.isNull(subtree.getChildren()) || subtree.getChildren().isEmpty()) {
+            return subtree;
+        }
+        return ChurchTreeMetricsDto.builder()
+                .churchId(subtree.getChurchId())
+                .totalChurches(subtree.getTotalChurches())
+                .expectedAttendances(subtree.getExpectedAttendances())
+                .newAttendees(subtree.getNewAttendees())
+                .totalPeopleAttended(subtree.getTotalPeopleAttended())
+                .totalMeetings(subtree.getTotalMeetings())
+                .totalPeople(subtree.getTotalPeople())
+                .averageAttendancePerMeeting(subtree.getAverageAttendancePerMeeting())
+                .attendanceRate(subtree.getAttendanceRate())
+                .absenceRate(subtree.getAbsenceRate())
+                .children(List.of())
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.viddefe.viddefe_api.worship_meetings.application;
 import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
 import com.viddefe.viddefe_api.homeGroups.contracts.HomeGroupReader;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.contracts.*;
 import com.viddefe.viddefe_api.worship_meetings.domain.repository.MeetingRepository;
@@ -11,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -40,6 +42,8 @@ public class MeetingFacadeImpl implements MeetingFacade {
     private final GroupMeetingService groupMeetingService;
     private final AttendanceService attendanceService;
     private final MetricsReportingService metricsReportingService;
+    private final ChurchTreeMetricsService churchTreeMetricsService;
+    private final MetricsSeriesService metricsSeriesService;
 
     // ==================== CREATE ====================
 
@@ -103,6 +107,11 @@ public class MeetingFacadeImpl implements MeetingFacade {
         return attendanceService.updateAttendance(dto, eventType);
     }
 
+    @Override
+    public RollCallResultDto recordRollCall(UUID meetingId, RollCallDto dto, TopologyEventType eventType) {
+        return attendanceService.recordRollCall(meetingId, dto, eventType);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<AttendanceDto> getAttendance(UUID meetingId, TopologyEventType eventType, Pageable pageable, UUID contextId, AttendanceQualityEnum levelOfAttendance) {
@@ -110,6 +119,9 @@ public class MeetingFacadeImpl implements MeetingFacade {
     }
 
     /**
+     * Sin transacción propia: las consultas se reparten en {@link MetricsQueryExecutor}, cada una con la suya,
+     * y una transacción exterior retendría una conexión más mientras esperan.
+     *
      * @param contextId The ID of the context (e.g., church or group)
      * @param eventType The type of topology event {@link TopologyEventType}
      * @param startTime The start time for the metrics retrieval
@@ -117,10 +129,36 @@ public class MeetingFacadeImpl implements MeetingFacade {
      * @return MetricsAttendanceDto containing attendance metrics {@link MetricsAttendanceDto}
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MetricsAttendanceDto getMetricsAttendance(UUID contextId, TopologyEventType eventType, OffsetDateTime startTime, OffsetDateTime endTime) {
        return resolveMetricsByEventType(contextId, eventType, startTime, endTime);
     }
 
+    /**
+     * @param churchId  root of the church tree
+     * @param startTime The start time for the metrics retrieval
+     * @param endTime   The end time for the metrics retrieval
+     * @return worship metrics aggregated over the whole tree {@link ChurchTreeMetricsDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChurchTreeMetricsDto getChurchTreeMetrics(UUID churchId, OffsetDateTime startTime, OffsetDateTime endTime) {
+        return churchTreeMetricsService.getChurchTreeMetrics(churchId, startTime, endTime);
+    }
+
+    /**
+     * @param contextId   The ID of the context (e.g., church or group)
+     * @param eventType   The type of topology event {@link TopologyEventType}
+     * @param granularity The size of each bucket {@link MetricsGranularity}
+     * @return one point per bucket of the range {@link MetricsSeriesPointDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MetricsSeriesPointDto> getMetricsSeries(UUID contextId, TopologyEventType eventType, MetricsGranularity granularity,
+                                                        OffsetDateTime startTime, OffsetDateTime endTime) {
+        return metricsSeriesService.getAttendanceSeries(contextId, eventType, granularity, startTime, endTime);
+    }
+
     private MetricsAttendanceDto resolveMetricsByEventType(UUID contextId, TopologyEventType eventType, OffsetDateTime startTime, OffsetDateTime endTime) {
         return metricsReportingService.getAttendanceMetrics(contextId, eventType, startTime, endTime);
     }
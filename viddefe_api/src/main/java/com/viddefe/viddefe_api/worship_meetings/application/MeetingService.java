@@ -1,13 +1,18 @@
 package com.viddefe.viddefe_api.worship_meetings.application;
 
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
 import com.viddefe.viddefe_api.worship_meetings.domain.repository.MeetingRepository;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PeopleAttendanceEventDto;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,9 +29,17 @@ import java.util.UUID;
 public class MeetingService {
 
     private final MeetingRepository repository;
+    private final AttendanceRollupService attendanceRollupService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public MeetingService(MeetingRepository repository) {
+    public MeetingService(
+            MeetingRepository repository,
+            AttendanceRollupService attendanceRollupService,
+            ApplicationEventPublisher applicationEventPublisher
+    ) {
         this.repository = repository;
+        this.attendanceRollupService = attendanceRollupService;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     /**
@@ -40,9 +53,17 @@ public class MeetingService {
 
     /**
      * Actualiza una reunión existente.
+     * Si la fecha cambió de día, mueve su asistencia entre los rollups diarios.
      */
     public Meeting update(Meeting meeting) {
-        return repository.save(meeting);
+        OffsetDateTime previousDate = meeting.getLoadedScheduledDate();
+        Meeting saved = repository.save(meeting);
+        if (previousDate != null && !previousDate.isEqual(saved.getScheduledDate())) {
+            attendanceRollupService.refreshMeetingBucket(saved, previousDate);
+            attendanceRollupService.refreshMeetingBucket(saved, saved.getScheduledDate());
+            publishAttendanceChanged(saved, List.of(previousDate, saved.getScheduledDate()));
+        }
+        return saved;
     }
 
     /**
@@ -78,10 +99,29 @@ public class MeetingService {
 
 
     /**
-     * Elimina una reunión.
+     * Elimina una reunión y recalcula el rollup diario de su contexto.
      */
     public void delete(UUID id) {
+        Optional<Meeting> meeting = repository.findById(id);
         repository.deleteById(id);
+        meeting.ifPresent(deleted -> {
+            attendanceRollupService.refreshMeetingBucket(deleted, deleted.getScheduledDate());
+            publishAttendanceChanged(deleted, List.of(deleted.getScheduledDate()));
+        });
+    }
+
+    /**
+     * Notifica que la asistencia contabilizada del contexto de la reunión cambió.
+     */
+    private void publishAttendanceChanged(Meeting meeting, List<OffsetDateTime> scheduledDates) {
+        boolean isGroupMeeting = meeting.getGroup() != null;
+        applicationEventPublisher.publishEvent(PeopleAttendanceEventDto.builder()
+                .meetingId(meeting.getId())
+                .contextId(isGroupMeeting ? meeting.getGroup().getId() : meeting.getChurch().getId())
+                .eventType(isGroupMeeting ? TopologyEventType.GROUP_MEETING : TopologyEventType.TEMPLE_WORHSIP)
+                .churchId(meeting.getChurch().getId())
+                .scheduledDates(scheduledDates)
+                .build());
     }
 }
 
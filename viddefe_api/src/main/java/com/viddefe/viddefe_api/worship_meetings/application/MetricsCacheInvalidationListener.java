@@ -0,0 +1,112 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchUpdatedEvent;
+import com.viddefe.viddefe_api.homeGroups.infrastructure.dto.HomeGroupMembershipChangedEvent;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.ChurchTreeMetricsService;
+import com.viddefe.viddefe_api.worship_meetings.contracts.MetricsSeriesService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PeopleAttendanceEventDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsNearCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Invalida las métricas cacheadas cuando cambia la asistencia de un contexto.
+ *
+ * <p>Además del propio contexto, invalida los reportes que lo agregan:
+ * la iglesia dueña de un grupo, la iglesia padre de una iglesia hija y los subárboles
+ * de todos sus ancestros. De las series del contexto solo caen los periodos de las fechas afectadas.</p>
+ *
+ * <p>El árbol de iglesias también agrega la estructura y el número de personas de cada iglesia, así que
+ * crear, mover o eliminar una iglesia o una persona invalida el camino de sus iglesias antes y después
+ * del cambio. Por el mismo motivo ({@code totalPeople} y la tasa de asistencia) se suben las versiones
+ * de esas iglesias y de sus iglesias madre, y las del grupo y su iglesia cuando cambian sus miembros.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricsCacheInvalidationListener {
+    private final MetricsNearCache metricsNearCache;
+    private final ChurchLookup churchLookup;
+    private final ChurchTreeMetricsService churchTreeMetricsService;
+    private final MetricsSeriesService metricsSeriesService;
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void invalidateMetrics(PeopleAttendanceEventDto event) {
+        metricsNearCache.bumpVersion(event.getEventType(), event.getContextId());
+        metricsSeriesService.invalidateBuckets(event.getContextId(), event.getEventType(), event.getScheduledDates());
+        if (event.getChurchId() == null) return;
+
+        switch (event.getEventType()) {
+            case GROUP_MEETING ->
+                    metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, event.getChurchId());
+            case TEMPLE_WORHSIP -> {
+                churchTreeMetricsService.invalidateAncestorPath(event.getChurchId());
+                ChurchModel parentChurch = churchLookup.getChurchById(event.getChurchId()).getParentChurch();
+                if (parentChurch != null) {
+                    metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, parentChurch.getId());
+                }
+            }
+        }
+        log.debug("Metrics cache invalidated | contextId={} eventType={}", event.getContextId(), event.getEventType());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChurchUpdated(ChurchUpdatedEvent event) {
+        Stream.of(event.churchId(), event.parentChurchId(), event.previousParentChurchId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(churchId -> {
+                    // The reports of the parents list their child churches
+                    metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+                    churchTreeMetricsService.invalidateAncestorPath(churchId);
+                });
+        log.debug("Metrics cache invalidated | churchId={}", event.churchId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPersonUpdated(PersonUpdatedEvent event) {
+        Stream.of(event.churchId(), event.previousChurchId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(churchId -> {
+                    bumpChurchAndParent(churchId);
+                    churchTreeMetricsService.invalidateAncestorPath(churchId);
+                });
+        log.debug("Metrics cache invalidated | personId={}", event.personId());
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeGroupMembershipChanged(HomeGroupMembershipChangedEvent event) {
+        metricsNearCache.bumpVersion(TopologyEventType.GROUP_MEETING, event.homeGroupId());
+        metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, event.churchId());
+        log.debug("Metrics cache invalidated | homeGroupId={}", event.homeGroupId());
+    }
+
+    /**
+     * The parent comes from the ancestor path, which is empty once the church is deleted:
+     * its former parent was already bumped through {@link ChurchUpdatedEvent}.
+     */
+    private void bumpChurchAndParent(UUID churchId) {
+        metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+        List<UUID> path = churchLookup.findAncestorPathIds(churchId);
+        if (path.size() > 1) {
+            metricsNearCache.bumpVersion(TopologyEventType.TEMPLE_WORHSIP, path.get(path.size() - 2));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en paralelo las consultas independientes de los reportes de métricas.
+ *
+ * <p>Cada consulta corre en un hilo virtual dentro de su propia transacción de solo lectura.
+ * El número de consultas simultáneas se deriva del tamaño del pool de conexiones (un tercio),
+ * así un pico de reportes no deja sin conexiones al resto de la API. Quien reparte consultas aquí
+ * no debe tener a su vez una transacción abierta: retendría otra conexión mientras espera.</p>
+ */
+@Component
+public class MetricsQueryExecutor {
+
+    private static final int POOL_SHARE_DIVISOR = 3;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final SimpleAsyncTaskExecutor executor;
+
+    public MetricsQueryExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = new SimpleAsyncTaskExecutor("metrics-query-");
+        this.executor.setVirtualThreads(true);
+        this.executor.setConcurrencyLimit(concurrencyLimit(maximumPoolSize));
+    }
+
+    /**
+     * Consultas simultáneas permitidas con un pool de {@code maximumPoolSize} conexiones.
+     */
+    static int concurrencyLimit(int maximumPoolSize) {
+        return Math.max(1, maximumPoolSize / POOL_SHARE_DIVISOR);
+    }
+
+    /**
+     * Lanza la consulta en segundo plano.
+     * Las consultas que dependen entre sí deben ir en el mismo supplier: encadenarlas desde
+     * otro hilo del executor podría bloquearlo esperando un cupo que él mismo ocupa.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(
+                () -> readOnlyTransaction.execute(status -> query.get()),
+                executor
+        );
+    }
+
+    /**
+     * Espera el resultado propagando la excepción original para que la maneje GlobalExceptionHandler.
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -3,32 +3,43 @@ package com.viddefe.viddefe_api.worship_meetings.application;
 import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
 import com.viddefe.viddefe_api.homeGroups.contracts.HomeGroupReader;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MetricsReportingService;
-import com.viddefe.viddefe_api.worship_meetings.domain.repository.MeetingRepository;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ContextMetricsDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.EntityIdWithTotalPeople;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricAttendanceProjectionRow;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsAttendanceDto;
-import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsRedisAdapter;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsNearCache;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsVersionKey;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MetricsReportingServiceImpl implements MetricsReportingService {
-    private final MeetingRepository meetingRepository;
+    private final AttendanceRollupService attendanceRollupService;
     private final HomeGroupReader homeGroupReader;
     private final ChurchLookup churchLookup;
-    private final MetricsRedisAdapter metricsRedisAdapter;
-    private final static Integer MINUTES_CACHE = 5;
+    private final MetricsNearCache metricsNearCache;
+    private final MetricsQueryExecutor metricsQueryExecutor;
+    /**
+     * Las entradas se invalidan por versión al registrar asistencia, el TTL solo limpia las huérfanas.
+     */
+    private final static Duration METRICS_CACHE_TTL = Duration.ofHours(6);
     TopologyEventType templeType = TopologyEventType.TEMPLE_WORHSIP;
     TopologyEventType groupType = TopologyEventType.GROUP_MEETING;
 
@@ -37,61 +48,51 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
             OffsetDateTime startTime,
             OffsetDateTime endTime
     ) {
-
-        List<EntityIdWithTotalPeople> groupIdWithTotalPeople =
-                Optional.ofNullable(
-                        homeGroupReader.findAllIdsWithTotalPeopleByChurchId(churchId)
-                ).orElse(List.of());
-        System.out.println("TOTAL GROUPS FOUND: " + groupIdWithTotalPeople.size());
-        System.out.println("TOTAL PEOPLE FOUND: " +
-                groupIdWithTotalPeople.stream()
-                        .mapToLong(EntityIdWithTotalPeople::getTotalPeople)
-                        .sum()
+        // Cuatro cadenas independientes: la latencia es la de la más lenta, no la suma
+        CompletableFuture<ContextsMetrics> groupsFuture = metricsQueryExecutor.supply(
+                () -> loadGroupsMetrics(churchId, startTime, endTime)
+        );
+        CompletableFuture<ContextsMetrics> childrenFuture = metricsQueryExecutor.supply(
+                () -> loadChildrenChurchesMetrics(churchId, startTime, endTime)
+        );
+        CompletableFuture<EntityIdWithTotalPeople> churchTotalFuture = metricsQueryExecutor.supply(
+                () -> churchLookup.findChurchIdWithTotalPeopleByChurchId(churchId)
+        );
+        CompletableFuture<List<MetricAttendanceProjectionRow>> churchRowsFuture = metricsQueryExecutor.supply(
+                () -> attendanceRollupService.findRangeMetrics(
+                        List.of(churchId),
+                        templeType,
+                        startTime,
+                        endTime
+                )
         );
-        List<EntityIdWithTotalPeople> childrenIdsWithTotalPeople =
-                Optional.ofNullable(
-                        churchLookup.findChildrenIdsWithTotalPeopleChurchIdsByChurchId(churchId)
-                ).orElse(List.of());
-
-        EntityIdWithTotalPeople churchIdWithTotalPeople =
-                churchLookup.findChurchIdWithTotalPeopleByChurchId(churchId);
-
-        List<UUID> groupIds = groupIdWithTotalPeople.stream()
-                .map(EntityIdWithTotalPeople::getEntityId)
-                .toList();
-
-        List<UUID> childrenChurchIds = childrenIdsWithTotalPeople.stream()
-                .map(EntityIdWithTotalPeople::getEntityId)
-                .toList();
-
-        Map<UUID, Long> groupTotalPeopleMap =
-                groupIdWithTotalPeople.stream()
-                        .collect(Collectors.toMap(
-                                EntityIdWithTotalPeople::getEntityId,
-                                EntityIdWithTotalPeople::getTotalPeople
-                        ));
 
-        Map<UUID, Long> childrenChurchTotalPeopleMap =
-                childrenIdsWithTotalPeople.stream()
-                        .collect(Collectors.toMap(
-                                EntityIdWithTotalPeople::getEntityId,
-                                EntityIdWithTotalPeople::getTotalPeople
-                        ));
-        long churchTotalPeople = churchIdWithTotalPeople.getTotalPeople();
+        ContextsMetrics groups = MetricsQueryExecutor.join(groupsFuture);
+        ContextsMetrics children = MetricsQueryExecutor.join(childrenFuture);
+        List<ContextMetricsDto> churchesMetrics = children.metrics();
+        long churchTotalPeople = MetricsQueryExecutor.join(churchTotalFuture).getTotalPeople();
+        log.debug("Church metrics | churchId={} groups={} childChurches={}",
+                churchId, groups.totalContexts(), churchesMetrics.size());
+
+        // Una sola escritura por petición para las métricas de grupos e iglesias hijas,
+        // con las versiones leídas antes de calcularlas
+        Map<MetricsVersionKey, Long> versions = new HashMap<>(groups.versions());
+        versions.putAll(children.versions());
+        metricsNearCache.putAll(
+                Stream.concat(groups.metrics().stream(), churchesMetrics.stream()).toList(),
+                versions,
+                startTime,
+                endTime,
+                METRICS_CACHE_TTL
+        );
 
         // ================== CHURCH METRICS ==================
         MetricsAttendanceDto churchMetrics =
-                meetingRepository
-                        .getMetricsWorshipAttendanceByInId(
-                                List.of(churchId),
-                                templeType,
-                                startTime,
-                                endTime
-                        )
+                MetricsQueryExecutor.join(churchRowsFuture)
                         .stream()
                         .map(
                                 row ->
-                                        buildFromProjection(templeType,row, churchTotalPeople, startTime, endTime))
+                                        buildFromProjection(row, churchTotalPeople))
                         .findFirst()
                         .orElseGet(() -> MetricsAttendanceDto.builder()
                                 .newAttendees(0L)
@@ -103,12 +104,60 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
                                 .build()
                         );
 
+        MetricsAttendanceDto groupedMetric =
+                buildFromListOfMetrics(groups.metrics().stream().map(ContextMetricsDto::metrics).toList());
+
+        MetricsAttendanceDto churchesMetric =
+                buildFromListOfMetrics(churchesMetrics.stream().map(ContextMetricsDto::metrics).toList());
+
+        // ================== FINAL DTO ==================
+        return ChurchMetricsDto.builder()
+                .totalGroups(groups.totalContexts())
+                .newAttendees(churchMetrics.getNewAttendees())
+                .groupMetrics(groupedMetric)
+                .churchMetrics(churchesMetric)
+                .attendanceRate(churchMetrics.getAttendanceRate())
+                .absenceRate(churchMetrics.getAbsenceRate())
+                .totalMeetings(churchMetrics.getTotalMeetings())
+                .averageAttendancePerMeeting(churchMetrics.getAverageAttendancePerMeeting())
+                .totalPeopleAttended(churchMetrics.getTotalPeopleAttended())
+                .totalPeople(churchTotalPeople)
+                .build();
+    }
+
+    /**
+     * Metrics of every group of the church. The group ids come from the first query,
+     * so both run sequentially inside the same task; the cache versions are read in between.
+     */
+    private ContextsMetrics loadGroupsMetrics(
+            UUID churchId,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {
+        List<EntityIdWithTotalPeople> groupIdWithTotalPeople =
+                Optional.ofNullable(
+                        homeGroupReader.findAllIdsWithTotalPeopleByChurchId(churchId)
+                ).orElse(List.of());
+
+        List<UUID> groupIds = groupIdWithTotalPeople.stream()
+                .map(EntityIdWithTotalPeople::getEntityId)
+                .toList();
+
+        Map<UUID, Long> groupTotalPeopleMap =
+                groupIdWithTotalPeople.stream()
+                        .collect(Collectors.toMap(
+                                EntityIdWithTotalPeople::getEntityId,
+                                EntityIdWithTotalPeople::getTotalPeople
+                        ));
+
+        Map<MetricsVersionKey, Long> versions = metricsNearCache.currentVersions(versionKeys(groupType, groupIds));
+
         // ================== GROUP METRICS ==================
-        List<MetricsAttendanceDto> groupsMetrics =
+        List<ContextMetricsDto> groupsMetrics =
                 groupIds.isEmpty()
                         ? List.of()
-                        : meetingRepository
-                        .getMetricsGroupAttendanceByInId(
+                        : attendanceRollupService
+                        .findRangeMetrics(
                                 groupIds,
                                 groupType,
                                 startTime,
@@ -116,71 +165,93 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
                         )
                         .stream()
                         .map(row ->
-                                buildFromProjection(
+                                new ContextMetricsDto(
                                         groupType,
-                                        row,
-                                        groupTotalPeopleMap.getOrDefault(row.getId(), 0L),
-                                        startTime,
-                                        endTime
+                                        row.getId(),
+                                        buildFromProjection(
+                                                row,
+                                                groupTotalPeopleMap.getOrDefault(row.getId(), 0L)
+                                        )
                                 )
                         )
                         .toList();
 
+        return new ContextsMetrics(groupIds.size(), groupsMetrics, versions);
+    }
+
+    /**
+     * Worship metrics of every direct child church. The child ids come from the first query,
+     * so both run sequentially inside the same task; the cache versions are read in between.
+     */
+    private ContextsMetrics loadChildrenChurchesMetrics(
+            UUID churchId,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {
+        List<EntityIdWithTotalPeople> childrenIdsWithTotalPeople =
+                Optional.ofNullable(
+                        churchLookup.findChildrenIdsWithTotalPeopleChurchIdsByChurchId(churchId)
+                ).orElse(List.of());
+
+        List<UUID> childrenChurchIds = childrenIdsWithTotalPeople.stream()
+                .map(EntityIdWithTotalPeople::getEntityId)
+                .toList();
+
+        Map<UUID, Long> childrenChurchTotalPeopleMap =
+                childrenIdsWithTotalPeople.stream()
+                        .collect(Collectors.toMap(
+                                EntityIdWithTotalPeople::getEntityId,
+                                EntityIdWithTotalPeople::getTotalPeople
+                        ));
+
+        Map<MetricsVersionKey, Long> versions =
+                metricsNearCache.currentVersions(versionKeys(templeType, childrenChurchIds));
+
         // ================== CHILD CHURCH METRICS ==================
-        List<MetricsAttendanceDto> churchesMetrics =
-                childrenChurchIds.isEmpty()
-                        ? List.of()
-                        : meetingRepository
-                        .getMetricsWorshipAttendanceByInId(
-                                childrenChurchIds,
+        List<ContextMetricsDto> childrenMetrics = childrenChurchIds.isEmpty()
+                ? List.of()
+                : attendanceRollupService
+                .findRangeMetrics(
+                        childrenChurchIds,
+                        templeType,
+                        startTime,
+                        endTime
+                )
+                .stream()
+                .map(row ->
+                        new ContextMetricsDto(
                                 templeType,
-                                startTime,
-                                endTime
-                        )
-                        .stream()
-                        .map(row ->
+                                row.getId(),
                                 buildFromProjection(
-                                        templeType,
                                         row,
-                                        childrenChurchTotalPeopleMap.getOrDefault(row.getId(), 0L),
-                                        startTime,
-                                        endTime
+                                        childrenChurchTotalPeopleMap.getOrDefault(row.getId(), 0L)
                                 )
                         )
-                        .toList();
-
-        MetricsAttendanceDto groupedMetric =
-                buildFromListOfMetrics(groupsMetrics);
+                )
+                .toList();
 
-        MetricsAttendanceDto churchesMetric =
-                buildFromListOfMetrics(churchesMetrics);
+        return new ContextsMetrics(childrenChurchIds.size(), childrenMetrics, versions);
+    }
 
-        // ================== FINAL DTO ==================
-        return ChurchMetricsDto.builder()
-                .totalGroups(groupIds.size())
-                .newAttendees(churchMetrics.getNewAttendees())
-                .groupMetrics(groupedMetric)
-                .churchMetrics(churchesMetric)
-                .attendanceRate(churchMetrics.getAttendanceRate())
-                .absenceRate(churchMetrics.getAbsenceRate())
-                .totalMeetings(churchMetrics.getTotalMeetings())
-                .averageAttendancePerMeeting(churchMetrics.getAverageAttendancePerMeeting())
-                .totalPeopleAttended(churchMetrics.getTotalPeopleAttended())
-                .totalPeople(churchTotalPeople)
-                .build();
+    private static List<MetricsVersionKey> versionKeys(TopologyEventType eventType, List<UUID> contextIds) {
+        return contextIds.stream().map(id -> new MetricsVersionKey(eventType, id)).toList();
     }
 
+    private record ContextsMetrics(
+            int totalContexts,
+            List<ContextMetricsDto> metrics,
+            Map<MetricsVersionKey, Long> versions
+    ) {}
+
     private MetricsAttendanceDto buildingGroupMetrics(
             UUID groupId,
             OffsetDateTime startTime,
             OffsetDateTime endTime
     ) {
-        System.out.println("Building group metrics for groupId: " + groupId);
-        System.out.println("DEBUGING");
         Long totalPeople =
                 homeGroupReader.findTotalPeopleByGroupId(groupId);
-        System.out.println("Total people: " + totalPeople);
-        return meetingRepository.getMetricsGroupAttendanceByInId(
+        log.debug("Group metrics | groupId={} totalPeople={}", groupId, totalPeople);
+        return attendanceRollupService.findRangeMetrics(
                         List.of(groupId),
                         groupType,
                         startTime,
@@ -189,8 +260,7 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
                 .stream()
                 .map(
                         row ->
-                                buildFromProjection(groupType,row, totalPeople, startTime, endTime
-                                ))
+                                buildFromProjection(row, totalPeople))
                 .findFirst()
                 .orElseGet(
                         () -> MetricsAttendanceDto.builder()
@@ -254,24 +324,22 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
                 .build();
     }
 
-    private MetricsAttendanceDto buildFromProjection(
-            TopologyEventType eventType,
-            MetricAttendanceProjectionRow row, Long totalPeople,
-            OffsetDateTime startTime, OffsetDateTime endTime
-    ) {
-        printRow(row);
+    private MetricsAttendanceDto buildFromProjection(MetricAttendanceProjectionRow row, Long totalPeople) {
+        log.trace("Metrics row | id={} newAttendees={} peopleAttended={} meetings={}",
+                row.getId(), row.getTotalNewAttendees(), row.getTotalPeopleAttended(), row.getTotalMeetings());
         long totalAttended = Optional.ofNullable(row.getTotalPeopleAttended()).orElse(0L);
         long newAttendees  = Optional.ofNullable(row.getTotalNewAttendees()).orElse(0L);
 
+        double averageAttendancePerMeeting =
+                row.getTotalMeetings() == 0 ? 0.0 :
+                        totalAttended / (double) row.getTotalMeetings();
+
+        // totalAttended suma asistentes distintos por día, por lo que la tasa se mide por reunión
         double attendanceRate =
                 totalPeople == 0 ? 0.0 :
-                        (row.getTotalPeopleAttended() / (double) totalPeople) * 100.0;
+                        (averageAttendancePerMeeting / totalPeople) * 100.0;
         double absenceRate = 100.0 - attendanceRate;
 
-        double averageAttendancePerMeeting =
-                row.getTotalMeetings() == 0 ? 0.0 :
-                        row.getTotalPeopleAttended() / (double) row.getTotalMeetings();
-
         MetricsAttendanceDto result = MetricsAttendanceDto.builder()
                 .newAttendees(newAttendees)
                 .totalPeopleAttended(totalAttended)
@@ -281,30 +349,11 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
                 .absenceRate(absenceRate)
                 .totalPeople(totalPeople)
                 .build();
-        System.out.println("Storing in cache for ID: " + row.getId());
-        System.out.println(result);
-        metricsRedisAdapter.saveMetrics(
-                eventType,
-                row.getId(),
-                result,
-                Duration.ofMinutes(MINUTES_CACHE),
-                startTime,
-                endTime
-
-        );
         return result;
     }
 
-    private void printRow(MetricAttendanceProjectionRow row){
-        System.out.println("Row Data: ");
-        System.out.println("ID: " + row.getId());
-        System.out.println("Total New Attendees: " + row.getTotalNewAttendees());
-        System.out.println("Total People Attended: " + row.getTotalPeopleAttended());
-        System.out.println("Total Meetings: " + row.getTotalMeetings());
-    }
-
     /**
-     * Retrieves worship attendance metrics for a specific church, utilizing Redis caching.
+     * Retrieves worship attendance metrics for a specific church, utilizing the in-process and Redis caches.
      *
      * @param churchId  The UUID of the church for which to retrieve metrics.
      * @param startTime The start time for the metrics retrieval.
@@ -316,23 +365,18 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
             OffsetDateTime startTime,
             OffsetDateTime endTime
     ) {
-        MetricsAttendanceDto metricsWorship = metricsRedisAdapter.getMetrics(templeType, churchId, startTime, endTime)
-                .orElseGet(
-                        () -> buildingChurchMetrics(churchId, startTime, endTime)
-                );
-        metricsRedisAdapter.saveMetrics(
+        return metricsNearCache.get(
                 templeType,
                 churchId,
-                metricsWorship,
-                Duration.ofMinutes(MINUTES_CACHE),
                 startTime,
-                endTime
+                endTime,
+                METRICS_CACHE_TTL,
+                () -> buildingChurchMetrics(churchId, startTime, endTime)
         );
-        return metricsWorship;
     }
 
     /**
-     * Retrieves group meeting attendance metrics for a specific group, utilizing Redis caching.
+     * Retrieves group meeting attendance metrics for a specific group, utilizing the in-process and Redis caches.
      *
      * @param groupId   The UUID of the group for which to retrieve metrics.
      * @param startTime The start time for the metrics retrieval.
@@ -344,30 +388,14 @@ public class MetricsReportingServiceImpl implements MetricsReportingService {
             OffsetDateTime startTime,
             OffsetDateTime endTime
     ) {
-        Optional<MetricsAttendanceDto> cached =
-                metricsRedisAdapter.getMetrics(groupType, groupId, startTime, endTime);
-
-        if (cached.isPresent()) {
-            System.out.println("CACHE HIT for groupId: " + groupId);
-            return cached.get();
-        }
-
-        System.out.println("CACHE MISS for groupId: " + groupId);
-
-        MetricsAttendanceDto computed =
-                buildingGroupMetrics(groupId, startTime, endTime);
-
-        metricsRedisAdapter.saveMetrics(
+        return metricsNearCache.get(
                 groupType,
                 groupId,
-                computed,
-                Duration.ofMinutes(MINUTES_CACHE),
                 startTime,
-                endTime
+                endTime,
+                METRICS_CACHE_TTL,
+                () -> buildingGroupMetrics(groupId, startTime, endTime)
         );
-
-        return computed;
-
     }
 
     /**
@@ -0,0 +1,200 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.homeGroups.contracts.HomeGroupReader;
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import com.viddefe.viddefe_api.worship_meetings.contracts.MetricsSeriesService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesPointDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsRedisAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService.ROLLUP_ZONE;
+
+/**
+ * Series de métricas de asistencia por día, semana o mes.
+ *
+ * <p>Los periodos cerrados (terminados antes de hoy) ya no cambian salvo por una edición tardía,
+ * que invalida solo el periodo de la reunión editada en cada granularidad; se guardan en Redis
+ * por inicio de periodo y granularidad, y solo se recalcula el periodo abierto. Los periodos que faltan
+ * salen de una sola consulta agrupada con {@code date_trunc}.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetricsSeriesServiceImpl implements MetricsSeriesService {
+    private final AttendanceRollupService attendanceRollupService;
+    private final MetricsRedisAdapter metricsRedisAdapter;
+    private final ChurchLookup churchLookup;
+    private final HomeGroupReader homeGroupReader;
+    /**
+     * Un periodo cerrado se invalida explícitamente; el TTL solo acota la memoria de los que ya nadie consulta.
+     */
+    private final static Duration CLOSED_BUCKET_TTL = Duration.ofDays(30);
+    private final static int MAX_BUCKETS = 366;
+
+    @Override
+    public List<MetricsSeriesPointDto> getAttendanceSeries(
+            UUID contextId,
+            TopologyEventType eventType,
+            MetricsGranularity granularity,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {
+        List<LocalDate> bucketStarts = resolveBucketStarts(granularity, startTime, endTime);
+        LocalDate today = LocalDate.now(ROLLUP_ZONE);
+        List<LocalDate> closedBuckets = bucketStarts.stream()
+                .filter(bucketStart -> isClosed(granularity, bucketStart, today))
+                .toList();
+
+        // The version is read before computing; the buckets are only written if no change landed meanwhile
+        long version = metricsRedisAdapter.currentVersion(eventType, contextId);
+        Map<LocalDate, MetricsSeriesPointDto> points = new HashMap<>(
+                metricsRedisAdapter.getSeriesMetrics(eventType, contextId, granularity, closedBuckets)
+        );
+
+        List<LocalDate> missing = bucketStarts.stream()
+                .filter(bucketStart -> !points.containsKey(bucketStart))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<MetricsSeriesPointDto> computed = computeBuckets(contextId, eventType, granularity, missing, today);
+            computed.forEach(point -> points.put(point.getBucketStart(), point));
+            metricsRedisAdapter.saveAllSeriesMetrics(
+                    eventType,
+                    contextId,
+                    version,
+                    granularity,
+                    computed.stream().filter(MetricsSeriesPointDto::getClosed).toList(),
+                    CLOSED_BUCKET_TTL
+            );
+        }
+        log.debug("Metrics series | contextId={} eventType={} granularity={} buckets={} computed={}",
+                contextId, eventType, granularity, bucketStarts.size(), missing.size());
+
+        return bucketStarts.stream().map(points::get).toList();
+    }
+
+    @Override
+    public void invalidateBuckets(UUID contextId, TopologyEventType eventType, Collection<OffsetDateTime> scheduledDates) {
+        if (scheduledDates == null || scheduledDates.isEmpty()) return;
+        Map<MetricsGranularity, Set<LocalDate>> bucketStarts = new EnumMap<>(MetricsGranularity.class);
+        for (MetricsGranularity granularity : MetricsGranularity.values()) {
+            bucketStarts.put(granularity, scheduledDates.stream()
+                    .map(date -> granularity.truncate(date.atZoneSameInstant(ROLLUP_ZONE).toLocalDate()))
+                    .collect(Collectors.toSet()));
+        }
+        metricsRedisAdapter.evictSeriesBuckets(eventType, contextId, bucketStarts);
+        log.debug("Metrics series invalidated | contextId={} eventType={} dates={}", contextId, eventType, scheduledDates);
+    }
+
+    private List<LocalDate> resolveBucketStarts(
+            MetricsGranularity granularity,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {
+        LocalDate firstBucket = granularity.truncate(startTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate());
+        LocalDate lastBucket = granularity.truncate(endTime.atZoneSameInstant(ROLLUP_ZONE).toLocalDate());
+        if (lastBucket.isBefore(firstBucket)) {
+            throw new IllegalArgumentException("La fecha final debe ser posterior a la fecha inicial");
+        }
+
+        List<LocalDate> bucketStarts = new ArrayList<>();
+        for (LocalDate bucketStart = firstBucket; !bucketStart.isAfter(lastBucket); bucketStart = granularity.next(bucketStart)) {
+            if (bucketStarts.size() == MAX_BUCKETS) {
+                throw new IllegalArgumentException("La serie no puede tener más de " + MAX_BUCKETS + " periodos");
+            }
+            bucketStarts.add(bucketStart);
+        }
+        return bucketStarts;
+    }
+
+    /**
+     * Computes the missing buckets with one grouped query spanning from the first to the last of them.
+     */
+    private List<MetricsSeriesPointDto> computeBuckets(
+            UUID contextId,
+            TopologyEventType eventType,
+            MetricsGranularity granularity,
+            List<LocalDate> missing,
+            LocalDate today
+    ) {
+        LocalDate fromDay = missing.getFirst();
+        LocalDate toDay = granularity.next(missing.getLast()).minusDays(1);
+        Map<LocalDate, MetricsSeriesRow> rows = attendanceRollupService
+                .findSeriesMetrics(contextId, eventType, granularity, fromDay, toDay)
+                .stream()
+                .collect(Collectors.toMap(MetricsSeriesRow::getBucketStart, Function.identity()));
+        long totalPeople = resolveTotalPeople(contextId, eventType);
+
+        return missing.stream()
+                .map(bucketStart -> buildPoint(
+                        granularity,
+                        bucketStart,
+                        rows.get(bucketStart),
+                        totalPeople,
+                        isClosed(granularity, bucketStart, today)
+                ))
+                .toList();
+    }
+
+    private long resolveTotalPeople(UUID contextId, TopologyEventType eventType) {
+        Long totalPeople = switch (eventType) {
+            case TEMPLE_WORHSIP -> churchLookup.findChurchIdWithTotalPeopleByChurchId(contextId).getTotalPeople();
+            case GROUP_MEETING -> homeGroupReader.findTotalPeopleByGroupId(contextId);
+        };
+        return Optional.ofNullable(totalPeople).orElse(0L);
+    }
+
+    private MetricsSeriesPointDto buildPoint(
+            MetricsGranularity granularity,
+            LocalDate bucketStart,
+            MetricsSeriesRow row,
+            long totalPeople,
+            boolean closed
+    ) {
+        Optional<MetricsSeriesRow> bucket = Optional.ofNullable(row);
+        long totalAttended = bucket.map(MetricsSeriesRow::getTotalPeopleAttended).orElse(0L);
+        long newAttendees = bucket.map(MetricsSeriesRow::getTotalNewAttendees).orElse(0L);
+        long totalMeetings = bucket.map(MetricsSeriesRow::getTotalMeetings).orElse(0L);
+
+        double averageAttendancePerMeeting = totalMeetings == 0 ? 0.0 : totalAttended / (double) totalMeetings;
+        // Misma base que el reporte por rango: asistentes distintos por reunión sobre el total de personas
+        double attendanceRate = totalPeople == 0 ? 0.0 : (averageAttendancePerMeeting / totalPeople) * 100.0;
+
+        return MetricsSeriesPointDto.builder()
+                .bucketStart(bucketStart)
+                .bucketEnd(granularity.next(bucketStart).minusDays(1))
+                .closed(closed)
+                .newAttendees(newAttendees)
+                .totalPeopleAttended(totalAttended)
+                .totalMeetings(totalMeetings)
+                .averageAttendancePerMeeting(averageAttendancePerMeeting)
+                .attendanceRate(attendanceRate)
+                .absenceRate(100.0 - attendanceRate)
+                .totalPeople(totalPeople)
+                .build();
+    }
+
+    private static boolean isClosed(MetricsGranularity granularity, LocalDate bucketStart, LocalDate today) {
+        return !granularity.next(bucketStart).isAfter(today);
+    }
+}
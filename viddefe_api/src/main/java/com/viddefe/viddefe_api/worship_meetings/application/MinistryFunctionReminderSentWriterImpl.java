@@ -3,10 +3,17 @@ package com.viddefe.viddefe_api.worship_meetings.application;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MinistryFunctionReminderSentWriter;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.MinistryFunction;
 import com.viddefe.viddefe_api.worship_meetings.domain.repository.MinistryFunctionRepository;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryFunctionKeyRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryReminderKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -18,4 +25,29 @@ public class MinistryFunctionReminderSentWriterImpl implements MinistryFunctionR
         ministryFunction.setReminderSentAt(Instant.now());
         ministryFunctionRepository.save(ministryFunction);
     }
+
+    /**
+     * Una consulta de ids y un UPDATE por lote, en lugar de una lectura y un save por recordatorio.
+     */
+    @Override
+    public int writeMinistryFunctionRemindersSent(Collection<MinistryReminderKey> reminders) {
+        if (reminders.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> meetingIds = new HashSet<>();
+        Set<UUID> peopleIds = new HashSet<>();
+        for (MinistryReminderKey reminder : reminders) {
+            meetingIds.add(reminder.meetingId());
+            peopleIds.add(reminder.peopleId());
+        }
+        Set<MinistryReminderKey> wanted = new HashSet<>(reminders);
+        List<UUID> ids = ministryFunctionRepository.findKeys(meetingIds, peopleIds).stream()
+                .filter(row -> wanted.contains(new MinistryReminderKey(row.getMeetingId(), row.getPeopleId())))
+                .map(MinistryFunctionKeyRow::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return ministryFunctionRepository.markRemindersSent(ids, Instant.now());
+    }
 }
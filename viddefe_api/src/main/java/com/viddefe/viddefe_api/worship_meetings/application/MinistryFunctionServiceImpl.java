@@ -2,6 +2,8 @@ package com.viddefe.viddefe_api.worship_meetings.application;
 
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationMeetingEvent;
 import com.viddefe.viddefe_api.notifications.common.Channels;
+import com.viddefe.viddefe_api.notifications.common.MessageTemplate;
+import com.viddefe.viddefe_api.notifications.common.TemplateVariable;
 import com.viddefe.viddefe_api.config.rabbit.RabbitPriority;
 import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
@@ -25,7 +27,9 @@ import org.springframework.stereotype.Service;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -36,7 +40,8 @@ public class MinistryFunctionServiceImpl implements MinistryFunctionService {
     private final PeopleReader peopleReader;
     private final NotificationEventPublisher notificatorPublisher;
     private final MeetingReader meetingReader;
-    private static final String TEMPLATE_ASSIGNED = """
+    private static final Set<AssignmentVariable> ASSIGNMENT_VARIABLES = EnumSet.allOf(AssignmentVariable.class);
+    private static final MessageTemplate TEMPLATE_ASSIGNED = MessageTemplate.compile("""
     Hola {{name}} 👋
     
     Has sido asignado a una función ministerial.
@@ -46,9 +51,9 @@ public class MinistryFunctionServiceImpl implements MinistryFunctionService {
     🗓 Fecha: {{date}}
     
     Gracias por servir 💙
-    """;
+    """, ASSIGNMENT_VARIABLES);
 
-    private static final String TEMPLATE_UPDATED = """
+    private static final MessageTemplate TEMPLATE_UPDATED = MessageTemplate.compile("""
     Hola {{name}} 👋
 
     Tu asignación ministerial ha sido actualizada.
@@ -58,7 +63,7 @@ public class MinistryFunctionServiceImpl implements MinistryFunctionService {
     🗓 Fecha: {{date}}
 
     Por favor revisa los cambios 🙏
-    """;
+    """, ASSIGNMENT_VARIABLES);
 
 
     @Override
@@ -137,22 +142,20 @@ public class MinistryFunctionServiceImpl implements MinistryFunctionService {
         return ministryFunctionTypeReader.findAll().stream().map(MinistryFunctionTypes::toDto).toList();
     }
 
-    private void sendNotification(PeopleResDto person, Meeting meeting, MinistryFunctionTypes role, String template) {
+    private void sendNotification(PeopleResDto person, Meeting meeting, MinistryFunctionTypes role, MessageTemplate template) {
         MeetingDto meetingDto = meeting.toDto();
         NotificationMeetingEvent event = new NotificationMeetingEvent();
         event.setMeetingId(meeting.getId());
         event.setCreatedAt(Instant.now());
         event.setPersonId(person.getId());
-        event.setTemplate(template);
+        event.setTemplate(template.source());
         event.setPriority(RabbitPriority.MEDIUM);
-        event.setVariables(
-                java.util.Map.of(
-                        "name", person.getFirstName() + " " + person.getLastName(),
-                        "date", meetingDto.getScheduledDate().toLocalDate().toString(),
-                        "eventName", meetingDto.getName(),
-                        "role", role.getName()
-                )
-        );
+        event.setVariables(MessageTemplate.variables(ASSIGNMENT_VARIABLES, variable -> switch (variable) {
+            case NAME -> person.getFirstName() + " " + person.getLastName();
+            case DATE -> meetingDto.getScheduledDate().toLocalDate().toString();
+            case EVENT_NAME -> meetingDto.getName();
+            case ROLE -> role.getName();
+        }));
         event.setChannels(Channels.WHATSAPP);
         notificatorPublisher.publish(event);
     }
@@ -191,4 +194,24 @@ public class MinistryFunctionServiceImpl implements MinistryFunctionService {
         return true;
     }
 
+    /**
+     * Variables de las plantillas de asignación; el switch que les da valor debe cubrirlas todas.
+     */
+    private enum AssignmentVariable implements TemplateVariable {
+        NAME("name"),
+        EVENT_NAME("eventName"),
+        ROLE("role"),
+        DATE("date");
+
+        private final String key;
+
+        AssignmentVariable(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+    }
 }
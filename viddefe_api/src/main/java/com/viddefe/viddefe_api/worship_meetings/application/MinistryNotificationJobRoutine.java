@@ -1,35 +1,45 @@
 package com.viddefe.viddefe_api.worship_meetings.application;
 
+import com.viddefe.viddefe_api.common.scheduling.ShardedJobRunner;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationMeetingEvent;
 import com.viddefe.viddefe_api.notifications.common.Channels;
+import com.viddefe.viddefe_api.notifications.common.MessageTemplate;
+import com.viddefe.viddefe_api.notifications.common.TemplateVariable;
 import com.viddefe.viddefe_api.config.rabbit.RabbitPriority;
 import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
-import com.viddefe.viddefe_api.worship_meetings.domain.models.MinistryFunction;
 import com.viddefe.viddefe_api.worship_meetings.domain.repository.MinistryFunctionRepository;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.DueMinistryReminderRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.*;
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ForkJoinPool;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class MinistryNotificationJobRoutine {
     private static final int BATCH_SIZE = 100;
+    private static final String JOB_NAME = "ministry-reminders";
     private final MinistryFunctionRepository ministryFunctionRepository;
-    private static final ForkJoinPool PUBLISH_POOL = new ForkJoinPool(10);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
     private static final Integer DAYS_BEFORE_MEETING = 1;
     private static final Integer HOURS_BEFORE_MEETING = 5; // 5 hours before meeting
-    private final String TEMPLATE_GROUP_MEETING = """
+    private static final Set<ReminderVariable> GROUP_REMINDER_VARIABLES = EnumSet.allOf(ReminderVariable.class);
+    private static final Set<ReminderVariable> WORSHIP_REMINDER_VARIABLES =
+            EnumSet.complementOf(EnumSet.of(ReminderVariable.GROUP_NAME));
+    private static final MessageTemplate TEMPLATE_GROUP_MEETING = MessageTemplate.compile("""
         Hola {{name}} 👋
         Te recordamos que tienes una función ministerial asignada para la próxima reunión de grupo {{groupName}} en la iglesia {{churchName}}.
         📌 Evento: {{eventName}}
@@ -37,8 +47,8 @@ public class MinistryNotificationJobRoutine {
         🗓 Fecha: {{date}}
         Gracias por tu compromiso y servicio 💙
         
-        """;
-    private final String TEMPLATE_WORSHIP_MEETING_REMINDER = """
+        """, GROUP_REMINDER_VARIABLES);
+    private static final MessageTemplate TEMPLATE_WORSHIP_MEETING_REMINDER = MessageTemplate.compile("""
         Hola {{name}} 👋
 
         Te recordamos que tienes una función ministerial asignada para la próxima reunión de adoración en la iglesia {{churchName}}.
@@ -48,109 +58,135 @@ public class MinistryNotificationJobRoutine {
         🗓 Fecha: {{date}}
 
         Gracias por tu compromiso y servicio 💙
-        """;
+        """, WORSHIP_REMINDER_VARIABLES);
     private final NotificationEventPublisher notificationEventPublisher;
+    private final ShardedJobRunner shardedJobRunner;
+    private final int shards;
+    private final Duration lease;
+
+    public MinistryNotificationJobRoutine(
+            MinistryFunctionRepository ministryFunctionRepository,
+            NotificationEventPublisher notificationEventPublisher,
+            ShardedJobRunner shardedJobRunner,
+            @Value("${reminders.ministry.shards:8}") int shards,
+            @Value("${reminders.ministry.lease:19m}") Duration lease
+    ) {
+        this.ministryFunctionRepository = ministryFunctionRepository;
+        this.notificationEventPublisher = notificationEventPublisher;
+        this.shardedJobRunner = shardedJobRunner;
+        this.shards = shards;
+        this.lease = lease;
+    }
 
-    @Scheduled(fixedRate = 6000 * 20 ) // Ejecuta cada hora 6000 ms * 20 = 20 minutes. 6000 ms = 1 minuto
+    /**
+     * Todas las réplicas despiertan a la vez (cron) y se reparten los shards de iglesias; cada shard
+     * lo procesa una sola réplica por periodo, así que no hay envíos duplicados.
+     */
+    @Scheduled(cron = "${reminders.ministry.cron:0 */20 * * * *}")
     @Async
     public void execute() {
-        Pageable pageable = PageRequest.of(0, BATCH_SIZE);
-        Page<MinistryFunction> page;
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        // Recordatorio debido: la reunión empieza entre 5 horas y 1 día desde ahora,
+        // y no se envió ninguno hoy (UTC)
+        OffsetDateTime windowStart = now.plusHours(HOURS_BEFORE_MEETING);
+        OffsetDateTime windowEnd = now.plusDays(DAYS_BEFORE_MEETING);
+        Instant startOfToday = now.truncatedTo(ChronoUnit.DAYS).toInstant();
+
+        List<UUID> churchIds = ministryFunctionRepository
+                .findChurchIdsWithDueReminders(windowStart, windowEnd, startOfToday);
+        if (churchIds.isEmpty()) {
+            return;
+        }
 
-        ZonedDateTime now =
-                ZonedDateTime.now(ZoneId.of("America/Bogota"));
+        shardedJobRunner.run(JOB_NAME, shards, lease, shard -> {
+            List<UUID> shardChurchIds = churchIds.stream()
+                    .filter(churchId -> ShardedJobRunner.shardOf(churchId, shards) == shard)
+                    .toList();
+            if (!shardChurchIds.isEmpty()) {
+                publishDueReminders(shardChurchIds, windowStart, windowEnd, startOfToday);
+            }
+        });
+    }
 
-        OffsetDateTime beforeDateTime =
-                now.minusMonths(3).toOffsetDateTime();
+    private void publishDueReminders(
+            List<UUID> churchIds, OffsetDateTime windowStart, OffsetDateTime windowEnd, Instant startOfToday
+    ) {
+        UUID afterId = FIRST_ID;
+        List<DueMinistryReminderRow> batch;
         do {
-            page = ministryFunctionRepository
-                    .findUpcomingMinistryFunctions(now.toOffsetDateTime(),beforeDateTime,pageable);
-            if (page.isEmpty()) {
+            batch = ministryFunctionRepository.findDueRemindersAfter(
+                    churchIds, windowStart, windowEnd, startOfToday, afterId, Limit.of(BATCH_SIZE));
+            if (batch.isEmpty()) {
                 return;
             }
 
-            processBatch(page.getContent());
-
-            pageable = page.nextPageable();
+            notificationEventPublisher.publishAll(new NotificationEventBatch(
+                    batch.stream().map(this::buildNotificationEvent).toList()));
 
-        } while (page.hasNext());
+            afterId = batch.getLast().getId();
+        } while (batch.size() == BATCH_SIZE);
     }
 
-    private boolean isReminderDue(MinistryFunction function) {
-        OffsetDateTime now = OffsetDateTime.now();
-        OffsetDateTime scheduledDate = function.getMeeting().getScheduledDate();
-
-        // 0. Evento ya pasó → nunca enviar
-        if (scheduledDate.isBefore(now)) {
-            return false;
-        }
-
-        // 1. Ventana de envío
-        OffsetDateTime windowStart = scheduledDate.minusDays(DAYS_BEFORE_MEETING);
-        OffsetDateTime windowEnd   = scheduledDate.minusHours(HOURS_BEFORE_MEETING);
-
-        if (now.isBefore(windowStart) || now.isAfter(windowEnd)) {
-            return false;
-        }
-
-        // 2. No enviar más de una vez el mismo día
-        Instant reminderSentAt = function.getReminderSentAt();
-
-        if (reminderSentAt != null) {
-            LocalDate lastSentDay =
-                    reminderSentAt.atOffset(ZoneOffset.UTC).toLocalDate();
-
-            LocalDate today =
-                    now.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
-
-            return !lastSentDay.equals(today);
-        }
-        return true;
-    }
-
-
-    private void processBatch(List<MinistryFunction> batch) {
-        PUBLISH_POOL.submit(() ->
-                batch.parallelStream()
-                        .filter(this::isReminderDue)
-                        .map(this::buildNotificationEvent)
-                        .forEach(notificationEventPublisher::publish)
-        ).join();
-    }
-
-    private String resolveTemplate(MinistryFunction function) {
-        return switch (function.getEventType()) {
+    private MessageTemplate resolveTemplate(DueMinistryReminderRow reminder) {
+        return switch (reminder.getEventType()) {
             case GROUP_MEETING -> TEMPLATE_GROUP_MEETING;
             case TEMPLE_WORHSIP -> TEMPLATE_WORSHIP_MEETING_REMINDER;
-            default -> throw new IllegalArgumentException("Tipo de evento no soportado: " + function.getEventType());
+            default -> throw new IllegalArgumentException("Tipo de evento no soportado: " + reminder.getEventType());
         };
     }
 
-    private Map<String, Object> resolveVariables(MinistryFunction function) {
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("name", function.getPeople().getFirstName());
-        variables.put("eventName", function.getMeeting().getName());
-        variables.put("role", function.getMinistryFunctionType().getName());
-        variables.put("date", function.getMeeting().getScheduledDate().toString());
-        if(function.getEventType() == TopologyEventType.GROUP_MEETING) {
-            variables.put("groupName", function.getMeeting().getGroup().getName());
-        }
-        variables.put("churchName", function.getMeeting().getChurch().getName());
-        return variables;
+    /**
+     * Same set the template of the reminder was compiled against.
+     */
+    private Map<String, Object> resolveVariables(DueMinistryReminderRow reminder) {
+        Set<ReminderVariable> variables = reminder.getEventType() == TopologyEventType.GROUP_MEETING
+                ? GROUP_REMINDER_VARIABLES
+                : WORSHIP_REMINDER_VARIABLES;
+        return MessageTemplate.variables(variables, variable -> switch (variable) {
+            case NAME -> reminder.getFirstName();
+            case GROUP_NAME -> reminder.getGroupName();
+            case CHURCH_NAME -> reminder.getChurchName();
+            case EVENT_NAME -> reminder.getMeetingName();
+            case ROLE -> reminder.getRole();
+            case DATE -> reminder.getScheduledDate().toString();
+        });
     }
 
     private NotificationMeetingEvent buildNotificationEvent(
-            MinistryFunction function
+            DueMinistryReminderRow reminder
     ) {
         NotificationMeetingEvent event = new NotificationMeetingEvent();
         event.setCreatedAt(Instant.now());
-        event.setMeetingId(function.getMeeting().getId());
+        event.setMeetingId(reminder.getMeetingId());
         event.setChannels(Channels.WHATSAPP);
         event.setPriority(RabbitPriority.LOW);
-        event.setPersonId(function.getPeople().getId());
-        event.setTemplate(resolveTemplate(function));
-        event.setVariables(resolveVariables(function));
+        event.setPersonId(reminder.getPeopleId());
+        event.setTemplate(resolveTemplate(reminder).source());
+        event.setVariables(resolveVariables(reminder));
         return event;
     }
 
+    /**
+     * Variables de los recordatorios; el switch que les da valor debe cubrirlas todas.
+     */
+    private enum ReminderVariable implements TemplateVariable {
+        NAME("name"),
+        GROUP_NAME("groupName"),
+        CHURCH_NAME("churchName"),
+        EVENT_NAME("eventName"),
+        ROLE("role"),
+        DATE("date");
+
+        private final String key;
+
+        ReminderVariable(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+    }
 }
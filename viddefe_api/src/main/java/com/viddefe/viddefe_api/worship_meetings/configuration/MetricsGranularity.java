@@ -0,0 +1,45 @@
+package com.viddefe.viddefe_api.worship_meetings.configuration;
+
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Size of the buckets of an attendance series.
+ * {@code truncUnit} is the PostgreSQL {@code date_trunc} field; weeks start on Monday on both sides.
+ */
+@Getter
+public enum MetricsGranularity {
+    DAY("day"),
+    WEEK("week"),
+    MONTH("month");
+
+    private final String truncUnit;
+
+    MetricsGranularity(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    /**
+     * First day of the bucket the given day belongs to.
+     */
+    public LocalDate truncate(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(DayOfWeek.MONDAY);
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * First day of the bucket that follows the one starting at {@code bucketStart}.
+     */
+    public LocalDate next(LocalDate bucketStart) {
+        return switch (this) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.viddefe.viddefe_api.worship_meetings.contracts;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recalculates {@code AttendanceQualityPeople} with set-based statements instead of one person at a time.
+ */
+public interface AttendanceQualityRecalculationService {
+
+    /**
+     * Recalculates the attendance quality of every member of the context.
+     *
+     * @param contextId churchId for TEMPLE_WORHSIP, groupId for GROUP_MEETING
+     * @param eventType type of the attendance {@link TopologyEventType}
+     * @param from      start of the window of meetings considered
+     * @param to        end of the window of meetings considered
+     * @return number of qualities inserted or changed
+     */
+    int recalculateContext(UUID contextId, TopologyEventType eventType, OffsetDateTime from, OffsetDateTime to);
+
+    /**
+     * Recalculates the attendance quality of the given members of the context only.
+     *
+     * @return number of qualities inserted or changed
+     */
+    int recalculatePeople(UUID contextId, TopologyEventType eventType, List<UUID> peopleIds,
+                          OffsetDateTime from, OffsetDateTime to);
+}
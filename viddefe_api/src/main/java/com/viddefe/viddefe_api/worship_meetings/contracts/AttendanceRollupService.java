@@ -0,0 +1,88 @@
+package com.viddefe.viddefe_api.worship_meetings.contracts;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeNodeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricAttendanceProjectionRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesRow;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains and reads the per-day attendance rollups used by the metrics reports.
+ */
+public interface AttendanceRollupService {
+
+    /**
+     * Days are cut in the churches' local time, the same zone used by the reminders job.
+     */
+    ZoneId ROLLUP_ZONE = ZoneId.of("America/Bogota");
+
+    /**
+     * Recomputes the rollup of the day the given date falls on.
+     *
+     * @param contextId     churchId for TEMPLE_WORHSIP, groupId for GROUP_MEETING
+     * @param eventType     type of the attendance {@link TopologyEventType}
+     * @param scheduledDate any instant within the day to refresh
+     */
+    void refreshBucket(UUID contextId, TopologyEventType eventType, OffsetDateTime scheduledDate);
+
+    /**
+     * Recomputes the rollup of the meeting context for the day the given date falls on.
+     *
+     * @param meeting       meeting whose context (church or group) is refreshed
+     * @param scheduledDate any instant within the day to refresh
+     */
+    void refreshMeetingBucket(Meeting meeting, OffsetDateTime scheduledDate);
+
+    /**
+     * Sums the rollups of each context over every day touched by [startTime, endTime].
+     *
+     * @param contextIds contexts to aggregate
+     * @param eventType  type of the attendance {@link TopologyEventType}
+     * @param startTime  start of the range, inclusive of its whole day
+     * @param endTime    end of the range, inclusive of its whole day
+     * @return one row per context with attendance in the range
+     */
+    List<MetricAttendanceProjectionRow> findRangeMetrics(
+            List<UUID> contextIds,
+            TopologyEventType eventType,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    );
+
+    /**
+     * Sums the rollups of one context per bucket of the given granularity in a single query.
+     *
+     * @param fromDay first day of the range, already aligned to a bucket start
+     * @param toDay   last day of the range, inclusive
+     * @return one row per bucket with attendance, ordered by bucket start
+     */
+    List<MetricsSeriesRow> findSeriesMetrics(
+            UUID contextId,
+            TopologyEventType eventType,
+            MetricsGranularity granularity,
+            LocalDate fromDay,
+            LocalDate toDay
+    );
+
+    /**
+     * Every church of the tree below the root with its own people and worship rollups in the range.
+     *
+     * @param rootId    root of the parentChurch tree
+     * @param startTime start of the range, inclusive of its whole day
+     * @param endTime   end of the range, inclusive of its whole day
+     * @return one row per church of the tree, root included; empty when the root does not exist
+     */
+    List<ChurchTreeNodeRow> findChurchTreeMetrics(UUID rootId, OffsetDateTime startTime, OffsetDateTime endTime);
+
+    /**
+     * Builds the rollups from the raw attendance history when the table is still empty.
+     */
+    void backfillIfEmpty();
+}
@@ -5,6 +5,8 @@ import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceStatus;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.CreateAttendanceDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallResultDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -24,6 +26,17 @@ public interface AttendanceService {
      */
     AttendanceDto updateAttendance(CreateAttendanceDto dto, TopologyEventType type);
 
+    /**
+     * Applies the full roll call of a meeting: people in the list are marked present, everyone else absent.
+     * Only the difference with the stored attendance is written, and a single attendance event is published.
+     *
+     * @param eventId The ID of the meeting.
+     * @param dto     The people present at the meeting.
+     * @param type    The type of attendance event (e.g., TEMPLE_WORHSIP, GROUP_MEETING).
+     * @return Summary of the changes applied.
+     */
+    RollCallResultDto recordRollCall(UUID eventId, RollCallDto dto, TopologyEventType type);
+
     /**
      * Retrieves the attendance records for a specific event.
      *
@@ -0,0 +1,26 @@
+package com.viddefe.viddefe_api.worship_meetings.contracts;
+
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeMetricsDto;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Worship metrics over the whole parentChurch tree of a church.
+ */
+public interface ChurchTreeMetricsService {
+
+    /**
+     * @param churchId  root of the tree
+     * @param startTime start of the range, inclusive of its whole day
+     * @param endTime   end of the range, inclusive of its whole day
+     * @return the aggregate of the root subtree with the aggregates of its direct children
+     */
+    ChurchTreeMetricsDto getChurchTreeMetrics(UUID churchId, OffsetDateTime startTime, OffsetDateTime endTime);
+
+    /**
+     * Invalidates the cached subtree of the church and of every ancestor, leaving sibling subtrees cached.
+     * Once a church is deleted only its own entry is invalidated; invalidate its former parent as well.
+     */
+    void invalidateAncestorPath(UUID churchId);
+}
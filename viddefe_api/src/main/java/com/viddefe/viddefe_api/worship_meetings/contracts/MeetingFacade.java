@@ -1,12 +1,14 @@
 package com.viddefe.viddefe_api.worship_meetings.contracts;
 
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -91,6 +93,16 @@ public interface MeetingFacade {
      */
     AttendanceDto recordAttendance(CreateAttendanceDto dto, TopologyEventType eventType);
 
+    /**
+     * Registra la lista de asistencia completa de una reunión en una sola operación.
+     *
+     * @param meetingId ID de la reunión
+     * @param dto personas presentes; el resto queda ausente
+     * @param eventType tipo de evento
+     * @return resumen de los cambios aplicados
+     */
+    RollCallResultDto recordRollCall(UUID meetingId, RollCallDto dto, TopologyEventType eventType);
+
     /**
      * Obtiene la lista de asistencia de una reunión.
      *
@@ -105,4 +117,22 @@ public interface MeetingFacade {
 
     MetricsAttendanceDto getMetricsAttendance(UUID contextId, TopologyEventType eventType,
                                               OffsetDateTime startTime, OffsetDateTime endTime);
+
+    /**
+     * Obtiene las métricas de culto agregadas sobre todo el árbol de iglesias.
+     *
+     * @param churchId iglesia raíz del árbol
+     * @return agregado del árbol con los subárboles de sus hijas directas
+     */
+    ChurchTreeMetricsDto getChurchTreeMetrics(UUID churchId, OffsetDateTime startTime, OffsetDateTime endTime);
+
+    /**
+     * Obtiene la serie de métricas de asistencia por día, semana o mes.
+     *
+     * @param contextId   churchId o groupId según el tipo
+     * @param granularity tamaño de cada periodo de la serie
+     * @return un punto por periodo del rango, ordenados por fecha
+     */
+    List<MetricsSeriesPointDto> getMetricsSeries(UUID contextId, TopologyEventType eventType, MetricsGranularity granularity,
+                                                 OffsetDateTime startTime, OffsetDateTime endTime);
 }
@@ -0,0 +1,39 @@
+package com.viddefe.viddefe_api.worship_meetings.contracts;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesPointDto;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Attendance metrics of a context split in daily, weekly or monthly buckets, for trend charts.
+ */
+public interface MetricsSeriesService {
+
+    /**
+     * The range is widened to whole buckets: from the start of the bucket containing {@code startTime}
+     * to the end of the bucket containing {@code endTime}.
+     *
+     * @param contextId   churchId for TEMPLE_WORHSIP, groupId for GROUP_MEETING
+     * @param eventType   type of the attendance {@link TopologyEventType}
+     * @param granularity size of each bucket {@link MetricsGranularity}
+     * @return one point per bucket, buckets without attendance included, ordered by bucket start
+     */
+    List<MetricsSeriesPointDto> getAttendanceSeries(
+            UUID contextId,
+            TopologyEventType eventType,
+            MetricsGranularity granularity,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    );
+
+    /**
+     * Evicts the cached buckets, of every granularity, that contain any of the given meeting dates.
+     * Call it after bumping the context version.
+     */
+    void invalidateBuckets(UUID contextId, TopologyEventType eventType, Collection<OffsetDateTime> scheduledDates);
+}
@@ -1,7 +1,18 @@
 package com.viddefe.viddefe_api.worship_meetings.contracts;
 
 import com.viddefe.viddefe_api.worship_meetings.domain.models.MinistryFunction;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryReminderKey;
+
+import java.util.Collection;
 
 public interface MinistryFunctionReminderSentWriter {
     void writeMinistryFunctionReminderSent(MinistryFunction ministryFunction);
+
+    /**
+     * Marks the reminders of a whole batch as sent with a single UPDATE.
+     *
+     * @param reminders person and meeting of each reminder sent
+     * @return ministry functions updated
+     */
+    int writeMinistryFunctionRemindersSent(Collection<MinistryReminderKey> reminders);
 }
@@ -0,0 +1,36 @@
+package com.viddefe.viddefe_api.worship_meetings.domain.models;
+
+import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceDailyRollupId;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated attendance per context (church or group), event type and day.
+ * One row summarizes every attendance recorded for the meetings of that context
+ * scheduled on that day, so range metrics are sums over a few rows instead of
+ * scans over the raw attendance history.
+ */
+@Entity
+@Table(name = "attendance_daily_rollups")
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class AttendanceDailyRollup {
+
+    @EmbeddedId
+    private AttendanceDailyRollupId id;
+
+    @Column(name = "new_attendees", nullable = false)
+    private long newAttendees;
+
+    @Column(name = "distinct_attendees", nullable = false)
+    private long distinctAttendees;
+
+    @Column(nullable = false)
+    private long meetings;
+}
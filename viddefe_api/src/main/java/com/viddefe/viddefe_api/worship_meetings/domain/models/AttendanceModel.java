@@ -17,6 +17,9 @@ import java.util.UUID;
         name = "attendances",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"people_id", "event_id", "event_type"})
+        },
+        indexes = {
+                @Index(name = "idx_attendances_event_id", columnList = "event_id")
         }
 )
 @AllArgsConstructor @NoArgsConstructor
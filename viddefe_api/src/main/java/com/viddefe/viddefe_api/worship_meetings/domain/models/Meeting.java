@@ -5,6 +5,7 @@ import com.viddefe.viddefe_api.homeGroups.domain.model.HomeGroupsModel;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.CreateMeetingDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MeetingDto;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -13,7 +14,14 @@ import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "meetings")
+@Table(
+        name = "meetings",
+        indexes = {
+                @Index(name = "idx_meetings_church_scheduled", columnList = "church_id, scheduled_date"),
+                @Index(name = "idx_meetings_group_scheduled", columnList = "group_id, scheduled_date"),
+                @Index(name = "idx_meetings_scheduled", columnList = "scheduled_date")
+        }
+)
 @Getter @Setter
 public class Meeting {
 
@@ -51,6 +59,18 @@ public class Meeting {
     @JoinColumn(name = "meeting_type_id", nullable = false)
     private MeetingType meetingType;
 
+    /**
+     * Fecha programada tal como se leyó de la base de datos.
+     * Permite detectar reprogramaciones al actualizar (null en entidades nuevas).
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private OffsetDateTime loadedScheduledDate;
+
+    @PostLoad
+    void rememberLoadedScheduledDate() {
+        this.loadedScheduledDate = this.scheduledDate;
+    }
 
     public Meeting fromDto(CreateMeetingDto dto){
         this.name = dto.getName();
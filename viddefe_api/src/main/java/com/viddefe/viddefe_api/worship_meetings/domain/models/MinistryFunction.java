@@ -10,7 +10,10 @@ import lombok.Setter;
 import java.time.Instant;
 import java.util.UUID;
 
-@Table(name = "ministry_functions")
+@Table(
+        name = "ministry_functions",
+        indexes = @Index(name = "idx_ministry_functions_meeting", columnList = "meeting_id")
+)
 @Entity
 @Getter @Setter
 public class MinistryFunction {
@@ -0,0 +1,30 @@
+package com.viddefe.viddefe_api.worship_meetings.domain.models.serializable;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@EqualsAndHashCode
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class AttendanceDailyRollupId implements Serializable {
+
+    @Column(name = "context_id")
+    private UUID contextId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type")
+    private TopologyEventType eventType;
+
+    @Column(name = "attendance_day")
+    private LocalDate attendanceDay;
+
+}
@@ -0,0 +1,208 @@
+package com.viddefe.viddefe_api.worship_meetings.domain.repository;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceDailyRollup;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceDailyRollupId;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeNodeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricAttendanceProjectionRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttendanceDailyRollupRepository extends JpaRepository<AttendanceDailyRollup, AttendanceDailyRollupId> {
+
+    /**
+     * Sums the daily rollups of every context in the given day range.
+     * Contexts without attendance in the range are not returned.
+     */
+    @Query("""
+        SELECT
+            r.id.contextId AS id,
+            SUM(r.newAttendees) AS totalNewAttendees,
+            SUM(r.distinctAttendees) AS totalPeopleAttended,
+            SUM(r.meetings) AS totalMeetings
+        FROM AttendanceDailyRollup r
+        WHERE r.id.contextId IN :contextIds
+          AND r.id.eventType = :eventType
+          AND r.id.attendanceDay BETWEEN :fromDay AND :toDay
+        GROUP BY r.id.contextId
+    """)
+    List<MetricAttendanceProjectionRow> sumByContextIdsAndDayBetween(
+            @Param("contextIds") List<UUID> contextIds,
+            @Param("eventType") TopologyEventType eventType,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay
+    );
+
+    /**
+     * Sums the daily rollups of one context per {@code date_trunc} bucket in a single pass.
+     * Buckets without attendance are not returned.
+     *
+     * @param unit {@code date_trunc} field, see {@link com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity}
+     */
+    @Query(value = """
+        SELECT
+            CAST(date_trunc(:unit, CAST(r.attendance_day AS timestamp)) AS date) AS "bucketStart",
+            SUM(r.new_attendees) AS "totalNewAttendees",
+            SUM(r.distinct_attendees) AS "totalPeopleAttended",
+            SUM(r.meetings) AS "totalMeetings"
+        FROM attendance_daily_rollups r
+        WHERE r.context_id = :contextId
+          AND r.event_type = :eventType
+          AND r.attendance_day BETWEEN :fromDay AND :toDay
+        GROUP BY 1
+        ORDER BY 1
+    """, nativeQuery = true)
+    List<MetricsSeriesRow> sumByContextIdGroupedByBucket(
+            @Param("contextId") UUID contextId,
+            @Param("eventType") String eventType,
+            @Param("unit") String unit,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay
+    );
+
+    /**
+     * Walks the whole parentChurch tree below the root in one recursive CTE and returns,
+     * per church, its own people and its own worship rollups in the day range.
+     * Subtree totals are aggregated by the caller.
+     */
+    @Query(value = """
+        WITH RECURSIVE tree AS (
+            SELECT c.id, c.parent_church_id, 0 AS depth
+            FROM churches c
+            WHERE c.id = :rootId
+            UNION ALL
+            SELECT c.id, c.parent_church_id, t.depth + 1
+            FROM churches c
+            JOIN tree t ON c.parent_church_id = t.id
+            WHERE t.depth < :maxDepth
+        )
+        SELECT
+            t.id AS "id",
+            t.parent_church_id AS "parentId",
+            (SELECT COUNT(*) FROM people p WHERE p.church_id = t.id) AS "totalPeople",
+            COALESCE(SUM(r.new_attendees), 0) AS "totalNewAttendees",
+            COALESCE(SUM(r.distinct_attendees), 0) AS "totalPeopleAttended",
+            COALESCE(SUM(r.meetings), 0) AS "totalMeetings"
+        FROM tree t
+        LEFT JOIN attendance_daily_rollups r
+               ON r.context_id = t.id
+              AND r.event_type = 'TEMPLE_WORHSIP'
+              AND r.attendance_day BETWEEN :fromDay AND :toDay
+        GROUP BY t.id, t.parent_church_id
+    """, nativeQuery = true)
+    List<ChurchTreeNodeRow> findChurchTreeMetrics(
+            @Param("rootId") UUID rootId,
+            @Param("maxDepth") int maxDepth,
+            @Param("fromDay") LocalDate fromDay,
+            @Param("toDay") LocalDate toDay
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        DELETE FROM AttendanceDailyRollup r
+        WHERE r.id = :id
+    """)
+    void deleteBucket(@Param("id") AttendanceDailyRollupId id);
+
+    /**
+     * Recomputes one worship bucket from the attendances of the church meetings
+     * scheduled in [dayStart, dayEnd). Inserts nothing when the day has no attendance.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO attendance_daily_rollups
+            (context_id, event_type, attendance_day, new_attendees, distinct_attendees, meetings)
+        SELECT
+            m.church_id,
+            a.event_type,
+            :day,
+            COUNT(*) FILTER (WHERE a.is_new_attendee),
+            COUNT(DISTINCT a.people_id),
+            COUNT(DISTINCT m.id)
+        FROM attendances a
+        JOIN meetings m ON m.id = a.event_id
+        WHERE m.church_id = :contextId
+          AND a.event_type = :eventType
+          AND m.scheduled_date >= :dayStart
+          AND m.scheduled_date < :dayEnd
+        GROUP BY m.church_id, a.event_type
+        ON CONFLICT (context_id, event_type, attendance_day) DO UPDATE SET
+            new_attendees = EXCLUDED.new_attendees,
+            distinct_attendees = EXCLUDED.distinct_attendees,
+            meetings = EXCLUDED.meetings
+    """, nativeQuery = true)
+    void refreshWorshipBucket(
+            @Param("contextId") UUID contextId,
+            @Param("eventType") String eventType,
+            @Param("day") LocalDate day,
+            @Param("dayStart") OffsetDateTime dayStart,
+            @Param("dayEnd") OffsetDateTime dayEnd
+    );
+
+    /**
+     * Recomputes one group bucket from the attendances of the group meetings
+     * scheduled in [dayStart, dayEnd). Inserts nothing when the day has no attendance.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO attendance_daily_rollups
+            (context_id, event_type, attendance_day, new_attendees, distinct_attendees, meetings)
+        SELECT
+            m.group_id,
+            a.event_type,
+            :day,
+            COUNT(*) FILTER (WHERE a.is_new_attendee),
+            COUNT(DISTINCT a.people_id),
+            COUNT(DISTINCT m.id)
+        FROM attendances a
+        JOIN meetings m ON m.id = a.event_id
+        WHERE m.group_id = :contextId
+          AND a.event_type = :eventType
+          AND m.scheduled_date >= :dayStart
+          AND m.scheduled_date < :dayEnd
+        GROUP BY m.group_id, a.event_type
+        ON CONFLICT (context_id, event_type, attendance_day) DO UPDATE SET
+            new_attendees = EXCLUDED.new_attendees,
+            distinct_attendees = EXCLUDED.distinct_attendees,
+            meetings = EXCLUDED.meetings
+    """, nativeQuery = true)
+    void refreshGroupBucket(
+            @Param("contextId") UUID contextId,
+            @Param("eventType") String eventType,
+            @Param("day") LocalDate day,
+            @Param("dayStart") OffsetDateTime dayStart,
+            @Param("dayEnd") OffsetDateTime dayEnd
+    );
+
+    /**
+     * Builds every missing bucket from the raw attendance history in one pass.
+     * Used once to backfill the table; existing buckets are left untouched.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO attendance_daily_rollups
+            (context_id, event_type, attendance_day, new_attendees, distinct_attendees, meetings)
+        SELECT
+            CASE WHEN a.event_type = 'GROUP_MEETING' THEN m.group_id ELSE m.church_id END,
+            a.event_type,
+            CAST(m.scheduled_date AT TIME ZONE :zone AS date),
+            COUNT(*) FILTER (WHERE a.is_new_attendee),
+            COUNT(DISTINCT a.people_id),
+            COUNT(DISTINCT m.id)
+        FROM attendances a
+        JOIN meetings m ON m.id = a.event_id
+        WHERE a.event_type = 'TEMPLE_WORHSIP'
+           OR (a.event_type = 'GROUP_MEETING' AND m.group_id IS NOT NULL)
+        GROUP BY 1, 2, 3
+        ON CONFLICT (context_id, event_type, attendance_day) DO NOTHING
+    """, nativeQuery = true)
+    int backfillAll(@Param("zone") String zone);
+}
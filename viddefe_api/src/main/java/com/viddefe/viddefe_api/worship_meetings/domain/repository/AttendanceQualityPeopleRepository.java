@@ -4,8 +4,12 @@ import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceQualityPeople;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceQualityPeopleId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,4 +32,151 @@ public interface AttendanceQualityPeopleRepository extends JpaRepository<Attenda
 """)
     Optional<AttendanceQualityPeople> findByPeopleIdAndContextIdAndEventType(
             UUID peopleId, UUID contextId, TopologyEventType eventType);
+
+    /**
+     * Next page of church members ordered by id (keyset pagination).
+     */
+    @Query(value = """
+        SELECT p.id
+        FROM people p
+        WHERE p.church_id = :churchId
+          AND p.id > :afterId
+        ORDER BY p.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<UUID> findChurchMemberIdsAfter(
+            @Param("churchId") UUID churchId,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Next page of group members ordered by id (keyset pagination).
+     */
+    @Query(value = """
+        SELECT hpm.people_id
+        FROM home_groups_people_members hpm
+        WHERE hpm.home_group_id = :groupId
+          AND hpm.people_id > :afterId
+        ORDER BY hpm.people_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<UUID> findGroupMemberIdsAfter(
+            @Param("groupId") UUID groupId,
+            @Param("afterId") UUID afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Recomputes the worship attendance quality of a batch of church members in one statement:
+     * the percentage of the church services in [from, to] each person attended, mapped to its
+     * quality and upserted. Rows whose quality did not change are left untouched.
+     *
+     * @param highFrom   minimum percentage of {@code HIGH}
+     * @param mediumFrom minimum percentage of {@code MEDIUM}; anything above 0 is {@code LOW}
+     * @return number of rows inserted or changed
+     */
+    @Modifying
+    @Query(value = """
+        WITH context_meetings AS (
+            SELECT m.id
+            FROM meetings m
+            WHERE m.church_id = :contextId
+              AND m.group_id IS NULL
+              AND m.scheduled_date BETWEEN :from AND :to
+        ),
+        attended AS (
+            SELECT a.people_id, COUNT(DISTINCT a.event_id) AS meetings
+            FROM attendances a
+            JOIN context_meetings cm ON cm.id = a.event_id
+            WHERE a.event_type = 'TEMPLE_WORHSIP'
+              AND a.people_id IN (:peopleIds)
+            GROUP BY a.people_id
+        ),
+        percentages AS (
+            SELECT
+                p.id AS people_id,
+                CASE WHEN t.total = 0 THEN 0.0
+                     ELSE COALESCE(at.meetings, 0) * 100.0 / t.total
+                END AS percentage
+            FROM people p
+            CROSS JOIN (SELECT COUNT(*) AS total FROM context_meetings) t
+            LEFT JOIN attended at ON at.people_id = p.id
+            WHERE p.id IN (:peopleIds)
+        )
+        INSERT INTO attendance_qualities_people (people_id, context_id, attendance_quality_id, event_type)
+        SELECT pc.people_id, :contextId, q.id, 'TEMPLE_WORHSIP'
+        FROM percentages pc
+        JOIN attendance_qualities q ON q.attendance_quality = CASE
+            WHEN pc.percentage >= :highFrom THEN 'HIGH'
+            WHEN pc.percentage >= :mediumFrom THEN 'MEDIUM'
+            WHEN pc.percentage > 0 THEN 'LOW'
+            ELSE 'NO_YET'
+        END
+        ON CONFLICT (people_id, context_id) DO UPDATE SET
+            attendance_quality_id = EXCLUDED.attendance_quality_id,
+            event_type = EXCLUDED.event_type
+        WHERE attendance_qualities_people.attendance_quality_id IS DISTINCT FROM EXCLUDED.attendance_quality_id
+    """, nativeQuery = true)
+    int upsertWorshipQualities(
+            @Param("contextId") UUID contextId,
+            @Param("peopleIds") List<UUID> peopleIds,
+            @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to,
+            @Param("highFrom") double highFrom,
+            @Param("mediumFrom") double mediumFrom
+    );
+
+    /**
+     * Same as {@link #upsertWorshipQualities} over the meetings of a home group.
+     */
+    @Modifying
+    @Query(value = """
+        WITH context_meetings AS (
+            SELECT m.id
+            FROM meetings m
+            WHERE m.group_id = :contextId
+              AND m.scheduled_date BETWEEN :from AND :to
+        ),
+        attended AS (
+            SELECT a.people_id, COUNT(DISTINCT a.event_id) AS meetings
+            FROM attendances a
+            JOIN context_meetings cm ON cm.id = a.event_id
+            WHERE a.event_type = 'GROUP_MEETING'
+              AND a.people_id IN (:peopleIds)
+            GROUP BY a.people_id
+        ),
+        percentages AS (
+            SELECT
+                p.id AS people_id,
+                CASE WHEN t.total = 0 THEN 0.0
+                     ELSE COALESCE(at.meetings, 0) * 100.0 / t.total
+                END AS percentage
+            FROM people p
+            CROSS JOIN (SELECT COUNT(*) AS total FROM context_meetings) t
+            LEFT JOIN attended at ON at.people_id = p.id
+            WHERE p.id IN (:peopleIds)
+        )
+        INSERT INTO attendance_qualities_people (people_id, context_id, attendance_quality_id, event_type)
+        SELECT pc.people_id, :contextId, q.id, 'GROUP_MEETING'
+        FROM percentages pc
+        JOIN attendance_qualities q ON q.attendance_quality = CASE
+            WHEN pc.percentage >= :highFrom THEN 'HIGH'
+            WHEN pc.percentage >= :mediumFrom THEN 'MEDIUM'
+            WHEN pc.percentage > 0 THEN 'LOW'
+            ELSE 'NO_YET'
+        END
+        ON CONFLICT (people_id, context_id) DO UPDATE SET
+            attendance_quality_id = EXCLUDED.attendance_quality_id,
+            event_type = EXCLUDED.event_type
+        WHERE attendance_qualities_people.attendance_quality_id IS DISTINCT FROM EXCLUDED.attendance_quality_id
+    """, nativeQuery = true)
+    int upsertGroupQualities(
+            @Param("contextId") UUID contextId,
+            @Param("peopleIds") List<UUID> peopleIds,
+            @Param("from") OffsetDateTime from,
+            @Param("to") OffsetDateTime to,
+            @Param("highFrom") double highFrom,
+            @Param("mediumFrom") double mediumFrom
+    );
 }
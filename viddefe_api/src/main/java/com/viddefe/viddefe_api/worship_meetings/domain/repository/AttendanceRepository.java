@@ -5,6 +5,7 @@ import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceStatus;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceModel;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceProjectionDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MeetingAttendeeRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,6 +13,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -155,4 +158,49 @@ public interface AttendanceRepository extends JpaRepository<AttendanceModel, UUI
                                          @Param("to") OffsetDateTime to,
                                          @Param("from") OffsetDateTime from
                                          );
+
+    @Query("""
+    SELECT a.id AS id, a.people.id AS peopleId
+    FROM AttendanceModel a
+    WHERE a.eventId.id = :eventId
+""")
+    List<MeetingAttendeeRow> findAttendeesByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * People of the list that already attended another worship service of the church.
+     */
+    @Query("""
+    SELECT DISTINCT a.people.id
+    FROM AttendanceModel a
+    JOIN a.eventId m
+    WHERE a.people.id IN :peopleIds
+      AND a.eventType = :eventType
+      AND m.church.id = :contextId
+      AND m.id <> :eventId
+""")
+    List<UUID> findReturningWorshipAttendees(
+            @Param("peopleIds") Collection<UUID> peopleIds,
+            @Param("contextId") UUID contextId,
+            @Param("eventId") UUID eventId,
+            @Param("eventType") TopologyEventType eventType
+    );
+
+    /**
+     * People of the list that already attended another meeting of the group.
+     */
+    @Query("""
+    SELECT DISTINCT a.people.id
+    FROM AttendanceModel a
+    JOIN a.eventId m
+    WHERE a.people.id IN :peopleIds
+      AND a.eventType = :eventType
+      AND m.group.id = :contextId
+      AND m.id <> :eventId
+""")
+    List<UUID> findReturningGroupAttendees(
+            @Param("peopleIds") Collection<UUID> peopleIds,
+            @Param("contextId") UUID contextId,
+            @Param("eventId") UUID eventId,
+            @Param("eventType") TopologyEventType eventType
+    );
 }
@@ -1,14 +1,18 @@
 package com.viddefe.viddefe_api.worship_meetings.domain.repository;
 
 import com.viddefe.viddefe_api.worship_meetings.domain.models.MinistryFunction;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.DueMinistryReminderRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryFunctionKeyRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,24 +21,69 @@ public interface MinistryFunctionRepository extends JpaRepository<MinistryFuncti
     List<MinistryFunction> findByMeetingId(UUID eventId);
 
 
-    @EntityGraph(attributePaths = {
-            "people",
-            "ministryFunctionType",
-            "meeting",
-            "meeting.group",
-            "meeting.church"
-    })
+    /**
+     * Iglesias con algún recordatorio pendiente en la ventana, para repartirlas en shards.
+     */
     @Query("""
-    SELECT mf
+    SELECT DISTINCT m.church.id
     FROM MinistryFunction mf
-    JOIN FETCH mf.meeting m
-    WHERE m.scheduledDate BETWEEN :from AND :now
+    JOIN mf.meeting m
+    WHERE m.scheduledDate BETWEEN :windowStart AND :windowEnd
+      AND (mf.reminderSentAt IS NULL OR mf.reminderSentAt < :sentBefore)
 """)
-    Page<MinistryFunction> findUpcomingMinistryFunctions(
-            @Param("now") OffsetDateTime now,
-            @Param("from") OffsetDateTime beforeDateTime,
-            Pageable pageable
+    List<UUID> findChurchIdsWithDueReminders(
+            @Param("windowStart") OffsetDateTime windowStart,
+            @Param("windowEnd") OffsetDateTime windowEnd,
+            @Param("sentBefore") Instant sentBefore
+    );
+
+    /**
+     * Siguiente página (keyset por id) de funciones con recordatorio pendiente en las iglesias dadas:
+     * reunión programada en [windowStart, windowEnd] y sin recordatorio enviado desde {@code sentBefore}.
+     */
+    @Query("""
+    SELECT mf.id AS id, m.id AS meetingId, p.id AS peopleId, mf.eventType AS eventType,
+           p.firstName AS firstName, mft.name AS role, m.name AS meetingName,
+           m.scheduledDate AS scheduledDate, c.name AS churchName, g.name AS groupName
+    FROM MinistryFunction mf
+    JOIN mf.meeting m
+    JOIN mf.people p
+    JOIN mf.ministryFunctionType mft
+    JOIN m.church c
+    LEFT JOIN m.group g
+    WHERE m.scheduledDate BETWEEN :windowStart AND :windowEnd
+      AND (mf.reminderSentAt IS NULL OR mf.reminderSentAt < :sentBefore)
+      AND c.id IN :churchIds
+      AND mf.id > :afterId
+    ORDER BY mf.id
+""")
+    List<DueMinistryReminderRow> findDueRemindersAfter(
+            @Param("churchIds") Collection<UUID> churchIds,
+            @Param("windowStart") OffsetDateTime windowStart,
+            @Param("windowEnd") OffsetDateTime windowEnd,
+            @Param("sentBefore") Instant sentBefore,
+            @Param("afterId") UUID afterId,
+            Limit limit
     );
 
     Optional<MinistryFunction> findByMeetingIdAndPeopleId(UUID meetingId, UUID peopleId);
+
+    /**
+     * Candidatas de un lote de recordatorios: el cruce de reuniones y personas puede traer pares
+     * que no estaban en el lote, quien llama filtra los exactos.
+     */
+    @Query("""
+    SELECT mf.id AS id, mf.meeting.id AS meetingId, mf.people.id AS peopleId
+    FROM MinistryFunction mf
+    WHERE mf.meeting.id IN :meetingIds AND mf.people.id IN :peopleIds
+""")
+    List<MinistryFunctionKeyRow> findKeys(
+            @Param("meetingIds") Collection<UUID> meetingIds,
+            @Param("peopleIds") Collection<UUID> peopleIds
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MinistryFunction mf SET mf.reminderSentAt = :sentAt WHERE mf.id IN :ids")
+    int markRemindersSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") Instant sentAt);
 }
@@ -0,0 +1,17 @@
+package com.viddefe.viddefe_api.worship_meetings.domain.seeder;
+
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SeederAttendanceDailyRollup {
+    private final AttendanceRollupService attendanceRollupService;
+
+    @PostConstruct
+    public void seed() {
+        attendanceRollupService.backfillIfEmpty();
+    }
+}
@@ -10,6 +10,9 @@ import java.util.UUID;
 @AllArgsConstructor @NoArgsConstructor
 @Builder
 public class AttendanceQualityRecalcDto {
+    /**
+     * Persona a recalcular; {@code null} recalcula a todos los miembros del contexto.
+     */
     private UUID peopleId;
     private UUID contextId;
     private TopologyEventType eventType;
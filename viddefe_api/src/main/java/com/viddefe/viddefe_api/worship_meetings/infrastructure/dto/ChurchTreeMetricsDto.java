@@ -0,0 +1,24 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Worship metrics aggregated over a church and every descendant church.
+ * {@code children} holds the subtree aggregates of the direct children only.
+ */
+@Getter @Setter
+@SuperBuilder
+@AllArgsConstructor @NoArgsConstructor
+public class ChurchTreeMetricsDto extends MetricsAttendanceDto {
+    private UUID churchId;
+    private Integer totalChurches;
+    /**
+     * Suma de reuniones × personas de cada iglesia: base composable de la tasa de asistencia.
+     */
+    private Long expectedAttendances;
+    private List<ChurchTreeMetricsDto> children;
+}
@@ -0,0 +1,11 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * One church of a parentChurch tree with its own (non aggregated) people and worship attendance.
+ */
+public interface ChurchTreeNodeRow extends MetricAttendanceProjectionRow {
+    UUID getParentId();
+    Long getTotalPeople();
+}
@@ -0,0 +1,15 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+
+import java.util.UUID;
+
+/**
+ * Metrics of a single context (church or group) computed as part of a larger report.
+ */
+public record ContextMetricsDto(
+        TopologyEventType eventType,
+        UUID contextId,
+        MetricsAttendanceDto metrics
+) {
+}
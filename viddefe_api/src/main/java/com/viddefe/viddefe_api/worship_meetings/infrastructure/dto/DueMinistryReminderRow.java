@@ -0,0 +1,25 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Ministry function due for a reminder, with only the fields the reminder message needs.
+ */
+public interface DueMinistryReminderRow {
+    UUID getId();
+    UUID getMeetingId();
+    UUID getPeopleId();
+    TopologyEventType getEventType();
+    String getFirstName();
+    String getRole();
+    String getMeetingName();
+    OffsetDateTime getScheduledDate();
+    String getChurchName();
+    /**
+     * {@code null} for worship meetings.
+     */
+    String getGroupName();
+}
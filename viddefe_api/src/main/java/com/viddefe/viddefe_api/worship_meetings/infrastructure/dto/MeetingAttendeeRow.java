@@ -0,0 +1,11 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Attendance row of a meeting without loading the person.
+ */
+public interface MeetingAttendeeRow {
+    UUID getId();
+    UUID getPeopleId();
+}
@@ -0,0 +1,21 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDate;
+
+/**
+ * Metrics of one bucket of an attendance series. Both bounds are inclusive days.
+ */
+@Getter @Setter
+@SuperBuilder
+@AllArgsConstructor @NoArgsConstructor
+public class MetricsSeriesPointDto extends MetricsAttendanceDto {
+    private LocalDate bucketStart;
+    private LocalDate bucketEnd;
+    /**
+     * {@code false} for the bucket that contains today, whose values can still change.
+     */
+    private Boolean closed;
+}
@@ -0,0 +1,13 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Rollup sums of one bucket of an attendance series.
+ */
+public interface MetricsSeriesRow {
+    LocalDate getBucketStart();
+    Long getTotalNewAttendees();
+    Long getTotalPeopleAttended();
+    Long getTotalMeetings();
+}
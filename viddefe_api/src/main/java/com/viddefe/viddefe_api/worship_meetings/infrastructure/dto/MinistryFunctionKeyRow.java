@@ -0,0 +1,12 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Ministry function id with its meeting and person, without loading the entity.
+ */
+public interface MinistryFunctionKeyRow {
+    UUID getId();
+    UUID getMeetingId();
+    UUID getPeopleId();
+}
@@ -0,0 +1,9 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import java.util.UUID;
+
+/**
+ * Identifies the ministry function a reminder was sent for: one person in one meeting.
+ */
+public record MinistryReminderKey(UUID meetingId, UUID peopleId) {
+}
@@ -4,6 +4,8 @@ package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import lombok.*;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Getter @Setter
@@ -14,4 +16,13 @@ public class PeopleAttendanceEventDto {
     private UUID meetingId;
     private UUID contextId;
     private TopologyEventType eventType;
+    /**
+     * Iglesia dueña de la reunión; sus métricas agregan las de sus grupos e iglesias hijas.
+     */
+    private UUID churchId;
+    /**
+     * Fechas de reunión cuyo rollup diario cambió (dos cuando una reunión cambia de día);
+     * solo los periodos de series que las contienen se invalidan.
+     */
+    private List<OffsetDateTime> scheduledDates;
 }
\ No newline at end of file
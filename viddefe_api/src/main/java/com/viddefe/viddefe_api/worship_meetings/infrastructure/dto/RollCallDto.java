@@ -0,0 +1,19 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Lista completa de asistencia de una reunión: quien no esté en {@code presentPeopleIds} queda ausente.
+ */
+@Getter @Setter
+public class RollCallDto {
+    @NotNull(message = "No se especificaron los asistentes")
+    @Size(max = 5000, message = "No se pueden registrar más de 5000 asistentes por reunión")
+    private Set<@NotNull UUID> presentPeopleIds;
+}
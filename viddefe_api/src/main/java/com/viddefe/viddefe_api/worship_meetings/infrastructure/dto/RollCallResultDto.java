@@ -0,0 +1,19 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Resultado de aplicar una lista de asistencia completa.
+ */
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class RollCallResultDto {
+    private UUID meetingId;
+    private Integer totalPresent;
+    private Integer added;
+    private Integer removed;
+    private Integer newAttendees;
+}
@@ -0,0 +1,75 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.redis;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tracks, across every API instance, which contexts have an attendance quality recalculation running.
+ *
+ * <p>A recalculation that finds the context busy leaves a pending mark instead of running twice;
+ * the holder reruns once after releasing, so the last change is never lost.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceQualityRecalcLock {
+
+    /**
+     * Upper bound of a recalculation; a crashed holder frees the context after it.
+     */
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private String resolveRunningKey(TopologyEventType eventType, UUID contextId) {
+        return String.format("viddefe:attendance-quality:running:%s:%s", eventType.name(), contextId);
+    }
+
+    private String resolvePendingKey(TopologyEventType eventType, UUID contextId) {
+        return String.format("viddefe:attendance-quality:pending:%s:%s", eventType.name(), contextId);
+    }
+
+    /**
+     * @param token identifies the holder, only it can release the lock
+     * @return {@code true} when no other recalculation of the context is running
+     */
+    public boolean tryAcquire(TopologyEventType eventType, UUID contextId, String token) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(resolveRunningKey(eventType, contextId), token, LOCK_TTL)
+        );
+    }
+
+    public void release(TopologyEventType eventType, UUID contextId, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(resolveRunningKey(eventType, contextId)), token);
+    }
+
+    /**
+     * Asks the current holder to run once more after it finishes.
+     */
+    public void markPending(TopologyEventType eventType, UUID contextId) {
+        redisTemplate.opsForValue().set(resolvePendingKey(eventType, contextId), Boolean.TRUE, LOCK_TTL);
+    }
+
+    /**
+     * Clears the pending mark; called by the holder right before it reads the attendances.
+     */
+    public void clearPending(TopologyEventType eventType, UUID contextId) {
+        redisTemplate.delete(resolvePendingKey(eventType, contextId));
+    }
+
+    public boolean isPending(TopologyEventType eventType, UUID contextId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(resolvePendingKey(eventType, contextId)));
+    }
+}
@@ -0,0 +1,178 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ContextMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsAttendanceDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * In-process tier in front of {@link MetricsRedisAdapter}.
+ *
+ * <p>Concurrent requests for the same (eventType, contextId, version, range) share a single
+ * in-flight computation: the first caller loads from Redis or computes, the rest wait on its future.
+ * Context versions are cached for a few seconds, so a bump made by another instance is seen
+ * after at most {@link #VERSION_TTL}; bumps made through this instance are seen immediately.</p>
+ *
+ * <p>Hit, miss and load-time statistics are published as {@code cache.*} meters through actuator.</p>
+ */
+@Component
+public class MetricsNearCache {
+
+    private static final Duration NEAR_TTL = Duration.ofMinutes(1);
+    private static final Duration VERSION_TTL = Duration.ofSeconds(5);
+    private static final long MAX_ENTRIES = 10_000;
+
+    private final MetricsRedisAdapter metricsRedisAdapter;
+    private final AsyncCache<MetricsKey, MetricsAttendanceDto> metricsCache;
+    private final LoadingCache<MetricsVersionKey, Long> versionCache;
+
+    public MetricsNearCache(MetricsRedisAdapter metricsRedisAdapter, MeterRegistry meterRegistry) {
+        this.metricsRedisAdapter = metricsRedisAdapter;
+        this.metricsCache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(NEAR_TTL)
+                .recordStats()
+                .buildAsync();
+        this.versionCache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(VERSION_TTL)
+                .recordStats()
+                .build(new CacheLoader<MetricsVersionKey, Long>() {
+                    @Override
+                    public Long load(MetricsVersionKey key) {
+                        return metricsRedisAdapter.currentVersion(key.eventType(), key.contextId());
+                    }
+
+                    @Override
+                    public Map<MetricsVersionKey, Long> loadAll(Set<? extends MetricsVersionKey> keys) {
+                        return metricsRedisAdapter.currentVersions(keys);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, metricsCache.synchronous(), "attendance.metrics.near");
+        CaffeineCacheMetrics.monitor(meterRegistry, versionCache, "attendance.metrics.version");
+    }
+
+    /**
+     * Returns the metrics of the range, looking in memory, then Redis, then computing them.
+     *
+     * @param compute  computes the metrics on a full miss; runs on the calling thread, once per key
+     * @param redisTtl TTL of the entry written to Redis after computing
+     */
+    public MetricsAttendanceDto get(
+            TopologyEventType eventType,
+            UUID contextId,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime,
+            Duration redisTtl,
+            Supplier<MetricsAttendanceDto> compute
+    ) {
+        long version = currentVersion(eventType, contextId);
+        MetricsKey key = new MetricsKey(eventType, contextId, version, startTime, endTime);
+
+        // Registering the incomplete future through get() records the hit/miss and, once it completes, the load time
+        CompletableFuture<MetricsAttendanceDto> inFlight = new CompletableFuture<>();
+        CompletableFuture<MetricsAttendanceDto> shared = metricsCache.get(key, (k, executor) -> inFlight);
+        if (shared != inFlight) {
+            return join(shared);
+        }
+
+        try {
+            MetricsAttendanceDto metrics = metricsRedisAdapter
+                    .getMetrics(eventType, contextId, version, startTime, endTime)
+                    .orElseGet(() -> {
+                        MetricsAttendanceDto computed = compute.get();
+                        metricsRedisAdapter.saveMetrics(
+                                eventType, contextId, version, computed, redisTtl, startTime, endTime
+                        );
+                        return computed;
+                    });
+            inFlight.complete(metrics);
+            return metrics;
+        } catch (RuntimeException e) {
+            metricsCache.asMap().remove(key, inFlight);
+            inFlight.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Current versions of several contexts; versions not cached locally are read with one MGET.
+     * Read them before computing the metrics that {@link #putAll} will store.
+     */
+    public Map<MetricsVersionKey, Long> currentVersions(Collection<MetricsVersionKey> versionKeys) {
+        return versionKeys.isEmpty() ? Map.of() : versionCache.getAll(versionKeys);
+    }
+
+    /**
+     * Stores metrics computed as a side effect of another report (e.g. the groups of a church)
+     * under the versions read before computing them, as {@link #get} does, so a bump that lands
+     * while they are computed leaves them unreachable instead of publishing stale data under
+     * the new version. Entries without a version are skipped; the rest go to Redis in one pipeline.
+     */
+    public void putAll(
+            List<ContextMetricsDto> entries,
+            Map<MetricsVersionKey, Long> versions,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime,
+            Duration redisTtl
+    ) {
+        List<ContextMetricsDto> versioned = entries.stream()
+                .filter(entry -> versions.containsKey(new MetricsVersionKey(entry.eventType(), entry.contextId())))
+                .toList();
+        if (versioned.isEmpty()) return;
+        for (ContextMetricsDto entry : versioned) {
+            long version = versions.get(new MetricsVersionKey(entry.eventType(), entry.contextId()));
+            metricsCache.put(
+                    new MetricsKey(entry.eventType(), entry.contextId(), version, startTime, endTime),
+                    CompletableFuture.completedFuture(entry.metrics())
+            );
+        }
+        metricsRedisAdapter.saveAllMetrics(versioned, versions, redisTtl, startTime, endTime);
+    }
+
+    /**
+     * Invalidates every cached range of the context, in Redis and in this instance.
+     */
+    public void bumpVersion(TopologyEventType eventType, UUID contextId) {
+        metricsRedisAdapter.bumpVersion(eventType, contextId);
+        versionCache.invalidate(new MetricsVersionKey(eventType, contextId));
+    }
+
+    private long currentVersion(TopologyEventType eventType, UUID contextId) {
+        return versionCache.get(new MetricsVersionKey(eventType, contextId));
+    }
+
+    private static MetricsAttendanceDto join(CompletableFuture<MetricsAttendanceDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private record MetricsKey(
+            TopologyEventType eventType,
+            UUID contextId,
+            long version,
+            OffsetDateTime startTime,
+            OffsetDateTime endTime
+    ) {}
+}
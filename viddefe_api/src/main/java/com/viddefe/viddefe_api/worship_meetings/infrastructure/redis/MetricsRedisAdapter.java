@@ -1,52 +1,329 @@
 package com.viddefe.viddefe_api.worship_meetings.infrastructure.redis;
 
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ContextMetricsDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsAttendanceDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesPointDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Redis adapter for storing and retrieving metrics using the cache-aside pattern.
  * This is a localized, technical cache specific to metrics computation.
  * NOT a generic cache abstraction.
+ *
+ * <p>Every (eventType, contextId) pair owns a version counter that is part of each metrics key.
+ * Bumping the counter orphans every cached range of that context at once, without scanning
+ * the keyspace; orphaned entries simply expire with their TTL. Series buckets are the exception:
+ * they are keyed by bucket and evicted one by one, and the version only guards their writes.</p>
  */
 @Component
 @RequiredArgsConstructor
 public class MetricsRedisAdapter {
 
+    private static final byte[] SAVE_SERIES_IF_VERSION_SCRIPT = """
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            for i = 2, #KEYS do
+                redis.call('SET', KEYS[i], ARGV[i], 'EX', ARGV[#ARGV])
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
-    private String resolveKey(TopologyEventType eventType, UUID contextId, OffsetDateTime startTime, OffsetDateTime endTime) {
+    private String resolveVersionKey(TopologyEventType eventType, UUID contextId) {
         return String.format(
-                "viddefe:metrics:%s:%s:%s:%s",
+                "viddefe:metrics:version:%s:%s",
+                eventType.name(),
+                contextId
+        );
+    }
+
+    private String resolveKey(TopologyEventType eventType, UUID contextId, long version,
+                              OffsetDateTime startTime, OffsetDateTime endTime) {
+        return String.format(
+                "viddefe:metrics:%s:%s:v%d:%s:%s",
                 eventType.name(),
                 contextId,
+                version,
                 startTime.toString(),
                 endTime.toString()
         );
     }
 
+    private String resolveTreeVersionKey(UUID churchId) {
+        return String.format("viddefe:metrics:tree-version:%s", churchId);
+    }
+
+    private String resolveTreeKey(UUID churchId, long version, OffsetDateTime startTime, OffsetDateTime endTime) {
+        return String.format(
+                "viddefe:metrics:tree:%s:v%d:%s:%s",
+                churchId,
+                version,
+                startTime.toString(),
+                endTime.toString()
+        );
+    }
+
+    private String resolveSeriesKey(TopologyEventType eventType, UUID contextId,
+                                    MetricsGranularity granularity, LocalDate bucketStart) {
+        return String.format(
+                "viddefe:metrics:series:%s:%s:%s:%s",
+                eventType.name(),
+                contextId,
+                granularity.name(),
+                bucketStart
+        );
+    }
+
+    /**
+     * Current version of the metrics of a context. Read it before computing so a bump that
+     * happens meanwhile is never hidden behind the stored result.
+     *
+     * @return the version, 0 when the context was never invalidated
+     */
+    public long currentVersion(TopologyEventType eventType, UUID contextId) {
+        Object val = redisTemplate.opsForValue().get(resolveVersionKey(eventType, contextId));
+        return val instanceof Number version ? version.longValue() : 0L;
+    }
+
+    /**
+     * Current versions of several contexts in a single MGET round trip.
+     *
+     * @return the version of every requested key, 0 when the context was never invalidated
+     */
+    public Map<MetricsVersionKey, Long> currentVersions(Collection<? extends MetricsVersionKey> versionKeys) {
+        return readVersions(List.copyOf(versionKeys), key -> resolveVersionKey(key.eventType(), key.contextId()));
+    }
+
+    /**
+     * Current subtree versions of several churches in a single MGET round trip.
+     */
+    public Map<UUID, Long> currentTreeVersions(Collection<UUID> churchIds) {
+        return readVersions(List.copyOf(churchIds), this::resolveTreeVersionKey);
+    }
+
+    /**
+     * Invalidates the cached subtree aggregates of every given church with one pipelined batch of INCR,
+     * applied in the given order on a single connection.
+     *
+     * @param churchIds an ancestor path, root first: every church is bumped before any church below it,
+     *                  so a reader that still sees the old root version cannot have seen a new version below it
+     */
+    public void bumpTreeVersions(Collection<UUID> churchIds) {
+        if (churchIds.isEmpty()) return;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID churchId : churchIds) {
+                connection.stringCommands().incr(RedisSerializer.string().serialize(resolveTreeVersionKey(churchId)));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Cached subtree aggregates of the given churches, one MGET; churches without entry are absent.
+     */
+    public Map<UUID, ChurchTreeMetricsDto> getTreeMetrics(Map<UUID, Long> versions,
+                                                         OffsetDateTime startTime, OffsetDateTime endTime) {
+        List<UUID> churchIds = List.copyOf(versions.keySet());
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                churchIds.stream()
+                        .map(churchId -> resolveTreeKey(churchId, versions.get(churchId), startTime, endTime))
+                        .toList()
+        );
+
+        Map<UUID, ChurchTreeMetricsDto> cached = new HashMap<>();
+        for (int i = 0; i < churchIds.size(); i++) {
+            if (values != null && values.get(i) instanceof ChurchTreeMetricsDto metrics) {
+                cached.put(churchIds.get(i), metrics);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Writes subtree aggregates with a single pipelined batch of SET ... EX commands.
+     */
     @Async
-    public void saveMetrics(TopologyEventType eventType, UUID contextId, MetricsAttendanceDto metrics, Duration ttl,
-                            OffsetDateTime startTime, OffsetDateTime endTime) {
-        String key = resolveKey(eventType, contextId, startTime, endTime);
+    @SuppressWarnings("unchecked")
+    public void saveAllTreeMetrics(List<ChurchTreeMetricsDto> entries, Map<UUID, Long> versions,
+                                   Duration ttl, OffsetDateTime startTime, OffsetDateTime endTime) {
+        if (entries.isEmpty()) return;
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = Expiration.from(ttl);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ChurchTreeMetricsDto entry : entries) {
+                String key = resolveTreeKey(
+                        entry.getChurchId(), versions.getOrDefault(entry.getChurchId(), 0L), startTime, endTime
+                );
+                connection.stringCommands().set(
+                        RedisSerializer.string().serialize(key),
+                        valueSerializer.serialize(entry),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()
+                );
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Cached buckets of a series, one MGET; buckets without entry are absent.
+     * Series buckets are keyed by their start and granularity, not by the context version,
+     * so a change only evicts the buckets it touches (see {@link #evictSeriesBuckets}).
+     */
+    public Map<LocalDate, MetricsSeriesPointDto> getSeriesMetrics(TopologyEventType eventType, UUID contextId,
+                                                                 MetricsGranularity granularity,
+                                                                 List<LocalDate> bucketStarts) {
+        if (bucketStarts.isEmpty()) return Map.of();
+        List<Object> values = redisTemplate.opsForValue().multiGet(
+                bucketStarts.stream()
+                        .map(bucketStart -> resolveSeriesKey(eventType, contextId, granularity, bucketStart))
+                        .toList()
+        );
+
+        Map<LocalDate, MetricsSeriesPointDto> cached = new HashMap<>();
+        for (int i = 0; i < bucketStarts.size(); i++) {
+            if (values != null && values.get(i) instanceof MetricsSeriesPointDto point) {
+                cached.put(bucketStarts.get(i), point);
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Writes closed series buckets with one script, only if the context version is still the one
+     * read before computing them. A change committed meanwhile bumps the version before evicting
+     * its buckets, so a result computed from the previous data is either evicted or never written.
+     */
+    @Async
+    @SuppressWarnings("unchecked")
+    public void saveAllSeriesMetrics(TopologyEventType eventType, UUID contextId, long version,
+                                     MetricsGranularity granularity, List<MetricsSeriesPointDto> points,
+                                     Duration ttl) {
+        if (points.isEmpty()) return;
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        RedisSerializer<String> stringSerializer = RedisSerializer.string();
+
+        // KEYS = version key + bucket keys; ARGV = expected version + one value per bucket + TTL
+        byte[][] keysAndArgs = new byte[2 * (points.size() + 1) + 1][];
+        keysAndArgs[0] = stringSerializer.serialize(resolveVersionKey(eventType, contextId));
+        keysAndArgs[points.size() + 1] = stringSerializer.serialize(Long.toString(version));
+        for (int i = 0; i < points.size(); i++) {
+            MetricsSeriesPointDto point = points.get(i);
+            keysAndArgs[i + 1] = stringSerializer.serialize(
+                    resolveSeriesKey(eventType, contextId, granularity, point.getBucketStart())
+            );
+            keysAndArgs[points.size() + 2 + i] = valueSerializer.serialize(point);
+        }
+        keysAndArgs[keysAndArgs.length - 1] = stringSerializer.serialize(Long.toString(ttl.toSeconds()));
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                SAVE_SERIES_IF_VERSION_SCRIPT, ReturnType.INTEGER, points.size() + 1, keysAndArgs
+        ));
+    }
+
+    /**
+     * Deletes the cached series buckets of the context, per granularity, with a single DEL.
+     */
+    public void evictSeriesBuckets(TopologyEventType eventType, UUID contextId,
+                                   Map<MetricsGranularity, ? extends Collection<LocalDate>> bucketStarts) {
+        List<String> keys = bucketStarts.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(bucketStart -> resolveSeriesKey(eventType, contextId, entry.getKey(), bucketStart)))
+                .toList();
+        if (keys.isEmpty()) return;
+        redisTemplate.delete(keys);
+    }
+
+    private <K> Map<K, Long> readVersions(List<K> keys, Function<K, String> resolver) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys.stream().map(resolver).toList());
+
+        Map<K, Long> versions = new HashMap<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object val = values == null ? null : values.get(i);
+            versions.put(keys.get(i), val instanceof Number version ? version.longValue() : 0L);
+        }
+        return versions;
+    }
+
+    /**
+     * Invalidates every cached range of the context in O(1).
+     * The version key has no TTL so it always outlives the entries it guards.
+     */
+    public void bumpVersion(TopologyEventType eventType, UUID contextId) {
+        redisTemplate.opsForValue().increment(resolveVersionKey(eventType, contextId));
+    }
+
+    @Async
+    public void saveMetrics(TopologyEventType eventType, UUID contextId, long version, MetricsAttendanceDto metrics,
+                            Duration ttl, OffsetDateTime startTime, OffsetDateTime endTime) {
+        String key = resolveKey(eventType, contextId, version, startTime, endTime);
         redisTemplate.opsForValue().set(key, metrics, ttl);
     }
 
+    /**
+     * Writes the metrics of many contexts with a single pipelined batch of SET ... EX commands.
+     *
+     * @param versions version of each context, as read before computing
+     */
+    @Async
+    @SuppressWarnings("unchecked")
+    public void saveAllMetrics(List<ContextMetricsDto> entries, Map<MetricsVersionKey, Long> versions,
+                               Duration ttl, OffsetDateTime startTime, OffsetDateTime endTime) {
+        if (entries.isEmpty()) return;
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        Expiration expiration = Expiration.from(ttl);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ContextMetricsDto entry : entries) {
+                long version = versions.getOrDefault(
+                        new MetricsVersionKey(entry.eventType(), entry.contextId()), 0L
+                );
+                String key = resolveKey(entry.eventType(), entry.contextId(), version, startTime, endTime);
+                connection.stringCommands().set(
+                        RedisSerializer.string().serialize(key),
+                        valueSerializer.serialize(entry.metrics()),
+                        expiration,
+                        RedisStringCommands.SetOption.upsert()
+                );
+            }
+            return null;
+        });
+    }
+
     public Optional<MetricsAttendanceDto> getMetrics(
             TopologyEventType eventType,
             UUID contextId,
+            long version,
             OffsetDateTime startTime,
             OffsetDateTime endTime
     ) {
-        String key = resolveKey(eventType, contextId, startTime, endTime);
+        String key = resolveKey(eventType, contextId, version, startTime, endTime);
         Object val = redisTemplate.opsForValue().get(key);
 
         if (val instanceof MetricsAttendanceDto metrics) {
@@ -58,22 +335,12 @@ public class MetricsRedisAdapter {
 
     public void deleteMetrics(TopologyEventType eventType, UUID contextId,
     OffsetDateTime startTime, OffsetDateTime endTime) {
-        String key = resolveKey(eventType, contextId, startTime, endTime);
+        String key = resolveKey(eventType, contextId, currentVersion(eventType, contextId), startTime, endTime);
         redisTemplate.delete(key);
     }
 
     public boolean exists(TopologyEventType eventType, UUID contextId, OffsetDateTime startTime, OffsetDateTime endTime) {
-        String key = resolveKey(eventType, contextId, startTime, endTime);
+        String key = resolveKey(eventType, contextId, currentVersion(eventType, contextId), startTime, endTime);
         return redisTemplate.hasKey(key);
     }
-
-    public boolean exitsInAnyRangeOfDate(TopologyEventType eventType, UUID contextId) {
-        String key = String.format(
-                "viddefe:metrics:%s:%s:*",
-                eventType.name(),
-                contextId
-        );
-        return !redisTemplate.keys(key).isEmpty();
-    }
 }
-
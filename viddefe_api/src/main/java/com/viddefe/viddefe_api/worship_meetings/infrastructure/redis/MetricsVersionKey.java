@@ -0,0 +1,11 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.redis;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+
+import java.util.UUID;
+
+/**
+ * Identifies the version counter that guards the cached metrics of a context.
+ */
+public record MetricsVersionKey(TopologyEventType eventType, UUID contextId) {
+}
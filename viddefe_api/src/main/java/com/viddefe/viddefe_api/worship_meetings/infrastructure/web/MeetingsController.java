@@ -1,14 +1,16 @@
 package com.viddefe.viddefe_api.worship_meetings.infrastructure.web;
 
-import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
 import com.viddefe.viddefe_api.common.response.ApiResponse;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MeetingFacade;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.PastOrPresent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -17,6 +19,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -39,13 +42,13 @@ import java.util.UUID;
  * DELETE /meetings/{id}?type=TEMPLE_WORHSIP               → Eliminar culto
  * </pre>
  */
+@Slf4j
 @RestController
 @RequestMapping("/meetings")
 @RequiredArgsConstructor
 public class MeetingsController {
 
     private final MeetingFacade meetingFacade;
-    private final JwtUtil jwtUtil;
 
     // ==================== CREATE ====================
 
@@ -55,7 +58,7 @@ public class MeetingsController {
      * @param type Tipo de reunión (obligatorio): TEMPLE_WORHSIP o GROUP_MEETING
      * @param contextId ID del contexto (obligatorio para GROUP_MEETING, ignorado para TEMPLE_WORHSIP)
      * @param dto Datos de la reunión a crear
-     * @param accessToken Token JWT con información del usuario
+     * @param user Usuario autenticado
      * @return La reunión creada
      */
     @PostMapping
@@ -63,10 +66,10 @@ public class MeetingsController {
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID contextId,
             @RequestBody @Validated(OnCreate.class) CreateMeetingDto dto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID churchId = jwtUtil.getChurchId(accessToken);
-        UUID resolvedContextId = resolveContextId(type, contextId, accessToken);
+        UUID churchId = user.churchId();
+        UUID resolvedContextId = resolveContextId(type, contextId, user);
         MeetingDto response = meetingFacade.createMeeting(dto, resolvedContextId, type, churchId);
         return new ResponseEntity<>(ApiResponse.created(response), HttpStatus.CREATED);
     }
@@ -79,7 +82,7 @@ public class MeetingsController {
      * @param type Tipo de reunión (obligatorio)
      * @param contextId ID del contexto (obligatorio para GROUP_MEETING)
      * @param pageable Información de paginación
-     * @param accessToken Token JWT
+     * @param user Usuario autenticado
      * @return Página de reuniones
      */
     @GetMapping
@@ -87,9 +90,9 @@ public class MeetingsController {
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID contextId,
             Pageable pageable,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID resolvedContextId = resolveContextId(type, contextId, accessToken);
+        UUID resolvedContextId = resolveContextId(type, contextId, user);
         Page<MeetingDto> response = meetingFacade.getAllMeetings(resolvedContextId, type, pageable);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -100,7 +103,7 @@ public class MeetingsController {
      * @param id ID de la reunión
      * @param type Tipo de reunión (obligatorio)
      * @param contextId ID del contexto (obligatorio para GROUP_MEETING)
-     * @param accessToken Token JWT
+     * @param user Usuario autenticado
      * @return La reunión encontrada
      */
     @GetMapping("/{id}")
@@ -108,9 +111,9 @@ public class MeetingsController {
             @PathVariable UUID id,
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID contextId,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID resolvedContextId = resolveContextId(type, contextId, accessToken);
+        UUID resolvedContextId = resolveContextId(type, contextId, user);
         MeetingDto response = meetingFacade.getMeetingById(resolvedContextId, id, type);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -124,7 +127,7 @@ public class MeetingsController {
      * @param type Tipo de reunión (obligatorio)
      * @param contextId ID del contexto (obligatorio para GROUP_MEETING)
      * @param dto Datos actualizados de la reunión
-     * @param accessToken Token JWT
+     * @param user Usuario autenticado
      * @return La reunión actualizada
      */
     @PutMapping("/{id}")
@@ -133,9 +136,9 @@ public class MeetingsController {
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID contextId,
             @RequestBody @Validated(OnUpdate.class) CreateMeetingDto dto,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID resolvedContextId = resolveContextId(type, contextId, accessToken);
+        UUID resolvedContextId = resolveContextId(type, contextId, user);
         MeetingDto response = meetingFacade.updateMeeting(dto, resolvedContextId, id, type);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -148,7 +151,7 @@ public class MeetingsController {
      * @param id ID de la reunión a eliminar
      * @param type Tipo de reunión (obligatorio)
      * @param contextId ID del contexto (obligatorio para GROUP_MEETING)
-     * @param accessToken Token JWT
+     * @param user Usuario autenticado
      * @return 204 No Content
      */
     @DeleteMapping("/{id}")
@@ -156,9 +159,9 @@ public class MeetingsController {
             @PathVariable UUID id,
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID contextId,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
-        UUID resolvedContextId = resolveContextId(type, contextId, accessToken);
+        UUID resolvedContextId = resolveContextId(type, contextId, user);
         meetingFacade.deleteMeeting(resolvedContextId, id, type);
         return new ResponseEntity<>(ApiResponse.noContent(), HttpStatus.NO_CONTENT);
     }
@@ -181,6 +184,24 @@ public class MeetingsController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * Registra de una vez la lista de asistencia completa de una reunión.
+     *
+     * @param id ID de la reunión
+     * @param type Tipo de reunión (obligatorio)
+     * @param dto Personas presentes; las que no estén quedan ausentes
+     * @return Resumen de los cambios aplicados
+     */
+    @PutMapping("/{id}/attendance")
+    public ResponseEntity<ApiResponse<RollCallResultDto>> recordRollCall(
+            @PathVariable UUID id,
+            @RequestParam TopologyEventType type,
+            @RequestBody @Valid RollCallDto dto
+    ) {
+        RollCallResultDto response = meetingFacade.recordRollCall(id, dto, type);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * Obtiene la lista de asistencia de una reunión.
      *
@@ -195,10 +216,10 @@ public class MeetingsController {
             @RequestParam TopologyEventType type,
             @RequestParam(required = false) UUID groupId,
             Pageable pageable,
-            @CookieValue("access_token") String accessToken,
+            AuthenticatedUser user,
             @RequestParam(required = false) AttendanceQualityEnum levelOfAttendance
     ) {
-        UUID contextId = resolveContextId(type, groupId, accessToken);
+        UUID contextId = resolveContextId(type, groupId, user);
         Page<AttendanceDto> response = meetingFacade.getAttendance(id, type, pageable, contextId, levelOfAttendance);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
@@ -209,14 +230,13 @@ public class MeetingsController {
             @RequestParam(required = false) UUID contextId,
             @RequestParam @PastOrPresent OffsetDateTime startTime,
             @RequestParam OffsetDateTime endTime,
-            @CookieValue("access_token") String accessToken
+            AuthenticatedUser user
     ) {
         //In this case we resolve contextId only for TEMPLE_WORHSIP, for GROUP_MEETING it must be provided
         //Because the resolverContextId if I send TEMPLE_WORHSIP it will always take churchId from JWT
         //But in this case we want to allow both options
-        UUID resolvedContextId = contextId != null ? contextId : jwtUtil.getChurchId(accessToken);
-        System.out.println("Fetching metrics for contextId: " + resolvedContextId);
-        System.out.println("Fetching for event type: " + type);
+        UUID resolvedContextId = contextId != null ? contextId : user.churchId();
+        log.debug("Fetching metrics | contextId={} eventType={}", resolvedContextId, type);
         MetricsAttendanceDto response = meetingFacade.getMetricsAttendance(
                 resolvedContextId,
                 type,
@@ -226,14 +246,53 @@ public class MeetingsController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    /**
+     * Serie de métricas de asistencia por periodo (DAY, WEEK o MONTH) para gráficas de tendencia.
+     */
+    @GetMapping("/metrics/series")
+    public ResponseEntity<ApiResponse<List<MetricsSeriesPointDto>>> getMetricsSeries(
+            @RequestParam TopologyEventType type,
+            @RequestParam(required = false) UUID contextId,
+            @RequestParam(defaultValue = "WEEK") MetricsGranularity granularity,
+            @RequestParam @PastOrPresent OffsetDateTime startTime,
+            @RequestParam OffsetDateTime endTime,
+            AuthenticatedUser user
+    ) {
+        UUID resolvedContextId = contextId != null ? contextId : user.churchId();
+        List<MetricsSeriesPointDto> response = meetingFacade.getMetricsSeries(
+                resolvedContextId,
+                type,
+                granularity,
+                startTime,
+                endTime
+        );
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    /**
+     * Métricas de culto de toda la jerarquía de iglesias bajo la iglesia indicada
+     * (por defecto la iglesia del usuario).
+     */
+    @GetMapping("/metrics/tree")
+    public ResponseEntity<ApiResponse<ChurchTreeMetricsDto>> getChurchTreeMetrics(
+            @RequestParam(required = false) UUID churchId,
+            @RequestParam @PastOrPresent OffsetDateTime startTime,
+            @RequestParam OffsetDateTime endTime,
+            AuthenticatedUser user
+    ) {
+        UUID resolvedChurchId = churchId != null ? churchId : user.churchId();
+        ChurchTreeMetricsDto response = meetingFacade.getChurchTreeMetrics(resolvedChurchId, startTime, endTime);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     /**
      * Resuelve el contextId según el tipo de evento.
      * Para TEMPLE_WORHSIP: usa churchId del JWT.
      * Para GROUP_MEETING: usa el contextId del request param (obligatorio).
      */
-    private UUID resolveContextId(TopologyEventType type, UUID contextId, String accessToken) {
+    private UUID resolveContextId(TopologyEventType type, UUID contextId, AuthenticatedUser user) {
         return switch (type) {
-            case TEMPLE_WORHSIP -> jwtUtil.getChurchId(accessToken);
+            case TEMPLE_WORHSIP -> user.churchId();
             case GROUP_MEETING -> {
                 if (contextId == null) {
                     throw new IllegalArgumentException(
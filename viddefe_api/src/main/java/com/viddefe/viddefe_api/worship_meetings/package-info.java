@@ -1,7 +1,7 @@
 @ApplicationModule(
     id = "worship-module",
     displayName = "Worship Module",
-    allowedDependencies = {"people", "church_module", "common", "common :: response-api", "common :: jwt", "church_module :: models", "church_module :: services", "auth-module :: service", "auth-module :: dto", "people :: people-model", "people :: dto", "people :: services", "homeGroups", "homeGroups :: models", "homeGroups :: services", "notifications-module :: factory", "notifications-module :: config", "notifications-module :: service", "notifications-module :: dto", "config-module :: rabbit"}
+    allowedDependencies = {"people", "church_module", "common", "common :: response-api", "common :: jwt", "common :: scheduling", "church_module :: models", "church_module :: services", "auth-module :: service", "auth-module :: dto", "people :: people-model", "people :: dto", "people :: services", "homeGroups", "homeGroups :: models", "homeGroups :: services", "notifications-module :: factory", "notifications-module :: config", "notifications-module :: service", "notifications-module :: dto", "config-module :: rabbit"}
 )
 package com.viddefe.viddefe_api.worship_meetings;
 
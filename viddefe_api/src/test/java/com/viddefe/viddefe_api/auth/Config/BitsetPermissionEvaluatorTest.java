@@ -0,0 +1,67 @@
+package com.viddefe.viddefe_api.auth.Config;
+
+import com.viddefe.viddefe_api.auth.contracts.PermissionService;
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
+import com.viddefe.viddefe_api.people.config.PeoplePermissions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BitsetPermissionEvaluator Tests")
+class BitsetPermissionEvaluatorTest {
+
+    @Mock
+    private PermissionService permissionService;
+
+    @InjectMocks
+    private BitsetPermissionEvaluator evaluator;
+
+    @Test
+    @DisplayName("Should grant a permission whose bit is set in the principal")
+    void shouldGrantWhenBitIsSet() {
+        when(permissionService.bitIndexOf("PEOPLE_EDIT_PEOPLE")).thenReturn(9);
+
+        assertThat(evaluator.hasPermission(authentication(9), null, PeoplePermissions.PEOPLE_EDIT_PEOPLE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should deny a permission whose bit is not set or that does not exist")
+    void shouldDenyWhenBitIsMissing() {
+        when(permissionService.bitIndexOf("PEOPLE_DELETE_PEOPLE")).thenReturn(10);
+        when(permissionService.bitIndexOf("UNKNOWN")).thenReturn(-1);
+
+        assertThat(evaluator.hasPermission(authentication(9), null, PeoplePermissions.PEOPLE_DELETE_PEOPLE)).isFalse();
+        assertThat(evaluator.hasPermission(authentication(9), null, "UNKNOWN")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should deny when the principal is not an AuthenticatedUser")
+    void shouldDenyForeignPrincipal() {
+        var authentication = new UsernamePasswordAuthenticationToken("anonymous", null, List.of());
+
+        assertThat(evaluator.hasPermission(authentication, null, PeoplePermissions.PEOPLE_VIEW_PEOPLE)).isFalse();
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(int bitIndex) {
+        BitSet bits = new BitSet();
+        bits.set(bitIndex);
+        AuthenticatedUser user = new AuthenticatedUser(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "pastor@viddefe.com", "PASTOR",
+                PermissionBits.of(bits)
+        );
+        return new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+}
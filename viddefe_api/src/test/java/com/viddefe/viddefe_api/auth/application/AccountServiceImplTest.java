@@ -1,5 +1,6 @@
 package com.viddefe.viddefe_api.auth.application;
 
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.BulkInvitationResultDto;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.InvitationDto;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
@@ -7,6 +8,7 @@ import com.viddefe.viddefe_api.auth.domain.model.RolUserModel;
 import com.viddefe.viddefe_api.auth.domain.model.UserModel;
 import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
 import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
@@ -15,17 +17,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -40,7 +46,7 @@ class AccountServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private RolesUserService rolesUserService;
@@ -51,6 +57,9 @@ class AccountServiceImplTest {
     @Mock
     private NotificationEventPublisher notificationEventPublisher;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private AccountServiceImpl accountService;
 
@@ -135,7 +144,7 @@ class AccountServiceImplTest {
             when(userRepository.existsUserByPeopleIdAndPeopleChurchId(personId, churchId)).thenReturn(false);
             when(permissionService.findByListNames(any())).thenReturn(List.of(new PermissionModel()));
             when(rolesUserService.foundRolUserById(1L)).thenReturn(role);
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(anyString())).thenReturn("encodedPassword");
             when(userRepository.save(any(UserModel.class))).thenAnswer(inv -> inv.getArgument(0));
 
             accountService.invite(invitationDto, churchId);
@@ -153,7 +162,7 @@ class AccountServiceImplTest {
             when(userRepository.existsUserByPeopleIdAndPeopleChurchId(personId, churchId)).thenReturn(false);
             when(permissionService.findByListNames(any())).thenReturn(List.of());
             when(rolesUserService.foundRolUserById(1L)).thenReturn(role);
-            when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(anyString())).thenReturn("encodedPassword");
             when(userRepository.save(any(UserModel.class))).thenAnswer(inv -> inv.getArgument(0));
 
             accountService.invite(invitationDto, churchId);
@@ -161,5 +170,89 @@ class AccountServiceImplTest {
             verify(rolesUserService).foundRolUserById(1L);
         }
     }
-}
 
+    @Nested
+    @DisplayName("inviteAll Tests")
+    class InviteAllTests {
+
+        @Test
+        @DisplayName("Should invite valid entries in one batch and report the rejected ones")
+        void shouldInviteValidEntriesAndReportRejected() {
+            PeopleModel outsider = new PeopleModel();
+            outsider.setId(UUID.randomUUID());
+            ChurchModel otherChurch = new ChurchModel();
+            otherChurch.setId(UUID.randomUUID());
+            outsider.setChurch(otherChurch);
+            PeopleModel sibling = new PeopleModel();
+            sibling.setId(UUID.randomUUID());
+            sibling.setFirstName("Jane");
+            sibling.setLastName("Doe");
+            sibling.setChurch(church);
+            PeopleModel late = new PeopleModel();
+            late.setId(UUID.randomUUID());
+            late.setChurch(church);
+
+            PermissionModel read = new PermissionModel();
+            read.setName("READ");
+            when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(person, outsider, sibling, late));
+            when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("taken@example.com"));
+            when(permissionService.findByListNames(anyList())).thenReturn(List.of(read));
+            when(rolesUserService.foundRolUserById(1L)).thenReturn(role);
+            when(passwordHasher.encodeAll(anyList()))
+                    .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).stream().map(raw -> "hash").toList());
+
+            List<InvitationDto> invitations = List.of(
+                    invitation(personId, "john@example.com"),
+                    invitation(outsider.getId(), "out@example.com"),
+                    invitation(sibling.getId(), "john@example.com"),
+                    invitation(late.getId(), "taken@example.com")
+            );
+
+            BulkInvitationResultDto result = accountService.inviteAll(invitations, churchId);
+
+            assertThat(result.invited()).isEqualTo(1);
+            assertThat(result.rejected()).extracting(BulkInvitationResultDto.Rejected::index).containsExactly(1, 2, 3);
+            assertThat(result.rejected()).extracting(BulkInvitationResultDto.Rejected::reason).containsExactly(
+                    "Person does not belong to the church",
+                    "User with email already exists",
+                    "User with email already exists"
+            );
+
+            ArgumentCaptor<List<UserModel>> saved = ArgumentCaptor.forClass(List.class);
+            verify(userRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).singleElement().satisfies(user -> {
+                assertThat(user.getPassword()).isEqualTo("hash");
+                assertThat(user.getPeople()).isSameAs(person);
+                assertThat(user.getPermissions()).hasSize(1);
+            });
+            ArgumentCaptor<NotificationEventBatch> batch = ArgumentCaptor.forClass(NotificationEventBatch.class);
+            verify(notificationEventPublisher).publishAll(batch.capture());
+            assertThat(batch.getValue().events()).hasSize(1);
+            verify(notificationEventPublisher, never()).publish(any());
+            verify(userRepository, never()).findExistingPhones(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should not hash or save anything when every entry is rejected")
+        void shouldSkipWritesWhenAllRejected() {
+            BulkInvitationResultDto result = accountService.inviteAll(List.of(invitation(personId, null)), churchId);
+
+            assertThat(result.invited()).isZero();
+            assertThat(result.rejected()).extracting(BulkInvitationResultDto.Rejected::reason)
+                    .containsExactly("Person not found");
+            verify(passwordHasher, never()).encodeAll(anyList());
+            verify(userRepository, never()).saveAll(anyList());
+            verify(notificationEventPublisher, never()).publishAll(any());
+        }
+
+        private InvitationDto invitation(UUID invitedPersonId, String email) {
+            InvitationDto dto = new InvitationDto();
+            dto.setPersonId(invitedPersonId);
+            dto.setRole(1L);
+            dto.setEmail(email);
+            dto.setChannel("EMAIL");
+            dto.setPermissions(List.of("READ"));
+            return dto;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
 import com.viddefe.viddefe_api.churches.contracts.ChurchPastorService;
 import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -53,6 +55,9 @@ class AuthMeUseCaseTest {
     @Mock
     private PermissionService permissionService;
 
+    @Spy
+    private AuthMeCache authMeCache = new AuthMeCache(new SimpleMeterRegistry());
+
     @InjectMocks
     private AuthMeUseCase authMeUseCase;
 
@@ -296,5 +301,57 @@ class AuthMeUseCaseTest {
             assertThat(result).containsExactly("A_PERMISSION", "B_PERMISSION", "C_PERMISSION");
         }
     }
-}
 
+    @Nested
+    @DisplayName("caching")
+    class Caching {
+
+        @Test
+        @DisplayName("Should serve repeated reads from the cache")
+        void shouldServeRepeatedReadsFromCache() {
+            when(userRepository.findByIdWithPeopleAndChurch(userId)).thenReturn(Optional.of(user));
+            when(churchPastorService.getPastorFromChurch(church)).thenReturn(pastor);
+            when(permissionService.findByUserId(userId)).thenReturn(Collections.emptyList());
+
+            authMeUseCase.getUserInfo(userId);
+            authMeUseCase.getUserInfo(userId);
+            authMeUseCase.getUserPermissions(userId);
+            authMeUseCase.getUserPermissions(userId);
+
+            verify(userRepository, times(1)).findByIdWithPeopleAndChurch(userId);
+            verify(permissionService, times(1)).findByUserId(userId);
+        }
+
+        @Test
+        @DisplayName("Should reload user info after the user's person, pastor or church changes")
+        void shouldReloadAfterEviction() {
+            when(userRepository.findByIdWithPeopleAndChurch(userId)).thenReturn(Optional.of(user));
+            when(churchPastorService.getPastorFromChurch(church)).thenReturn(pastor);
+
+            authMeUseCase.getUserInfo(userId);
+            authMeCache.evictPerson(person.getId());
+            authMeUseCase.getUserInfo(userId);
+            authMeCache.evictPerson(pastor.getId());
+            authMeUseCase.getUserInfo(userId);
+            authMeCache.evictChurch(churchId);
+            authMeUseCase.getUserInfo(userId);
+            authMeCache.evictPerson(UUID.randomUUID());
+            authMeCache.evictChurch(UUID.randomUUID());
+            authMeUseCase.getUserInfo(userId);
+
+            verify(userRepository, times(4)).findByIdWithPeopleAndChurch(userId);
+        }
+
+        @Test
+        @DisplayName("Should reload permissions after they change")
+        void shouldReloadPermissionsAfterEviction() {
+            when(permissionService.findByUserId(userId)).thenReturn(Collections.emptyList());
+
+            authMeUseCase.getUserPermissions(userId);
+            authMeCache.evictUser(userId);
+            authMeUseCase.getUserPermissions(userId);
+
+            verify(permissionService, times(2)).findByUserId(userId);
+        }
+    }
+}
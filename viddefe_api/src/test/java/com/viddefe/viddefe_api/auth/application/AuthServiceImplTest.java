@@ -5,6 +5,7 @@ import com.viddefe.viddefe_api.auth.Config.AuthFlowPastorEnum;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.AuthProcessResponse;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInDTO;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInResDTO;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignInRow;
 import com.viddefe.viddefe_api.auth.Infrastructure.dto.SignUpDTO;
 import com.viddefe.viddefe_api.auth.contracts.PermissionService;
 import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
@@ -14,11 +15,13 @@ import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
 import com.viddefe.viddefe_api.churches.contracts.ChurchService;
 import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
 import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
 import com.viddefe.viddefe_api.common.exception.CustomExceptions;
 import com.viddefe.viddefe_api.people.contracts.PeopleReader;
 import com.viddefe.viddefe_api.people.contracts.PeopleWriter;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
+import io.jsonwebtoken.Claims;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,8 +33,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.BadCredentialsException;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -56,7 +60,7 @@ import static org.mockito.Mockito.*;
 class AuthServiceImplTest {
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private RolesUserService rolesUserService;
@@ -143,7 +147,7 @@ class AuthServiceImplTest {
             when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
             when(rolesUserService.foundRolUserById(2L)).thenReturn(rolUser);
             when(peopleReader.getPeopleById(peopleId)).thenReturn(person);
-            when(passwordEncoder.encode(dto.getPassword())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(dto.getPassword())).thenReturn("encodedPassword");
             when(permissionService.findAll()).thenReturn(Collections.emptyList());
             when(userRepository.save(any(UserModel.class))).thenAnswer(invocation -> {
                 UserModel savedUser = invocation.getArgument(0);
@@ -157,7 +161,7 @@ class AuthServiceImplTest {
             // Then
             assertThat(result.getNextStep()).isEqualTo(AuthFlowPastorEnum.CREATION_CHURCH);
             verify(userRepository).save(any(UserModel.class));
-            verify(passwordEncoder).encode(dto.getPassword());
+            verify(passwordHasher).encode(dto.getPassword());
         }
 
         @Test
@@ -177,7 +181,7 @@ class AuthServiceImplTest {
             when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
             when(rolesUserService.foundRolUserById(3L)).thenReturn(customRole);
             when(peopleReader.getPeopleById(peopleId)).thenReturn(person);
-            when(passwordEncoder.encode(dto.getPassword())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(dto.getPassword())).thenReturn("encodedPassword");
             when(permissionService.findAll()).thenReturn(Collections.emptyList());
             when(userRepository.save(any(UserModel.class))).thenAnswer(invocation -> {
                 UserModel savedUser = invocation.getArgument(0);
@@ -229,7 +233,7 @@ class AuthServiceImplTest {
             when(userRepository.findByEmail(dto.getEmail())).thenReturn(Optional.empty());
             when(rolesUserService.foundRolUserById(2L)).thenReturn(rolUser);
             when(peopleReader.getPeopleById(peopleId)).thenReturn(person);
-            when(passwordEncoder.encode(dto.getPassword())).thenReturn("encodedPassword");
+            when(passwordHasher.encode(dto.getPassword())).thenReturn("encodedPassword");
             when(permissionService.findAll()).thenReturn(List.of(permission1, permission2));
             when(userRepository.save(any(UserModel.class))).thenAnswer(invocation -> {
                 UserModel savedUser = invocation.getArgument(0);
@@ -313,8 +317,9 @@ class AuthServiceImplTest {
             dto.setEmail("test@test.com");
             dto.setPassword("password123");
 
-            when(userRepository.findByEmailWithRelations(dto.getEmail())).thenReturn(Optional.of(user));
-            when(passwordEncoder.matches(dto.getPassword(), user.getPassword())).thenReturn(true);
+            when(userRepository.findSignInByEmail(dto.getEmail()))
+                .thenReturn(Optional.of(signInRow(churchId, "PEOPLE_ADD_PEOPLE,PEOPLE_VIEW_PEOPLE")));
+            when(passwordHasher.matches(dto.getPassword(), "encodedPassword")).thenReturn(true);
 
             // When
             AuthProcessResponse<SignInResDTO> result = authService.signIn(dto);
@@ -322,6 +327,10 @@ class AuthServiceImplTest {
             // Then
             assertThat(result.getData().getEmail()).isEqualTo("test@test.com");
             assertThat(result.getData().getFirstName()).isEqualTo("John");
+            assertThat(result.getData().getRolUserModel().getName()).isEqualTo("PASTOR");
+            assertThat(result.getData().getChurchId()).isEqualTo(churchId);
+            assertThat(result.getData().getPermissions()).containsExactly("PEOPLE_ADD_PEOPLE", "PEOPLE_VIEW_PEOPLE");
+            verify(passwordHasher).upgradeIfNeeded(userId, dto.getPassword(), "encodedPassword");
         }
 
         @Test
@@ -332,26 +341,34 @@ class AuthServiceImplTest {
             dto.setEmail("test@test.com");
             dto.setPassword("password123");
 
-            // NOTA: Hay un bug en el código de producción - intenta acceder a
-            // person.getChurch().getId() ANTES de verificar si church es null.
-            // Este test documenta el comportamiento esperado cuando se corrija el bug.
-            // Por ahora, este test se salta ya que el código actual lanza NullPointerException.
-            // TODO: Corregir AuthServiceImpl.signIn para verificar null antes de acceder a getId()
+            when(userRepository.findSignInByEmail(dto.getEmail())).thenReturn(Optional.of(signInRow(null, "")));
+            when(passwordHasher.matches(dto.getPassword(), "encodedPassword")).thenReturn(true);
 
-            // Creamos una persona sin iglesia asignada pero con iglesia con ID null
-            ChurchModel emptyChurch = new ChurchModel();
-            emptyChurch.setId(null);
-            person.setChurch(emptyChurch);
+            // When
+            AuthProcessResponse<SignInResDTO> result = authService.signIn(dto);
 
-            when(userRepository.findByEmailWithRelations(dto.getEmail())).thenReturn(Optional.of(user));
-            when(passwordEncoder.matches(dto.getPassword(), user.getPassword())).thenReturn(true);
+            // Then
+            assertThat(result.getNextStep()).isEqualTo(AuthFlowPastorEnum.CREATION_CHURCH);
+            assertThat(result.getData().getPermissions()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should look up by phone when no email is given")
+        void shouldSignInByPhone() {
+            // Given
+            SignInDTO dto = new SignInDTO();
+            dto.setPhone("1234567890");
+            dto.setPassword("password123");
+
+            when(userRepository.findSignInByPhone(dto.getPhone())).thenReturn(Optional.of(signInRow(churchId, "")));
+            when(passwordHasher.matches(dto.getPassword(), "encodedPassword")).thenReturn(true);
 
             // When
             AuthProcessResponse<SignInResDTO> result = authService.signIn(dto);
 
-            // Then - Debido al bug, esto actualmente no llegará al PENDING check
-            // pero cuando se corrija, debería funcionar así:
-            assertThat(result.getData()).isNotNull();
+            // Then
+            assertThat(result.getData().getUserId()).isEqualTo(userId);
+            verify(userRepository, never()).findSignInByEmail(any());
         }
 
         @Test
@@ -362,7 +379,7 @@ class AuthServiceImplTest {
             dto.setEmail("nonexistent@test.com");
             dto.setPassword("password123");
 
-            when(userRepository.findByEmailWithRelations(dto.getEmail())).thenReturn(Optional.empty());
+            when(userRepository.findSignInByEmail(dto.getEmail())).thenReturn(Optional.empty());
 
             // When/Then
             assertThatThrownBy(() -> authService.signIn(dto))
@@ -378,13 +395,57 @@ class AuthServiceImplTest {
             dto.setEmail("test@test.com");
             dto.setPassword("wrongPassword");
 
-            when(userRepository.findByEmailWithRelations(dto.getEmail())).thenReturn(Optional.of(user));
-            when(passwordEncoder.matches(dto.getPassword(), user.getPassword())).thenReturn(false);
+            when(userRepository.findSignInByEmail(dto.getEmail())).thenReturn(Optional.of(signInRow(churchId, "")));
+            when(passwordHasher.matches(dto.getPassword(), "encodedPassword")).thenReturn(false);
 
             // When/Then
             assertThatThrownBy(() -> authService.signIn(dto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Contraseña incorrecta");
+            verify(passwordHasher, never()).upgradeIfNeeded(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh / signOut")
+    class RefreshAndSignOut {
+
+        @Test
+        @DisplayName("Should rotate the refresh token and reload current permissions")
+        void shouldRotateRefreshToken() {
+            Claims refreshClaims = mock(Claims.class);
+            when(jwtUtil.consumeRefreshToken("refresh")).thenReturn(Optional.of(refreshClaims));
+            when(refreshClaims.get("userId", String.class)).thenReturn(userId.toString());
+            when(userRepository.findSignInByUserId(userId))
+                    .thenReturn(Optional.of(signInRow(churchId, "ADD_PEOPLE,VIEW_PEOPLE")));
+
+            AuthProcessResponse<SignInResDTO> result = authService.refresh("refresh");
+
+            assertThat(result.getData().getUserId()).isEqualTo(userId);
+            assertThat(result.getData().getPermissions()).containsExactly("ADD_PEOPLE", "VIEW_PEOPLE");
+            verify(jwtUtil).consumeRefreshToken("refresh");
+        }
+
+        @Test
+        @DisplayName("Should reject missing, invalid, revoked or already used refresh tokens")
+        void shouldRejectInvalidRefreshToken() {
+            when(jwtUtil.consumeRefreshToken("revoked")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> authService.refresh("revoked"))
+                    .isInstanceOf(BadCredentialsException.class);
+            assertThatThrownBy(() -> authService.refresh(null))
+                    .isInstanceOf(BadCredentialsException.class);
+            verify(jwtUtil, never()).revoke(any());
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should revoke both tokens on sign-out")
+        void shouldRevokeTokensOnSignOut() {
+            authService.signOut("access", "refresh");
+
+            verify(jwtUtil).revoke("access");
+            verify(jwtUtil).revoke("refresh");
         }
     }
 
@@ -403,11 +464,17 @@ class AuthServiceImplTest {
                 "Doe",
                 peopleId,
                 userId,
-                churchId
+                churchId,
+                List.of()
             );
             List<String> permissions = List.of("READ_PEOPLE", "WRITE_PEOPLE");
+            BitSet bitSet = new BitSet();
+            bitSet.set(0);
+            bitSet.set(1);
+            PermissionBits permissionBits = PermissionBits.of(bitSet);
             String expectedToken = "jwt.token.here";
 
+            when(permissionService.encode(permissions)).thenReturn(permissionBits);
             when(jwtUtil.generateToken(
                 eq("test@test.com"),
                 eq("PASTOR"),
@@ -416,7 +483,7 @@ class AuthServiceImplTest {
                 eq(userId),
                 eq(peopleId),
                 eq(churchId),
-                eq(permissions)
+                eq(permissionBits)
             )).thenReturn(expectedToken);
 
             // When
@@ -432,7 +499,7 @@ class AuthServiceImplTest {
                 userId,
                 peopleId,
                 churchId,
-                permissions
+                permissionBits
             );
         }
 
@@ -447,12 +514,14 @@ class AuthServiceImplTest {
                 "Doe",
                 peopleId,
                 userId,
-                churchId
+                churchId,
+                List.of()
             );
             List<String> permissions = Collections.emptyList();
 
+            when(permissionService.encode(permissions)).thenReturn(PermissionBits.EMPTY);
             when(jwtUtil.generateToken(anyString(), anyString(), anyString(), anyString(),
-                any(UUID.class), any(UUID.class),any(UUID.class) ,anyList())).thenReturn("token");
+                any(UUID.class), any(UUID.class),any(UUID.class) ,any(PermissionBits.class))).thenReturn("token");
 
             // When
             String result = authService.generateJwt(dto, permissions);
@@ -460,8 +529,22 @@ class AuthServiceImplTest {
             // Then
             assertThat(result).isNotNull();
             verify(jwtUtil).generateToken(anyString(), anyString(), anyString(), anyString(),
-                any(UUID.class), any(UUID.class),any(UUID.class), eq(Collections.emptyList()));
+                any(UUID.class), any(UUID.class),any(UUID.class), eq(PermissionBits.EMPTY));
         }
     }
-}
 
+    private SignInRow signInRow(UUID rowChurchId, String permissions) {
+        return new SignInRow() {
+            @Override public UUID getUserId() { return userId; }
+            @Override public String getEmail() { return user.getEmail(); }
+            @Override public String getPassword() { return user.getPassword(); }
+            @Override public Long getRoleId() { return rolUser.getId(); }
+            @Override public String getRoleName() { return rolUser.getName(); }
+            @Override public UUID getPeopleId() { return peopleId; }
+            @Override public String getFirstName() { return person.getFirstName(); }
+            @Override public String getLastName() { return person.getLastName(); }
+            @Override public UUID getChurchId() { return rowChurchId; }
+            @Override public String getPermissions() { return permissions; }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.UserContactRow;
+import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContactResolverImpl Tests")
+class ContactResolverImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ContactResolverImpl contactResolver;
+
+    private final UUID withEmail = UUID.randomUUID();
+    private final UUID withPhone = UUID.randomUUID();
+    private final UUID withoutUser = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        contactResolver = new ContactResolverImpl(userRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch of people with one query, preferring email over phone")
+    void shouldResolveBatchWithOneQuery() {
+        when(userRepository.findContactsByPeopleIds(anyCollection())).thenReturn(List.of(
+                row(withEmail, "ana@viddefe.com", "3001234567"),
+                row(withPhone, " ", "3007654321")
+        ));
+
+        Map<UUID, String> contacts = contactResolver.getContacts(List.of(withEmail, withPhone, withoutUser));
+
+        assertThat(contacts).containsOnly(
+                Map.entry(withEmail, "ana@viddefe.com"),
+                Map.entry(withPhone, "3007654321")
+        );
+        verify(userRepository, times(1)).findContactsByPeopleIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void shouldCacheContacts() {
+        when(userRepository.findContactsByPeopleIds(anyCollection()))
+                .thenReturn(List.of(row(withEmail, "ana@viddefe.com", null)));
+
+        contactResolver.getContacts(List.of(withEmail));
+        String contact = contactResolver.getContact(withEmail);
+
+        assertThat(contact).isEqualTo("ana@viddefe.com");
+        verify(userRepository, times(1)).findContactsByPeopleIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException when the person has no user")
+    void shouldThrowWhenUserMissing() {
+        when(userRepository.findContactsByPeopleIds(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> contactResolver.getContact(withoutUser))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private static UserContactRow row(UUID peopleId, String email, String phone) {
+        return new UserContactRow() {
+            @Override public UUID getPeopleId() { return peopleId; }
+            @Override public String getEmail() { return email; }
+            @Override public String getPhone() { return phone; }
+        };
+    }
+}
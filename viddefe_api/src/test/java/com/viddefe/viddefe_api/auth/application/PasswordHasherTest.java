@@ -0,0 +1,116 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.domain.repository.UserRepository;
+import com.viddefe.viddefe_api.common.exception.CustomExceptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PasswordHasher Tests")
+class PasswordHasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        passwordHasher = new PasswordHasher(passwordEncoder, userRepository, new SimpleMeterRegistry(), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify on the dedicated pool")
+    void shouldHashOnPool() {
+        when(passwordEncoder.encode("secret")).thenAnswer(inv -> Thread.currentThread().getName());
+        when(passwordEncoder.matches("secret", "hash")).thenReturn(true);
+
+        assertThat(passwordHasher.encode("secret")).startsWith("password-hash-");
+        assertThat(passwordHasher.matches("secret", "hash")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should hash a batch without overflowing the queue and keep the order")
+    void shouldEncodeBatchInOrder() {
+        when(passwordEncoder.encode(any())).thenAnswer(inv -> "h-" + inv.getArgument(0));
+
+        // 5 passwords on a pool of 1 thread + 1 queue slot: only fits if the batch is windowed
+        List<String> hashes = passwordHasher.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        assertThat(hashes).containsExactly("h-a", "h-b", "h-c", "h-d", "h-e");
+    }
+
+    @Test
+    @DisplayName("Should fail fast with 503 when the pool and its queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.encode("slow")).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+
+        // One running, one queued
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("slow"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("slow"));
+        verify(passwordEncoder, timeout(1000)).encode("slow");
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> passwordHasher.encode("slow"))
+                .isInstanceOf(CustomExceptions.ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Should re-hash outdated hashes with a compare-and-set update")
+    void shouldUpgradeOutdatedHash() {
+        UUID userId = UUID.randomUUID();
+        when(passwordEncoder.upgradeEncoding("old")).thenReturn(true);
+        when(passwordEncoder.encode("secret")).thenReturn("{bcrypt}new");
+
+        passwordHasher.upgradeIfNeeded(userId, "secret", "old");
+
+        verify(userRepository, timeout(1000)).updatePasswordHash(userId, "old", "{bcrypt}new");
+    }
+
+    @Test
+    @DisplayName("Should leave current hashes untouched")
+    void shouldNotUpgradeCurrentHash() {
+        when(passwordEncoder.upgradeEncoding("current")).thenReturn(false);
+
+        passwordHasher.upgradeIfNeeded(UUID.randomUUID(), "secret", "current");
+
+        verify(passwordEncoder, never()).encode(any());
+    }
+}
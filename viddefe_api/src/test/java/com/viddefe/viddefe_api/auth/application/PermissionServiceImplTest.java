@@ -0,0 +1,129 @@
+package com.viddefe.viddefe_api.auth.application;
+
+import com.viddefe.viddefe_api.auth.Config.ManageUsersPermission;
+import com.viddefe.viddefe_api.auth.Infrastructure.dto.PermissionSeedRequest;
+import com.viddefe.viddefe_api.auth.domain.model.PermissionModel;
+import com.viddefe.viddefe_api.auth.domain.repository.PermissionRepository;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionServiceImpl Tests")
+class PermissionServiceImplTest {
+
+    @Mock
+    private PermissionRepository permissionRepository;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private PermissionServiceImpl permissionService;
+
+    @BeforeEach
+    void setUp() {
+        permissionService = new PermissionServiceImpl(permissionRepository, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should give new permissions the next bit indexes and backfill legacy ones first")
+    void shouldAssignBitIndexesWhenSeeding() {
+        PermissionModel legacy = permission("PEOPLE_VIEW_PEOPLE", null);
+        when(permissionRepository.findMaxBitIndex()).thenReturn(4);
+        when(permissionRepository.findAllByBitIndexIsNullOrderByIdAsc()).thenReturn(List.of(legacy));
+        when(permissionRepository.existsByName(anyString())).thenReturn(false, true, false, false);
+
+        permissionService.seed(new PermissionSeedRequest("USERS", List.of(ManageUsersPermission.values())));
+
+        verify(permissionRepository).lockBitIndexAllocation(anyLong());
+        assertThat(legacy.getBitIndex()).isEqualTo(5);
+        ArgumentCaptor<PermissionModel> saved = ArgumentCaptor.forClass(PermissionModel.class);
+        verify(permissionRepository, times(3)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(PermissionModel::getBitIndex).containsExactly(6, 7, 8);
+        assertThat(saved.getAllValues()).extracting(PermissionModel::getName)
+                .containsExactly("INVITATION_PERMISSION", "VIEW_USER_INVITATION", "DELETE_USER");
+    }
+
+    @Test
+    @DisplayName("Should encode known permission names as bits and ignore unknown ones")
+    void shouldEncodePermissionNames() {
+        when(permissionRepository.findAll()).thenReturn(List.of(
+                permission("PEOPLE_ADD_PEOPLE", 0),
+                permission("PEOPLE_VIEW_PEOPLE", 65),
+                permission("LEGACY", null)
+        ));
+
+        PermissionBits bits = permissionService.encode(List.of("PEOPLE_VIEW_PEOPLE", "UNKNOWN"));
+
+        assertThat(bits.has(65)).isTrue();
+        assertThat(bits.has(0)).isFalse();
+        assertThat(PermissionBits.decode(bits.encode())).isEqualTo(bits);
+        assertThat(permissionService.bitIndexOf("PEOPLE_ADD_PEOPLE")).isZero();
+        assertThat(permissionService.bitIndexOf("UNKNOWN")).isEqualTo(-1);
+        // The name -> bit map is loaded once
+        verify(permissionRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reload the map on a missing name, at most once per interval")
+    void shouldReloadOnMissingName() {
+        when(permissionRepository.findAll())
+                .thenReturn(List.of(permission("PEOPLE_ADD_PEOPLE", 0)))
+                .thenReturn(List.of(permission("PEOPLE_ADD_PEOPLE", 0), permission("SEEDED_ELSEWHERE", 9)));
+
+        assertThat(permissionService.bitIndexOf("SEEDED_ELSEWHERE")).isEqualTo(-1);
+        assertThat(permissionService.bitIndexOf("SEEDED_ELSEWHERE")).isEqualTo(-1);
+        verify(permissionRepository, times(1)).findAll();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        assertThat(permissionService.encode(List.of("SEEDED_ELSEWHERE")).has(9)).isTrue();
+        verify(permissionRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should drop the cached map only after the seeding transaction commits")
+    void shouldDropCacheAfterCommit() {
+        when(permissionRepository.findAll()).thenReturn(List.of(permission("PEOPLE_ADD_PEOPLE", 0)));
+        when(permissionRepository.findMaxBitIndex()).thenReturn(0);
+        permissionService.bitIndexOf("PEOPLE_ADD_PEOPLE");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            permissionService.seed(new PermissionSeedRequest("USERS", List.of()));
+            permissionService.bitIndexOf("PEOPLE_ADD_PEOPLE");
+            verify(permissionRepository, times(1)).findAll();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        permissionService.bitIndexOf("PEOPLE_ADD_PEOPLE");
+        verify(permissionRepository, times(2)).findAll();
+    }
+
+    private static PermissionModel permission(String name, Integer bitIndex) {
+        PermissionModel model = new PermissionModel();
+        model.setName(name);
+        model.setBitIndex(bitIndex);
+        return model;
+    }
+}
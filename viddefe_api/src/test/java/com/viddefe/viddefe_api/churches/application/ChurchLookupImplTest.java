@@ -12,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -116,6 +117,25 @@ class ChurchLookupImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("findAncestorPathIds Tests")
+    class FindAncestorPathIdsTests {
+
+        @Test
+        @DisplayName("Should return the ancestor path root first with a bounded depth")
+        void shouldReturnAncestorPath() {
+            // Given
+            UUID parentId = UUID.randomUUID();
+            when(churchRepository.findAncestorPathIds(churchId, 32)).thenReturn(List.of(parentId, churchId));
+
+            // When
+            List<UUID> result = churchLookup.findAncestorPathIds(churchId);
+
+            // Then
+            assertThat(result).containsExactly(parentId, churchId);
+        }
+    }
+
     @Nested
     @DisplayName("Architecture Validation")
     class ArchitectureValidation {
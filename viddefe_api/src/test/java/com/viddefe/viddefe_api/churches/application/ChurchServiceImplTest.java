@@ -10,6 +10,7 @@ import com.viddefe.viddefe_api.churches.domain.repository.ChurchRepository;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDTO;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchDetailedResDto;
 import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchResDto;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchUpdatedEvent;
 import com.viddefe.viddefe_api.people.contracts.ChurchMembershipService;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import jakarta.persistence.EntityNotFoundException;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -53,6 +55,9 @@ class ChurchServiceImplTest {
     @Mock
     private ChurchMembershipService churchMembershipService;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
     @InjectMocks
     private ChurchServiceImpl churchService;
 
@@ -200,6 +205,7 @@ class ChurchServiceImplTest {
             assertThat(result).isNotNull();
             verify(churchRepository).findById(churchId);
             verify(churchRepository).save(any(ChurchModel.class));
+            verify(applicationEventPublisher).publishEvent(new ChurchUpdatedEvent(churchId, null, null));
         }
 
         @Test
@@ -232,6 +238,8 @@ class ChurchServiceImplTest {
             verify(churchPastorService).removePastorFromChurch(church);
             verify(churchRepository).delete(church);
             verify(churchMembershipService).transferToChurch(pastor, parentChurch);
+            // The deleted church can no longer be resolved, so the event carries the tree it hung from
+            verify(applicationEventPublisher).publishEvent(new ChurchUpdatedEvent(churchId, null, parentChurch.getId()));
         }
 
         @Test
@@ -0,0 +1,195 @@
+package com.viddefe.viddefe_api.common.Components;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtUtil Tests")
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-with-at-least-thirty-two-bytes!!";
+
+    private JwtUtil jwtUtil;
+    private TokenRevocationList revocationList;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private UUID userId;
+    private UUID personId;
+    private UUID churchId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        jwtUtil = jwtUtil(SECRET);
+        userId = UUID.randomUUID();
+        personId = UUID.randomUUID();
+        churchId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should read back the claims of a generated token")
+    void shouldReadGeneratedClaims() {
+        String token = token();
+
+        assertThat(jwtUtil.isTokenValid(token)).isTrue();
+        assertThat(jwtUtil.extractEmail(token)).isEqualTo("pastor@viddefe.com");
+        assertThat(jwtUtil.getUserId(token)).isEqualTo(userId);
+        assertThat(jwtUtil.getPersonId(token)).isEqualTo(personId);
+        assertThat(jwtUtil.getChurchId(token)).isEqualTo(churchId);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve later reads from the cache")
+    void shouldCacheVerifiedClaims() {
+        String token = token();
+
+        Claims first = jwtUtil.getClaims(token);
+        Claims second = jwtUtil.getClaims(token);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Should build the authenticated user once per token with its permission bits")
+    void shouldBuildAuthenticatedUser() {
+        String token = token();
+
+        AuthenticatedUser user = jwtUtil.authenticate(token).orElseThrow();
+
+        assertThat(user.userId()).isEqualTo(userId);
+        assertThat(user.personId()).isEqualTo(personId);
+        assertThat(user.churchId()).isEqualTo(churchId);
+        assertThat(user.getName()).isEqualTo("pastor@viddefe.com");
+        assertThat(user.role()).isEqualTo("PASTOR");
+        assertThat(user.permissions()).isEqualTo(permissions(3, 70));
+        assertThat(user.permissions().has(70)).isTrue();
+        assertThat(user.permissions().has(4)).isFalse();
+        assertThat(jwtUtil.authenticate(token)).containsSame(user);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens even after the original was cached")
+    void shouldRejectTamperedToken() {
+        String token = token();
+        jwtUtil.getClaims(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtUtil.verify(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with another key")
+    void shouldRejectForeignToken() {
+        String foreign = jwtUtil("another-secret-with-at-least-thirty-two-bytes").generateToken(
+                "pastor@viddefe.com", "PASTOR", "Juan", "Pérez", userId, personId, churchId, PermissionBits.EMPTY
+        );
+
+        assertThat(jwtUtil.isTokenValid(foreign)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept refresh tokens only where a refresh token is expected")
+    void shouldSeparateRefreshAndAccessTokens() {
+        String refresh = jwtUtil.generateRefreshToken(userId);
+        String access = token();
+
+        assertThat(jwtUtil.verifyRefreshToken(refresh)).isPresent();
+        assertThat(jwtUtil.authenticate(refresh)).isEmpty();
+        assertThat(jwtUtil.verifyRefreshToken(access)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a revoked token even after it was cached")
+    void shouldRejectRevokedToken() {
+        String token = token();
+        String other = token();
+        jwtUtil.authenticate(token);
+        when(redisTemplate.hasKey(startsWith("auth:revoked:jti:"))).thenReturn(true);
+
+        jwtUtil.revoke(token);
+
+        assertThat(jwtUtil.authenticate(token)).isEmpty();
+        verify(redisTemplate).convertAndSend(eq(TokenRevocationList.CHANNEL), startsWith("jti:"));
+        assertThat(jwtUtil.authenticate(other)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should reject access tokens issued before the user was revoked, without reading Redis")
+    void shouldRejectTokensOfRevokedUser() {
+        String token = token();
+        String refresh = jwtUtil.generateRefreshToken(userId);
+        // Announced by another instance; a later revocation second stands in for a token issued earlier
+        long revokedAt = Instant.now().plusSeconds(60).getEpochSecond();
+
+        revocationList.onMessage(new DefaultMessage(
+                TokenRevocationList.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("user:" + userId + ":" + revokedAt).getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        assertThat(jwtUtil.authenticate(token)).isEmpty();
+        assertThat(jwtUtil.verifyRefreshToken(refresh)).isPresent();
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("Should keep tokens issued after the user revocation valid")
+    void shouldAcceptTokensIssuedAfterUserRevocation() {
+        jwtUtil.revokeUser(userId);
+
+        assertThat(jwtUtil.authenticate(token())).isPresent();
+        verify(redisTemplate).convertAndSend(eq(TokenRevocationList.CHANNEL), startsWith("user:" + userId + ":"));
+    }
+
+    @Test
+    @DisplayName("Should let only one of two replays of the same refresh token consume it")
+    void shouldConsumeRefreshTokenOnce() {
+        String refresh = jwtUtil.generateRefreshToken(userId);
+        when(valueOperations.setIfAbsent(startsWith("auth:revoked:jti:"), eq("1"), any(Duration.class)))
+                .thenReturn(true, false);
+
+        assertThat(jwtUtil.consumeRefreshToken(refresh)).isPresent();
+        assertThat(jwtUtil.consumeRefreshToken(refresh)).isEmpty();
+    }
+
+    private JwtUtil jwtUtil(String secret) {
+        revocationList = new TokenRevocationList(
+                redisTemplate, Duration.ofDays(7), Duration.ofMinutes(15), 1_000
+        );
+        return new JwtUtil(secret, Duration.ofMinutes(15), Duration.ofDays(7), revocationList);
+    }
+
+    private String token() {
+        return jwtUtil.generateToken(
+                "pastor@viddefe.com", "PASTOR", "Juan", "Pérez", userId, personId, churchId, permissions(3, 70)
+        );
+    }
+
+    private static PermissionBits permissions(int... bitIndexes) {
+        BitSet bits = new BitSet();
+        for (int bitIndex : bitIndexes) bits.set(bitIndex);
+        return PermissionBits.of(bits);
+    }
+}
@@ -0,0 +1,107 @@
+package com.viddefe.viddefe_api.common.Components;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationList Tests")
+class TokenRevocationListTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(redisTemplate, Duration.ofDays(7), Duration.ofMinutes(15), 1_000);
+    }
+
+    @Test
+    @DisplayName("Should answer from the bloom filter without touching Redis when nothing was revoked")
+    void shouldNotQueryRedisOnMiss() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(revocationList.isRevoked(claims(UUID.randomUUID().toString()), true)).isFalse();
+        }
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens announced as revoked by another instance")
+    void shouldApplyRevocationFromPubSub() {
+        String tokenId = UUID.randomUUID().toString();
+        when(redisTemplate.hasKey("auth:revoked:jti:" + tokenId)).thenReturn(true);
+
+        revocationList.onMessage(message("jti:" + tokenId), null);
+
+        assertThat(revocationList.isRevoked(claims(tokenId), true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail closed on a bloom filter hit when Redis cannot confirm it")
+    void shouldFailClosedWhenRedisIsDown() {
+        String tokenId = UUID.randomUUID().toString();
+        revocationList.onMessage(message("jti:" + tokenId), null);
+        when(redisTemplate.hasKey("auth:revoked:jti:" + tokenId))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(revocationList.isRevoked(claims(tokenId), true)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep user revocations out of the bloom filter and expire them with the access TTL")
+    void shouldNotPutUserRevocationsInBloomFilter() {
+        AtomicLong nanos = new AtomicLong();
+        revocationList = new TokenRevocationList(redisTemplate, Duration.ofDays(7), Duration.ofMinutes(15), 1_000, nanos::get);
+        String userId = UUID.randomUUID().toString();
+        long revokedAt = Instant.now().plusSeconds(60).getEpochSecond();
+        revocationList.onMessage(message("user:" + userId + ":" + revokedAt), null);
+
+        assertThat(revocationList.isRevoked(claims(UUID.randomUUID().toString(), userId), true)).isTrue();
+        assertThat(revocationList.isRevoked(claims(UUID.randomUUID().toString(), userId), false)).isFalse();
+
+        nanos.addAndGet(Duration.ofMinutes(16).toNanos());
+        assertThat(revocationList.isRevoked(claims(UUID.randomUUID().toString(), userId), true)).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private static Claims claims(String tokenId) {
+        return claims(tokenId, UUID.randomUUID().toString());
+    }
+
+    private static Claims claims(String tokenId, String userId) {
+        return Jwts.claims()
+                .id(tokenId)
+                .add("userId", userId)
+                .issuedAt(new Date())
+                .build();
+    }
+
+    private static DefaultMessage message(String entry) {
+        return new DefaultMessage(
+                TokenRevocationList.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                entry.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.viddefe.viddefe_api.common.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ShardedJobRunner Tests")
+class ShardedJobRunnerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(19);
+
+    @Mock
+    private LeaseLock leaseLock;
+
+    @InjectMocks
+    private ShardedJobRunner runner;
+
+    @Test
+    @DisplayName("Should only run the shards whose lease this replica acquired")
+    void shouldRunLeasedShardsOnly() {
+        when(leaseLock.tryAcquire(anyString(), eq(LEASE))).thenReturn(Optional.empty());
+        when(leaseLock.tryAcquire("jobs:reminders:shard:1", LEASE)).thenReturn(Optional.of("token-1"));
+        when(leaseLock.tryAcquire("jobs:reminders:shard:3", LEASE)).thenReturn(Optional.of("token-3"));
+        List<Integer> ran = new ArrayList<>();
+
+        int processed = runner.run("reminders", 4, LEASE, ran::add);
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(ran).containsExactlyInAnyOrder(1, 3);
+        // Completed shards keep their lease until it expires
+        verify(leaseLock, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should release the lease of a failed shard and keep running the others")
+    void shouldReleaseFailedShard() {
+        when(leaseLock.tryAcquire(anyString(), any())).thenAnswer(invocation -> Optional.of("token"));
+        List<Integer> ran = new ArrayList<>();
+
+        int processed = runner.run("reminders", 3, LEASE, shard -> {
+            if (shard == 0) {
+                throw new IllegalStateException("boom");
+            }
+            ran.add(shard);
+        });
+
+        assertThat(processed).isEqualTo(2);
+        assertThat(ran).containsExactlyInAnyOrder(1, 2);
+        verify(leaseLock).release("jobs:reminders:shard:0", "token");
+    }
+
+    @Test
+    @DisplayName("Should always map the same id to the same shard")
+    void shouldShardStably() {
+        UUID churchId = UUID.randomUUID();
+
+        int shard = ShardedJobRunner.shardOf(churchId, 8);
+
+        assertThat(shard).isBetween(0, 7).isEqualTo(ShardedJobRunner.shardOf(churchId, 8));
+    }
+}
@@ -0,0 +1,62 @@
+package com.viddefe.viddefe_api.config.Filters;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PathPrefixTrie Tests")
+class PathPrefixTrieTest {
+
+    private final PathPrefixTrie trie = PathPrefixTrie.of("/error", "/auth", "/api/v1/public");
+
+    @Test
+    @DisplayName("Should match the prefixes and any path below them")
+    void shouldMatchPrefixesAndChildren() {
+        assertThat(trie.matches("/auth")).isTrue();
+        assertThat(trie.matches("/auth/")).isTrue();
+        assertThat(trie.matches("/auth/sign-in")).isTrue();
+        assertThat(trie.matches("/error")).isTrue();
+        assertThat(trie.matches("/api/v1/public/docs/index.html")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should compare whole segments, not raw string prefixes")
+    void shouldCompareWholeSegments() {
+        assertThat(trie.matches("/authors")).isFalse();
+        assertThat(trie.matches("/api/v1")).isFalse();
+        assertThat(trie.matches("/api/v1/publications")).isFalse();
+        assertThat(trie.matches("/people/auth")).isFalse();
+        assertThat(trie.matches("/")).isFalse();
+        assertThat(trie.matches(null)).isFalse();
+    }
+
+    @Nested
+    @DisplayName("PublicPaths")
+    class PublicPathsTests {
+
+        @Test
+        @DisplayName("Should treat only GET /states as a cacheable public read")
+        void shouldRouteOnlyGetStatesToPublicChain() {
+            assertThat(PublicPaths.isCacheableGet(request("GET", "/states/5/cities"))).isTrue();
+            assertThat(PublicPaths.isCacheableGet(request("POST", "/states"))).isFalse();
+            assertThat(PublicPaths.isCacheableGet(request("GET", "/statements"))).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should strip the context path before matching")
+        void shouldStripContextPath() {
+            MockHttpServletRequest request = request("POST", "/api/auth/sign-in");
+            request.setContextPath("/api");
+
+            assertThat(PublicPaths.isPublic(request)).isTrue();
+            assertThat(PublicPaths.isPublic(request("GET", "/people"))).isFalse();
+        }
+
+        private MockHttpServletRequest request(String method, String uri) {
+            return new MockHttpServletRequest(method, uri);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.viddefe.viddefe_api.config.Security;
+
+import com.viddefe.viddefe_api.common.Components.AuthenticatedUser;
+import com.viddefe.viddefe_api.common.Components.JwtUtil;
+import com.viddefe.viddefe_api.common.Components.PermissionBits;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticatedUserArgumentResolver Tests")
+class AuthenticatedUserArgumentResolverTest {
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private AuthenticatedUserArgumentResolver resolver;
+
+    private final AuthenticatedUser user = new AuthenticatedUser(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "pastor@viddefe.com", "PASTOR", PermissionBits.EMPTY
+    );
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should return the principal left by JwtFilter without touching the token")
+    void shouldReturnPrincipalFromSecurityContext() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of())
+        );
+
+        AuthenticatedUser resolved = resolver.resolveArgument(
+                null, null, new ServletWebRequest(new MockHttpServletRequest()), null
+        );
+
+        assertThat(resolved).isSameAs(user);
+        verify(jwtUtil, never()).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("Should verify the cookie token on routes the filter skips")
+    void shouldAuthenticateCookieOnPublicRoutes() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(JwtUtil.TOKEN_COOKIE, "token"));
+        when(jwtUtil.authenticate("token")).thenReturn(Optional.of(user));
+
+        AuthenticatedUser resolved = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        assertThat(resolved).isSameAs(user);
+    }
+
+    @Test
+    @DisplayName("Should fail with an authentication error when there is no token")
+    void shouldFailWithoutToken() {
+        assertThatThrownBy(() -> resolver.resolveArgument(
+                null, null, new ServletWebRequest(new MockHttpServletRequest()), null
+        )).isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+}
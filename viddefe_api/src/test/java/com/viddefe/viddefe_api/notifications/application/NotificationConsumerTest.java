@@ -0,0 +1,199 @@
+package com.viddefe.viddefe_api.notifications.application;
+
+import com.viddefe.viddefe_api.auth.contracts.ContactResolver;
+import com.viddefe.viddefe_api.config.rabbit.RabbitPriority;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationAccountEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationDto;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationMeetingEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.factory.NotificatorFactory;
+import com.viddefe.viddefe_api.notifications.common.Channels;
+import com.viddefe.viddefe_api.notifications.contracts.Notificator;
+import com.viddefe.viddefe_api.people.contracts.PeopleReader;
+import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
+import com.viddefe.viddefe_api.worship_meetings.contracts.MinistryFunctionReminderSentWriter;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryReminderKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationConsumer Tests")
+class NotificationConsumerTest {
+
+    @Mock
+    private PeopleReader peopleReader;
+
+    @Mock
+    private ContactResolver contactResolver;
+
+    @Mock
+    private NotificatorFactory notificatorFactory;
+
+    @Mock
+    private MinistryFunctionReminderSentWriter ministryFunctionReminderSentWriter;
+
+    @Mock
+    private Notificator notificator;
+
+    @InjectMocks
+    private NotificationConsumer notificationConsumer;
+
+    @Test
+    @DisplayName("Should resolve the whole ministry batch with one people lookup and one reminder update")
+    @SuppressWarnings("unchecked")
+    void shouldConsumeMinistryBatchWithBulkLookups() {
+        UUID meetingId = UUID.randomUUID();
+        PeopleModel first = person("+573001111111");
+        PeopleModel second = person("+573002222222");
+        List<NotificationEvent> events = List.of(
+                meetingEvent(meetingId, first.getId()),
+                meetingEvent(meetingId, second.getId())
+        );
+        when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(first, second));
+        when(notificatorFactory.get(Channels.WHATSAPP)).thenReturn(notificator);
+        when(notificator.send(any(NotificationDto.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        notificationConsumer.consumeMinistry(events);
+
+        verify(peopleReader, times(1)).getPeopleByIds(anyList());
+        verify(notificator, times(2)).send(any(NotificationDto.class));
+        ArgumentCaptor<Collection<MinistryReminderKey>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(ministryFunctionReminderSentWriter, times(1)).writeMinistryFunctionRemindersSent(keys.capture());
+        assertThat(keys.getValue()).containsExactlyInAnyOrder(
+                new MinistryReminderKey(meetingId, first.getId()),
+                new MinistryReminderKey(meetingId, second.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("Should not mark an event that failed to dispatch nor fail the batch")
+    @SuppressWarnings("unchecked")
+    void shouldIsolateFailingEvent() {
+        UUID meetingId = UUID.randomUUID();
+        PeopleModel ok = person("+573001111111");
+        PeopleModel failing = person("+573002222222");
+        when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(ok, failing));
+        when(notificatorFactory.get(Channels.WHATSAPP)).thenReturn(notificator);
+        doAnswer(invocation -> {
+            NotificationDto dto = invocation.getArgument(0);
+            if (dto.getTo().equals(failing.getPhone())) {
+                throw new IllegalStateException("send failed");
+            }
+            return CompletableFuture.completedFuture(null);
+        }).when(notificator).send(any(NotificationDto.class));
+
+        notificationConsumer.consumeMinistry(List.of(
+                meetingEvent(meetingId, ok.getId()),
+                meetingEvent(meetingId, failing.getId())
+        ));
+
+        ArgumentCaptor<Collection<MinistryReminderKey>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(ministryFunctionReminderSentWriter).writeMinistryFunctionRemindersSent(keys.capture());
+        assertThat(keys.getValue()).containsExactly(new MinistryReminderKey(meetingId, ok.getId()));
+    }
+
+    @Test
+    @DisplayName("Should mark reminders only once their delivery completes, leaving dead-lettered ones pending")
+    @SuppressWarnings("unchecked")
+    void shouldMarkOnlyDeliveredReminders() {
+        UUID meetingId = UUID.randomUUID();
+        PeopleModel delivered = person("+573001111111");
+        PeopleModel deadLettered = person("+573002222222");
+        CompletableFuture<Void> firstDelivery = new CompletableFuture<>();
+        CompletableFuture<Void> secondDelivery = new CompletableFuture<>();
+        when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(delivered, deadLettered));
+        when(notificatorFactory.get(Channels.WHATSAPP)).thenReturn(notificator);
+        when(notificator.send(any(NotificationDto.class))).thenReturn(firstDelivery, secondDelivery);
+
+        notificationConsumer.consumeMinistry(List.of(
+                meetingEvent(meetingId, delivered.getId()),
+                meetingEvent(meetingId, deadLettered.getId())
+        ));
+        firstDelivery.complete(null);
+        verifyNoInteractions(ministryFunctionReminderSentWriter);
+        secondDelivery.completeExceptionally(new IllegalStateException("dead-lettered"));
+
+        ArgumentCaptor<Collection<MinistryReminderKey>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(ministryFunctionReminderSentWriter).writeMinistryFunctionRemindersSent(keys.capture());
+        assertThat(keys.getValue()).containsExactly(new MinistryReminderKey(meetingId, delivered.getId()));
+    }
+
+    @Test
+    @DisplayName("Should not rethrow a marking failure, which would requeue and resend the batch")
+    void shouldSwallowMarkingFailure() {
+        PeopleModel person = person("+573001111111");
+        when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(person));
+        when(notificatorFactory.get(Channels.WHATSAPP)).thenReturn(notificator);
+        when(notificator.send(any(NotificationDto.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(ministryFunctionReminderSentWriter.writeMinistryFunctionRemindersSent(anyCollection()))
+                .thenThrow(new IllegalStateException("database down"));
+
+        assertThatCode(() -> notificationConsumer.consumeMinistry(List.of(meetingEvent(UUID.randomUUID(), person.getId()))))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should resolve account contacts with a single lookup per batch")
+    void shouldConsumeAccountBatchWithOneContactLookup() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        when(contactResolver.getContacts(anyList())).thenReturn(Map.of(firstId, "a@viddefe.com"));
+        when(notificatorFactory.get(Channels.EMAIL)).thenReturn(notificator);
+        when(notificator.send(any(NotificationDto.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        notificationConsumer.consumeAccount(List.of(accountEvent(firstId), accountEvent(secondId)));
+
+        verify(contactResolver, times(1)).getContacts(anyList());
+        verify(notificator, times(1)).send(any(NotificationDto.class));
+        verifyNoInteractions(ministryFunctionReminderSentWriter);
+    }
+
+    private static PeopleModel person(String phone) {
+        PeopleModel person = new PeopleModel();
+        person.setId(UUID.randomUUID());
+        person.setPhone(phone);
+        return person;
+    }
+
+    private static NotificationEvent meetingEvent(UUID meetingId, UUID personId) {
+        NotificationMeetingEvent event = new NotificationMeetingEvent();
+        event.setMeetingId(meetingId);
+        fill(event, personId, Channels.WHATSAPP);
+        return event;
+    }
+
+    private static NotificationEvent accountEvent(UUID personId) {
+        NotificationAccountEvent event = new NotificationAccountEvent();
+        fill(event, personId, Channels.EMAIL);
+        event.setSubject("Bienvenido");
+        return event;
+    }
+
+    private static void fill(NotificationEvent event, UUID personId, Channels channel) {
+        event.setPersonId(personId);
+        event.setChannels(channel);
+        event.setPriority(RabbitPriority.HIGH);
+        event.setCreatedAt(Instant.now());
+        event.setTemplate("Hola {{name}}");
+        event.setVariables(Map.of("name", "Ana"));
+    }
+}
@@ -3,6 +3,7 @@ package com.viddefe.viddefe_api.notifications.application;
 import com.viddefe.viddefe_api.config.rabbit.RabbitPriority;
 import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
 import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEvent;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
 import com.viddefe.viddefe_api.notifications.common.NotificationTypeEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +18,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessagePostProcessor;
 import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -127,6 +130,32 @@ class NotificationEventPublisherImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("publishAll Tests")
+    class PublishAllTests {
+
+        @Test
+        @DisplayName("Should send every event of the batch on a single channel")
+        @SuppressWarnings("unchecked")
+        void shouldSendBatchOnSingleChannel() {
+            TestNotificationEvent second = new TestNotificationEvent();
+            second.setPriority(RabbitPriority.LOW);
+            when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+                    invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(rabbitTemplate)
+            );
+
+            notificationEventPublisher.publishAll(new NotificationEventBatch(List.of(testEvent, second)));
+
+            verify(rabbitTemplate, times(1)).invoke(any(RabbitOperations.OperationsCallback.class));
+            verify(rabbitTemplate).convertAndSend(
+                    eq(RabbitQueues.NOTIFICATIONS_EXCHANGE), any(String.class), eq(testEvent), any(MessagePostProcessor.class)
+            );
+            verify(rabbitTemplate).convertAndSend(
+                    eq(RabbitQueues.NOTIFICATIONS_EXCHANGE), any(String.class), eq(second), any(MessagePostProcessor.class)
+            );
+        }
+    }
+
     // Test implementation of NotificationEvent
     private static class TestNotificationEvent extends NotificationEvent {
         @Override
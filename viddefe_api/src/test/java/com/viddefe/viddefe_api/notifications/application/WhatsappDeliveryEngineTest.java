@@ -0,0 +1,205 @@
+package com.viddefe.viddefe_api.notifications.application;
+
+import com.sun.net.httpserver.HttpServer;
+import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.WhatsappDeadLetter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the engine against a local stub of the Graph API ({@link HttpServer} from the JDK).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WhatsappDeliveryEngine Tests")
+class WhatsappDeliveryEngineTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private HttpServer graphApi;
+    private final ConcurrentLinkedQueue<Integer> scriptedStatuses = new ConcurrentLinkedQueue<>();
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private WhatsappDeliveryEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        graphApi = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        graphApi.createContext("/v1/123/messages", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            Integer status = scriptedStatuses.poll();
+            exchange.sendResponseHeaders(status != null ? status : 200, -1);
+            exchange.close();
+        });
+        graphApi.start();
+
+        // HTTP/1.1: over plain http the JDK client would otherwise try an h2c upgrade on the first call
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        RestClient restClient = RestClient.builder()
+                .baseUrl("http://localhost:" + graphApi.getAddress().getPort() + "/v1/123")
+                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new WhatsappDeliveryEngine(
+                new WhatsappClient(restClient), rabbitTemplate, meterRegistry,
+                2, 10, 1_000, 100, 3, Duration.ofMillis(10), Duration.ofMillis(50)
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        engine.shutdown();
+        graphApi.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should send the Graph API text payload")
+    void shouldSendTextPayload() {
+        CompletableFuture<Void> delivery = engine.submit("573001234567", "Hola Ana");
+
+        assertThat(delivery).succeedsWithin(AWAIT_TIMEOUT);
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        assertThat(receivedBodies).singleElement().satisfies(body -> assertThat(body)
+                .contains("\"messaging_product\":\"whatsapp\"")
+                .contains("\"to\":\"573001234567\"")
+                .contains("\"type\":\"text\"")
+                .contains("\"body\":\"Hola Ana\""));
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures (429, 5xx) and then deliver")
+    void shouldRetryTransientFailures() {
+        scriptedStatuses.add(503);
+        scriptedStatuses.add(429);
+
+        engine.submit("573001234567", "Hola");
+
+        awaitDeliveries("sent", 1);
+        verify(rabbitTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+        assertThat(receivedBodies).hasSize(3);
+        assertThat(deliveries("retried")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter after exhausting the attempts")
+    void shouldDeadLetterAfterMaxAttempts() {
+        scriptedStatuses.add(500);
+        scriptedStatuses.add(500);
+        scriptedStatuses.add(500);
+
+        engine.submit("573001234567", "Hola");
+
+        verify(rabbitTemplate, timeout(AWAIT_TIMEOUT.toMillis())).convertAndSend(
+                eq(""), eq(RabbitQueues.WHATSAPP_DEAD_LETTER_QUEUE),
+                argThat((WhatsappDeadLetter letter) -> letter.attempts() == 3 && letter.message().equals("Hola"))
+        );
+        assertThat(receivedBodies).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter permanent rejections without retrying")
+    void shouldNotRetryPermanentRejections() {
+        scriptedStatuses.add(400);
+
+        CompletableFuture<Void> delivery = engine.submit("invalid", "Hola");
+
+        verify(rabbitTemplate, timeout(AWAIT_TIMEOUT.toMillis())).convertAndSend(
+                eq(""), eq(RabbitQueues.WHATSAPP_DEAD_LETTER_QUEUE),
+                argThat((WhatsappDeadLetter letter) -> letter.attempts() == 1)
+        );
+        assertThat(receivedBodies).hasSize(1);
+        assertThat(delivery).failsWithin(AWAIT_TIMEOUT);
+    }
+
+    /**
+     * Polls the outcome counter instead of sleeping a fixed time, so a slow first connection does not fail the test.
+     */
+    private void awaitDeliveries(String outcome, double expected) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (deliveries(outcome) < expected && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat(deliveries(outcome)).isEqualTo(expected);
+    }
+
+    private double deliveries(String outcome) {
+        return meterRegistry.get("notifications.whatsapp.deliveries").tag("outcome", outcome).counter().count();
+    }
+
+    @Nested
+    @DisplayName("TokenBucket")
+    class TokenBucketTests {
+
+        private final AtomicLong clock = new AtomicLong();
+
+        @Test
+        @DisplayName("Should allow a burst and then pace at the configured rate")
+        void shouldPaceAfterBurst() {
+            TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+
+            assertThat(bucket.reserve()).isZero();
+            assertThat(bucket.reserve()).isZero();
+            assertThat(bucket.reserve()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(100), within(1_000L));
+
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+            assertThat(bucket.reserve()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(99), within(1_000L));
+        }
+
+        @Test
+        @DisplayName("Should hand each waiting caller its own slot instead of the same next permit")
+        void shouldReserveDistinctSlots() {
+            TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+
+            assertThat(bucket.reserve()).isZero();
+            assertThat(bucket.reserve()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(100), within(1_000L));
+            assertThat(bucket.reserve()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(200), within(1_000L));
+            assertThat(bucket.reserve()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(300), within(1_000L));
+        }
+
+        @Test
+        @DisplayName("Should not accumulate more than its capacity while idle")
+        void shouldCapIdleRefill() {
+            TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+            assertThat(bucket.reserve()).isZero();
+            assertThat(bucket.reserve()).isZero();
+            assertThat(bucket.reserve()).isPositive();
+        }
+    }
+}
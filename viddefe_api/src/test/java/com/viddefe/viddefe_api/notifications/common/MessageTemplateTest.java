@@ -0,0 +1,87 @@
+package com.viddefe.viddefe_api.notifications.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MessageTemplate Tests")
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("Should render every placeholder in one pass, including repeated ones")
+    void shouldRenderPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile(
+                "Hola {{name}} 👋, rol: {{ role }}. Adiós {{name}}", "name", "role"
+        );
+
+        String message = template.render(Map.of("name", "Ana", "role", 3));
+
+        assertThat(message).isEqualTo("Hola Ana 👋, rol: 3. Adiós Ana");
+        assertThat(template.placeholders()).containsExactly("name", "role");
+    }
+
+    @Test
+    @DisplayName("Should fail at compile time when a placeholder has no declared variable")
+    void shouldRejectUndeclaredVariables() {
+        assertThatThrownBy(() -> MessageTemplate.compile("{{name}} en {{groupName}}", "name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("groupName");
+    }
+
+    @Test
+    @DisplayName("Should keep unknown placeholders and stray braces as literal text at send time")
+    void shouldKeepUnresolvedTextAtRender() {
+        String message = ResolverMessage.resolveMessage("{{a}} {{b}} {{}} {{open", Map.of("a", "x"));
+
+        assertThat(message).isEqualTo("x {{b}} {{}} {{open");
+    }
+
+    @Test
+    @DisplayName("Should parse each template source only once")
+    void shouldCacheCompiledTemplates() {
+        MessageTemplate compiled = MessageTemplate.compile("Fecha: {{date}}", "date");
+
+        assertThat(MessageTemplate.cached("Fecha: {{date}}")).isSameAs(compiled);
+        assertThat(MessageTemplate.cached(new String("Sin variables"))).isSameAs(MessageTemplate.cached("Sin variables"));
+    }
+
+    @Test
+    @DisplayName("Should compile against and build values from the same set of variables")
+    void shouldDeriveVariablesFromTheSameSet() {
+        Set<Variable> provided = EnumSet.of(Variable.NAME);
+
+        MessageTemplate template = MessageTemplate.compile("Hola {{name}}", provided);
+        Map<String, Object> values = MessageTemplate.variables(provided, variable -> switch (variable) {
+            case NAME -> "Ana";
+            case GROUP_NAME -> "Jóvenes";
+        });
+
+        assertThat(values).containsOnlyKeys("name");
+        assertThat(template.render(values)).isEqualTo("Hola Ana");
+        assertThatThrownBy(() -> MessageTemplate.compile("{{name}} en {{groupName}}", provided))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("groupName");
+    }
+
+    private enum Variable implements TemplateVariable {
+        NAME("name"),
+        GROUP_NAME("groupName");
+
+        private final String key;
+
+        Variable(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String key() {
+            return key;
+        }
+    }
+}
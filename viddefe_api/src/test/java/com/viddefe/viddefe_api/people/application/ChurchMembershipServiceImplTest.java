@@ -7,6 +7,7 @@ import com.viddefe.viddefe_api.people.contracts.ChurchMembershipService;
 import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.domain.model.PeopleTypeModel;
 import com.viddefe.viddefe_api.people.domain.repository.PeopleRepository;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -45,6 +47,9 @@ class ChurchMembershipServiceImplTest {
     
     @Mock
     private ChurchLookup churchLookup;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
     
     @InjectMocks
     private ChurchMembershipServiceImpl churchMembershipService;
@@ -128,6 +133,7 @@ class ChurchMembershipServiceImplTest {
             // Then
             assertThat(result.getChurch()).isNull();
             verify(peopleRepository).save(person);
+            verify(applicationEventPublisher).publishEvent(new PersonUpdatedEvent(personId, null, churchId));
         }
     }
     
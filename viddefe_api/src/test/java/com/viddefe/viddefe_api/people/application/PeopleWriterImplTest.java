@@ -10,6 +10,7 @@ import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.people.domain.model.PeopleTypeModel;
 import com.viddefe.viddefe_api.people.domain.repository.PeopleRepository;
 import com.viddefe.viddefe_api.people.infrastructure.dto.PeopleDTO;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -187,18 +188,20 @@ class PeopleWriterImplTest {
         @Test
         @DisplayName("Should delete person successfully")
         void shouldDeletePersonSuccessfully() {
-            when(peopleRepository.existsById(personId)).thenReturn(true);
-            doNothing().when(peopleRepository).deleteById(personId);
+            when(peopleRepository.findById(personId)).thenReturn(Optional.of(person));
 
             peopleWriter.deletePerson(personId);
 
-            verify(peopleRepository).deleteById(personId);
+            verify(peopleRepository).delete(person);
+            verify(applicationEventPublisher).publishEvent(
+                    new PersonUpdatedEvent(personId, null, churchId)
+            );
         }
 
         @Test
         @DisplayName("Should throw exception when person not found")
         void shouldThrowWhenDeletingNonExistentPerson() {
-            when(peopleRepository.existsById(personId)).thenReturn(false);
+            when(peopleRepository.findById(personId)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> peopleWriter.deletePerson(personId))
                     .isInstanceOf(CustomExceptions.ResourceNotFoundException.class)
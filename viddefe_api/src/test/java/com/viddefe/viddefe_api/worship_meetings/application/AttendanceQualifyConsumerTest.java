@@ -0,0 +1,110 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceQualityRecalculationService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceQualityRecalcDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.AttendanceQualityRecalcLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceQualifyConsumer Tests")
+class AttendanceQualifyConsumerTest {
+
+    @Mock
+    private AttendanceQualityRecalculationService recalculationService;
+
+    @Mock
+    private AttendanceQualityRecalcLock recalcLock;
+
+    @InjectMocks
+    private AttendanceQualifyConsumer consumer;
+
+    private final TopologyEventType type = TopologyEventType.TEMPLE_WORHSIP;
+    private final OffsetDateTime to = OffsetDateTime.now();
+    private final OffsetDateTime from = to.minusMonths(6);
+    private UUID churchId;
+    private AttendanceQualityRecalcDto contextEvent;
+
+    @BeforeEach
+    void setUp() {
+        churchId = UUID.randomUUID();
+        contextEvent = AttendanceQualityRecalcDto.builder()
+                .contextId(churchId)
+                .eventType(type)
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should recalculate the context while holding the lock")
+    void shouldRecalculateWithLock() {
+        when(recalcLock.tryAcquire(any(), any(), anyString())).thenReturn(true);
+        when(recalcLock.isPending(type, churchId)).thenReturn(false);
+
+        consumer.consumeAttendanceQualifyEvent(contextEvent);
+
+        InOrder order = inOrder(recalcLock, recalculationService);
+        order.verify(recalcLock).tryAcquire(any(), any(), anyString());
+        order.verify(recalcLock).clearPending(type, churchId);
+        order.verify(recalculationService).recalculateContext(churchId, type, from, to);
+        order.verify(recalcLock).release(any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should leave a pending mark and skip when another instance is recalculating")
+    void shouldMarkPendingWhenBusy() {
+        when(recalcLock.tryAcquire(any(), any(), anyString())).thenReturn(false);
+
+        consumer.consumeAttendanceQualifyEvent(contextEvent);
+
+        verify(recalcLock).markPending(type, churchId);
+        verify(recalcLock, times(2)).tryAcquire(any(), any(), anyString());
+        verifyNoInteractions(recalculationService);
+        verify(recalcLock, never()).release(any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should run once more when a change arrived during the recalculation")
+    void shouldRerunWhenPending() {
+        when(recalcLock.tryAcquire(any(), any(), anyString())).thenReturn(true);
+        when(recalcLock.isPending(type, churchId)).thenReturn(true, false);
+
+        consumer.consumeAttendanceQualifyEvent(contextEvent);
+
+        verify(recalculationService, times(2)).recalculateContext(churchId, type, from, to);
+        verify(recalcLock, times(2)).release(any(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should recalculate a single person without the context lock")
+    void shouldRecalculateSinglePerson() {
+        UUID peopleId = UUID.randomUUID();
+        contextEvent.setPeopleId(peopleId);
+
+        consumer.consumeAttendanceQualifyEvent(contextEvent);
+
+        verify(recalculationService).recalculatePeople(churchId, type, List.of(peopleId), from, to);
+        verifyNoInteractions(recalcLock);
+    }
+}
@@ -0,0 +1,89 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.config.rabbit.AttendanceRoutingKey;
+import com.viddefe.viddefe_api.config.rabbit.RabbitQueues;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceQualityRecalcDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceQualityRecalcScheduler Tests")
+class AttendanceQualityRecalcSchedulerTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private AttendanceQualityRecalcScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AttendanceQualityRecalcScheduler(rabbitTemplate, Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should publish one recalculation for a burst of changes in the same context")
+    void shouldCoalesceBurst() {
+        UUID churchId = UUID.randomUUID();
+
+        for (int i = 0; i < 80; i++) {
+            scheduler.markDirty(churchId, TopologyEventType.TEMPLE_WORHSIP);
+        }
+
+        ArgumentCaptor<AttendanceQualityRecalcDto> message = ArgumentCaptor.forClass(AttendanceQualityRecalcDto.class);
+        verify(rabbitTemplate, after(500).times(1)).convertAndSend(
+                eq(RabbitQueues.ATTENDANCE_EXCHANGE),
+                eq(AttendanceRoutingKey.RECALCULATE_ATTENDANCE_QUALITY.routingKey()),
+                message.capture()
+        );
+        assertThat(message.getValue().getContextId()).isEqualTo(churchId);
+        assertThat(message.getValue().getPeopleId()).isNull();
+        assertThat(message.getValue().getFrom()).isBefore(message.getValue().getTo());
+    }
+
+    @Test
+    @DisplayName("Should publish one recalculation per distinct context")
+    void shouldPublishPerContext() {
+        scheduler.markDirty(UUID.randomUUID(), TopologyEventType.TEMPLE_WORHSIP);
+        scheduler.markDirty(UUID.randomUUID(), TopologyEventType.GROUP_MEETING);
+
+        verify(rabbitTemplate, timeout(1000).times(2))
+                .convertAndSend(any(String.class), any(String.class), any(AttendanceQualityRecalcDto.class));
+    }
+
+    @Test
+    @DisplayName("Should open a new window for changes after the previous one was flushed")
+    void shouldOpenNewWindowAfterFlush() {
+        UUID groupId = UUID.randomUUID();
+
+        scheduler.markDirty(groupId, TopologyEventType.GROUP_MEETING);
+        verify(rabbitTemplate, timeout(1000).times(1))
+                .convertAndSend(any(String.class), any(String.class), any(AttendanceQualityRecalcDto.class));
+        scheduler.markDirty(groupId, TopologyEventType.GROUP_MEETING);
+
+        verify(rabbitTemplate, timeout(1000).times(2))
+                .convertAndSend(any(String.class), any(String.class), any(AttendanceQualityRecalcDto.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceQualityPeopleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceQualityRecalculationServiceImpl Tests")
+class AttendanceQualityRecalculationServiceImplTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private AttendanceQualityPeopleRepository attendanceQualityPeopleRepository;
+
+    @InjectMocks
+    private AttendanceQualityRecalculationServiceImpl recalculationService;
+
+    private final UUID contextId = UUID.randomUUID();
+    private final OffsetDateTime to = OffsetDateTime.of(2025, 6, 30, 0, 0, 0, 0, ZoneOffset.UTC);
+    private final OffsetDateTime from = to.minusMonths(6);
+
+    @Test
+    @DisplayName("Should walk church members by keyset and upsert one statement per batch")
+    void shouldRecalculateChurchInBatches() {
+        List<UUID> firstBatch = randomIds(1000);
+        List<UUID> secondBatch = randomIds(3);
+        when(attendanceQualityPeopleRepository.findChurchMemberIdsAfter(contextId, FIRST_ID, 1000))
+                .thenReturn(firstBatch);
+        when(attendanceQualityPeopleRepository.findChurchMemberIdsAfter(contextId, firstBatch.getLast(), 1000))
+                .thenReturn(secondBatch);
+        when(attendanceQualityPeopleRepository.upsertWorshipQualities(
+                eq(contextId), anyList(), eq(from), eq(to), eq(70.0), eq(40.0)))
+                .thenReturn(600, 2);
+
+        int changed = recalculationService.recalculateContext(contextId, TopologyEventType.TEMPLE_WORHSIP, from, to);
+
+        assertThat(changed).isEqualTo(602);
+        verify(attendanceQualityPeopleRepository).upsertWorshipQualities(contextId, firstBatch, from, to, 70.0, 40.0);
+        verify(attendanceQualityPeopleRepository).upsertWorshipQualities(contextId, secondBatch, from, to, 70.0, 40.0);
+        verify(attendanceQualityPeopleRepository, never()).upsertGroupQualities(any(), anyList(), any(), any(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should use group members and group meetings for GROUP_MEETING")
+    void shouldRecalculateGroup() {
+        List<UUID> members = randomIds(2);
+        when(attendanceQualityPeopleRepository.findGroupMemberIdsAfter(contextId, FIRST_ID, 1000))
+                .thenReturn(members);
+        when(attendanceQualityPeopleRepository.upsertGroupQualities(contextId, members, from, to, 70.0, 40.0))
+                .thenReturn(1);
+
+        int changed = recalculationService.recalculateContext(contextId, TopologyEventType.GROUP_MEETING, from, to);
+
+        assertThat(changed).isEqualTo(1);
+        verify(attendanceQualityPeopleRepository, never()).findChurchMemberIdsAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not upsert anything when the context has no members")
+    void shouldSkipEmptyContext() {
+        when(attendanceQualityPeopleRepository.findChurchMemberIdsAfter(contextId, FIRST_ID, 1000))
+                .thenReturn(List.of());
+
+        int changed = recalculationService.recalculateContext(contextId, TopologyEventType.TEMPLE_WORHSIP, from, to);
+
+        assertThat(changed).isZero();
+        verify(attendanceQualityPeopleRepository, never()).upsertWorshipQualities(any(), anyList(), any(), any(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should split explicit people lists into batches")
+    void shouldRecalculatePeopleInBatches() {
+        List<UUID> people = randomIds(1500);
+        when(attendanceQualityPeopleRepository.upsertWorshipQualities(
+                eq(contextId), anyList(), eq(from), eq(to), eq(70.0), eq(40.0)))
+                .thenReturn(1);
+
+        int changed = recalculationService.recalculatePeople(contextId, TopologyEventType.TEMPLE_WORHSIP, people, from, to);
+
+        assertThat(changed).isEqualTo(2);
+        verify(attendanceQualityPeopleRepository, times(2))
+                .upsertWorshipQualities(eq(contextId), anyList(), eq(from), eq(to), eq(70.0), eq(40.0));
+    }
+
+    private static List<UUID> randomIds(int size) {
+        return IntStream.range(0, size).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+}
@@ -0,0 +1,166 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
+import com.viddefe.viddefe_api.homeGroups.domain.model.HomeGroupsModel;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
+import com.viddefe.viddefe_api.worship_meetings.domain.models.serializable.AttendanceDailyRollupId;
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceDailyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceRollupServiceImpl Tests")
+class AttendanceRollupServiceImplTest {
+
+    @Mock
+    private AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+
+    @InjectMocks
+    private AttendanceRollupServiceImpl attendanceRollupService;
+
+    private UUID contextId;
+
+    @BeforeEach
+    void setUp() {
+        contextId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("refreshBucket Tests")
+    class RefreshBucketTests {
+
+        @Test
+        @DisplayName("Should cut the day in local church time")
+        void shouldCutDayInLocalTime() {
+            // 2025-03-10 02:00 UTC is still 2025-03-09 in Bogotá (UTC-5)
+            OffsetDateTime scheduledDate = OffsetDateTime.of(2025, 3, 10, 2, 0, 0, 0, ZoneOffset.UTC);
+            LocalDate expectedDay = LocalDate.of(2025, 3, 9);
+
+            attendanceRollupService.refreshBucket(contextId, TopologyEventType.TEMPLE_WORHSIP, scheduledDate);
+
+            verify(attendanceDailyRollupRepository).deleteBucket(
+                    new AttendanceDailyRollupId(contextId, TopologyEventType.TEMPLE_WORHSIP, expectedDay)
+            );
+            verify(attendanceDailyRollupRepository).refreshWorshipBucket(
+                    eq(contextId),
+                    eq(TopologyEventType.TEMPLE_WORHSIP.name()),
+                    eq(expectedDay),
+                    eq(OffsetDateTime.of(2025, 3, 9, 0, 0, 0, 0, ZoneOffset.ofHours(-5))),
+                    eq(OffsetDateTime.of(2025, 3, 10, 0, 0, 0, 0, ZoneOffset.ofHours(-5)))
+            );
+        }
+
+        @Test
+        @DisplayName("Should refresh group bucket for group meetings")
+        void shouldRefreshGroupBucket() {
+            OffsetDateTime scheduledDate = OffsetDateTime.of(2025, 3, 10, 19, 0, 0, 0, ZoneOffset.ofHours(-5));
+
+            attendanceRollupService.refreshBucket(contextId, TopologyEventType.GROUP_MEETING, scheduledDate);
+
+            verify(attendanceDailyRollupRepository).refreshGroupBucket(
+                    eq(contextId), eq(TopologyEventType.GROUP_MEETING.name()), eq(LocalDate.of(2025, 3, 10)), any(), any()
+            );
+            verify(attendanceDailyRollupRepository, never()).refreshWorshipBucket(any(), anyString(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshMeetingBucket Tests")
+    class RefreshMeetingBucketTests {
+
+        @Test
+        @DisplayName("Should use the church when the meeting has no group")
+        void shouldUseChurchWhenNoGroup() {
+            ChurchModel church = new ChurchModel();
+            church.setId(contextId);
+            Meeting meeting = new Meeting();
+            meeting.setChurch(church);
+            OffsetDateTime scheduledDate = OffsetDateTime.of(2025, 3, 9, 10, 0, 0, 0, ZoneOffset.ofHours(-5));
+
+            attendanceRollupService.refreshMeetingBucket(meeting, scheduledDate);
+
+            verify(attendanceDailyRollupRepository).refreshWorshipBucket(
+                    eq(contextId), eq(TopologyEventType.TEMPLE_WORHSIP.name()), any(), any(), any()
+            );
+        }
+
+        @Test
+        @DisplayName("Should use the group when the meeting belongs to one")
+        void shouldUseGroupWhenPresent() {
+            HomeGroupsModel group = new HomeGroupsModel();
+            group.setId(contextId);
+            Meeting meeting = new Meeting();
+            meeting.setChurch(new ChurchModel());
+            meeting.setGroup(group);
+            OffsetDateTime scheduledDate = OffsetDateTime.of(2025, 3, 9, 10, 0, 0, 0, ZoneOffset.ofHours(-5));
+
+            attendanceRollupService.refreshMeetingBucket(meeting, scheduledDate);
+
+            verify(attendanceDailyRollupRepository).refreshGroupBucket(
+                    eq(contextId), eq(TopologyEventType.GROUP_MEETING.name()), any(), any(), any()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("backfillIfEmpty Tests")
+    class BackfillIfEmptyTests {
+
+        @Test
+        @DisplayName("Should backfill when there are no rollups")
+        void shouldBackfillWhenEmpty() {
+            when(attendanceDailyRollupRepository.count()).thenReturn(0L);
+
+            attendanceRollupService.backfillIfEmpty();
+
+            verify(attendanceDailyRollupRepository).backfillAll("America/Bogota");
+        }
+
+        @Test
+        @DisplayName("Should skip backfill when rollups already exist")
+        void shouldSkipBackfillWhenNotEmpty() {
+            when(attendanceDailyRollupRepository.count()).thenReturn(10L);
+
+            attendanceRollupService.backfillIfEmpty();
+
+            verify(attendanceDailyRollupRepository, never()).backfillAll(anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("findRangeMetrics should query whole local days")
+    void findRangeMetricsShouldQueryWholeDays() {
+        List<UUID> ids = List.of(contextId);
+        OffsetDateTime start = OffsetDateTime.of(2025, 3, 1, 0, 0, 0, 0, ZoneOffset.ofHours(-5));
+        OffsetDateTime end = OffsetDateTime.of(2025, 3, 31, 23, 59, 0, 0, ZoneOffset.ofHours(-5));
+        when(attendanceDailyRollupRepository.sumByContextIdsAndDayBetween(
+                ids, TopologyEventType.GROUP_MEETING, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)
+        )).thenReturn(List.of());
+
+        attendanceRollupService.findRangeMetrics(ids, TopologyEventType.GROUP_MEETING, start, end);
+
+        verify(attendanceDailyRollupRepository).sumByContextIdsAndDayBetween(
+                ids, TopologyEventType.GROUP_MEETING, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)
+        );
+    }
+}
@@ -8,6 +8,7 @@ import com.viddefe.viddefe_api.people.domain.model.PeopleModel;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceQualityEnum;
 import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
 import com.viddefe.viddefe_api.worship_meetings.configuration.AttendanceStatus;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
 import com.viddefe.viddefe_api.worship_meetings.contracts.MeetingReader;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.AttendanceModel;
 import com.viddefe.viddefe_api.worship_meetings.domain.models.Meeting;
@@ -15,6 +16,10 @@ import com.viddefe.viddefe_api.worship_meetings.domain.repository.AttendanceRepo
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.AttendanceProjectionDto;
 import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.CreateAttendanceDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MeetingAttendeeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PeopleAttendanceEventDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.RollCallResultDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,10 +39,12 @@ import org.springframework.data.domain.Pageable;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +64,9 @@ class AttendanceServiceImplTest {
     @Mock
     private MeetingReader meetingReader;
 
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
     @InjectMocks
     private AttendanceServiceImpl attendanceService;
 
@@ -443,4 +453,129 @@ class AttendanceServiceImplTest {
             verify(attendanceRepository).countByEventIdWithDefaults(eventId, eventType, status);
         }
     }
+
+    @Nested
+    @DisplayName("Record Roll Call Tests")
+    class RecordRollCallTests {
+
+        @Test
+        @DisplayName("Debe insertar solo los nuevos presentes y borrar los ausentes")
+        @SuppressWarnings("unchecked")
+        void recordRollCall_ShouldApplyOnlyTheDifference() {
+            // Arrange
+            UUID keptId = UUID.randomUUID();
+            UUID removedId = UUID.randomUUID();
+            UUID removedAttendanceId = UUID.randomUUID();
+            UUID returningId = UUID.randomUUID();
+            UUID firstTimeId = UUID.randomUUID();
+            PeopleModel returning = createPeopleModel(returningId, "Ana", "Gómez");
+            PeopleModel firstTime = createPeopleModel(firstTimeId, "Luis", "Díaz");
+            returning.setChurch(church);
+            firstTime.setChurch(church);
+
+            when(meetingReader.getById(eventId)).thenReturn(meeting);
+            when(attendanceRepository.findAttendeesByEventId(eventId)).thenReturn(List.of(
+                    attendee(UUID.randomUUID(), keptId),
+                    attendee(removedAttendanceId, removedId)
+            ));
+            when(peopleReader.getPeopleByIds(anyList())).thenReturn(List.of(returning, firstTime));
+            when(attendanceRepository.findReturningWorshipAttendees(
+                    anyList(), eq(contextId), eq(eventId), eq(TopologyEventType.TEMPLE_WORHSIP)))
+                    .thenReturn(List.of(returningId));
+
+            // Act
+            RollCallResultDto result = attendanceService.recordRollCall(
+                    eventId,
+                    rollCall(keptId, returningId, firstTimeId),
+                    TopologyEventType.TEMPLE_WORHSIP
+            );
+
+            // Assert
+            assertEquals(3, result.getTotalPresent());
+            assertEquals(2, result.getAdded());
+            assertEquals(1, result.getRemoved());
+            assertEquals(1, result.getNewAttendees());
+            verify(attendanceRepository).deleteAllByIdInBatch(List.of(removedAttendanceId));
+
+            ArgumentCaptor<List<AttendanceModel>> saved = ArgumentCaptor.forClass(List.class);
+            verify(attendanceRepository).saveAll(saved.capture());
+            assertEquals(2, saved.getValue().size());
+            saved.getValue().forEach(attendance -> {
+                assertEquals(AttendanceStatus.PRESENT, attendance.getStatus());
+                assertEquals(Boolean.valueOf(attendance.getPeople() == firstTime), attendance.getIsNewAttendee());
+            });
+        }
+
+        @Test
+        @DisplayName("Debe refrescar las métricas y publicar un solo evento por lista")
+        void recordRollCall_ShouldPublishSingleEvent() {
+            // Arrange
+            when(meetingReader.getById(eventId)).thenReturn(meeting);
+            when(attendanceRepository.findAttendeesByEventId(eventId)).thenReturn(List.of(
+                    attendee(UUID.randomUUID(), UUID.randomUUID()),
+                    attendee(UUID.randomUUID(), UUID.randomUUID())
+            ));
+
+            // Act
+            attendanceService.recordRollCall(eventId, rollCall(), TopologyEventType.TEMPLE_WORHSIP);
+
+            // Assert
+            verify(attendanceRollupService).refreshBucket(contextId, TopologyEventType.TEMPLE_WORHSIP, meeting.getScheduledDate());
+            verify(applicationEventPublisher).publishEvent(any(PeopleAttendanceEventDto.class));
+            verify(peopleReader, never()).getPeopleByIds(anyList());
+        }
+
+        @Test
+        @DisplayName("No debe escribir ni publicar cuando la lista no cambia")
+        void recordRollCall_WhenUnchanged_ShouldNotPublish() {
+            // Arrange
+            when(meetingReader.getById(eventId)).thenReturn(meeting);
+            when(attendanceRepository.findAttendeesByEventId(eventId))
+                    .thenReturn(List.of(attendee(attendanceId, peopleId)));
+
+            // Act
+            RollCallResultDto result = attendanceService.recordRollCall(
+                    eventId, rollCall(peopleId), TopologyEventType.TEMPLE_WORHSIP
+            );
+
+            // Assert
+            assertEquals(0, result.getAdded());
+            assertEquals(0, result.getRemoved());
+            verify(attendanceRepository, never()).deleteAllByIdInBatch(anyList());
+            verifyNoInteractions(applicationEventPublisher, attendanceRollupService);
+        }
+
+        @Test
+        @DisplayName("Debe rechazar personas de otra iglesia")
+        void recordRollCall_WithPeopleFromAnotherChurch_ShouldThrow() {
+            // Arrange
+            ChurchModel otherChurch = new ChurchModel();
+            otherChurch.setId(UUID.randomUUID());
+            person.setChurch(otherChurch);
+
+            when(meetingReader.getById(eventId)).thenReturn(meeting);
+            when(attendanceRepository.findAttendeesByEventId(eventId)).thenReturn(List.of());
+            when(peopleReader.getPeopleByIds(List.of(peopleId))).thenReturn(List.of(person));
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> attendanceService.recordRollCall(
+                    eventId, rollCall(peopleId), TopologyEventType.TEMPLE_WORHSIP
+            ));
+            verify(attendanceRepository, never()).saveAll(anyList());
+            verifyNoInteractions(applicationEventPublisher);
+        }
+
+        private RollCallDto rollCall(UUID... presentPeopleIds) {
+            RollCallDto dto = new RollCallDto();
+            dto.setPresentPeopleIds(Set.of(presentPeopleIds));
+            return dto;
+        }
+
+        private MeetingAttendeeRow attendee(UUID id, UUID attendeePeopleId) {
+            return new MeetingAttendeeRow() {
+                @Override public UUID getId() { return id; }
+                @Override public UUID getPeopleId() { return attendeePeopleId; }
+            };
+        }
+    }
 }
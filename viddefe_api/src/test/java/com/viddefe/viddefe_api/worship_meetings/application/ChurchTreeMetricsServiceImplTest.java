@@ -0,0 +1,204 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ChurchTreeNodeRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsRedisAdapter;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChurchTreeMetricsServiceImpl Tests")
+class ChurchTreeMetricsServiceImplTest {
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private ChurchLookup churchLookup;
+
+    @Mock
+    private MetricsRedisAdapter metricsRedisAdapter;
+
+    @InjectMocks
+    private ChurchTreeMetricsServiceImpl churchTreeMetricsService;
+
+    private final OffsetDateTime start = OffsetDateTime.of(2025, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private final OffsetDateTime end = OffsetDateTime.of(2025, 3, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private UUID rootId;
+    private UUID childId;
+    private UUID grandchildId;
+    private UUID siblingId;
+
+    @BeforeEach
+    void setUp() {
+        rootId = UUID.randomUUID();
+        childId = UUID.randomUUID();
+        grandchildId = UUID.randomUUID();
+        siblingId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return the cached root subtree without querying the tree")
+    void shouldReturnCachedRoot() {
+        ChurchTreeMetricsDto cached = ChurchTreeMetricsDto.builder().churchId(rootId).build();
+        when(metricsRedisAdapter.currentTreeVersions(List.of(rootId))).thenReturn(Map.of(rootId, 4L));
+        when(metricsRedisAdapter.getTreeMetrics(Map.of(rootId, 4L), start, end)).thenReturn(Map.of(rootId, cached));
+
+        ChurchTreeMetricsDto result = churchTreeMetricsService.getChurchTreeMetrics(rootId, start, end);
+
+        assertThat(result).isSameAs(cached);
+        verify(attendanceRollupService, never()).findChurchTreeMetrics(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should aggregate grandchildren into the root subtree")
+    @SuppressWarnings("unchecked")
+    void shouldAggregateWholeTree() {
+        Map<UUID, Long> versions = Map.of(rootId, 0L, childId, 0L, grandchildId, 0L);
+        when(metricsRedisAdapter.currentTreeVersions(anyList())).thenReturn(Map.of(rootId, 0L), versions);
+        when(metricsRedisAdapter.getTreeMetrics(Map.of(rootId, 0L), start, end)).thenReturn(Map.of());
+        when(attendanceRollupService.findChurchTreeMetrics(rootId, start, end)).thenReturn(List.of(
+                node(rootId, null, 10, 2, 16, 1),
+                node(childId, rootId, 5, 1, 4, 0),
+                node(grandchildId, childId, 5, 2, 6, 2)
+        ));
+        when(metricsRedisAdapter.getTreeMetrics(versions, start, end)).thenReturn(Map.of());
+
+        ChurchTreeMetricsDto result = churchTreeMetricsService.getChurchTreeMetrics(rootId, start, end);
+
+        assertThat(result.getTotalChurches()).isEqualTo(3);
+        assertThat(result.getTotalPeople()).isEqualTo(20L);
+        assertThat(result.getTotalMeetings()).isEqualTo(5L);
+        assertThat(result.getTotalPeopleAttended()).isEqualTo(26L);
+        assertThat(result.getNewAttendees()).isEqualTo(3L);
+        // expected = 2*10 + 1*5 + 2*5 = 35
+        assertThat(result.getExpectedAttendances()).isEqualTo(35L);
+        assertThat(result.getAttendanceRate()).isEqualTo(26 / 35.0 * 100.0);
+        assertThat(result.getChildren()).singleElement()
+                .satisfies(child -> {
+                    assertThat(child.getChurchId()).isEqualTo(childId);
+                    assertThat(child.getTotalChurches()).isEqualTo(2);
+                    assertThat(child.getChildren()).isEmpty();
+                });
+
+        ArgumentCaptor<List<ChurchTreeMetricsDto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(metricsRedisAdapter).saveAllTreeMetrics(saved.capture(), eq(versions), any(), eq(start), eq(end));
+        assertThat(saved.getValue()).extracting(ChurchTreeMetricsDto::getChurchId)
+                .containsExactlyInAnyOrder(rootId, childId, grandchildId);
+    }
+
+    @Test
+    @DisplayName("Should reuse memoized sibling subtrees and recompute only the changed path")
+    @SuppressWarnings("unchecked")
+    void shouldReuseMemoizedSubtrees() {
+        ChurchTreeMetricsDto siblingSubtree = ChurchTreeMetricsDto.builder()
+                .churchId(siblingId)
+                .totalChurches(1)
+                .totalPeople(8L)
+                .totalMeetings(2L)
+                .totalPeopleAttended(10L)
+                .newAttendees(1L)
+                .expectedAttendances(16L)
+                .children(List.of())
+                .build();
+        Map<UUID, Long> versions = Map.of(rootId, 7L, childId, 3L, siblingId, 1L);
+        when(metricsRedisAdapter.currentTreeVersions(anyList())).thenReturn(Map.of(rootId, 7L), versions);
+        when(metricsRedisAdapter.getTreeMetrics(Map.of(rootId, 7L), start, end)).thenReturn(Map.of());
+        when(attendanceRollupService.findChurchTreeMetrics(rootId, start, end)).thenReturn(List.of(
+                node(rootId, null, 10, 1, 6, 0),
+                node(childId, rootId, 5, 1, 4, 1),
+                node(siblingId, rootId, 8, 2, 10, 1)
+        ));
+        when(metricsRedisAdapter.getTreeMetrics(versions, start, end)).thenReturn(Map.of(siblingId, siblingSubtree));
+
+        ChurchTreeMetricsDto result = churchTreeMetricsService.getChurchTreeMetrics(rootId, start, end);
+
+        assertThat(result.getTotalPeopleAttended()).isEqualTo(20L);
+        ArgumentCaptor<List<ChurchTreeMetricsDto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(metricsRedisAdapter).saveAllTreeMetrics(saved.capture(), eq(versions), any(), eq(start), eq(end));
+        assertThat(saved.getValue()).extracting(ChurchTreeMetricsDto::getChurchId)
+                .containsExactlyInAnyOrder(rootId, childId);
+    }
+
+    @Test
+    @DisplayName("Should not store results when the tree changed during the computation")
+    void shouldNotStoreWhenRootVersionChanged() {
+        Map<UUID, Long> versions = Map.of(rootId, 1L);
+        when(metricsRedisAdapter.currentTreeVersions(anyList())).thenReturn(Map.of(rootId, 0L), versions);
+        when(metricsRedisAdapter.getTreeMetrics(Map.of(rootId, 0L), start, end)).thenReturn(Map.of());
+        when(attendanceRollupService.findChurchTreeMetrics(rootId, start, end))
+                .thenReturn(List.of(node(rootId, null, 10, 1, 6, 0)));
+        when(metricsRedisAdapter.getTreeMetrics(versions, start, end)).thenReturn(Map.of());
+
+        churchTreeMetricsService.getChurchTreeMetrics(rootId, start, end);
+
+        verify(metricsRedisAdapter, never()).saveAllTreeMetrics(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException when the root church does not exist")
+    void shouldThrowWhenRootMissing() {
+        when(metricsRedisAdapter.currentTreeVersions(List.of(rootId))).thenReturn(Map.of(rootId, 0L));
+        when(metricsRedisAdapter.getTreeMetrics(Map.of(rootId, 0L), start, end)).thenReturn(Map.of());
+        when(attendanceRollupService.findChurchTreeMetrics(rootId, start, end)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> churchTreeMetricsService.getChurchTreeMetrics(rootId, start, end))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should bump the tree version of every ancestor before the church below it")
+    void shouldInvalidateAncestorPath() {
+        when(churchLookup.findAncestorPathIds(grandchildId)).thenReturn(List.of(rootId, childId, grandchildId));
+
+        churchTreeMetricsService.invalidateAncestorPath(grandchildId);
+
+        verify(metricsRedisAdapter).bumpTreeVersions(List.of(rootId, childId, grandchildId));
+    }
+
+    @Test
+    @DisplayName("Should still invalidate the own entry of a church that no longer exists")
+    void shouldInvalidateDeletedChurch() {
+        when(churchLookup.findAncestorPathIds(childId)).thenReturn(List.of());
+
+        churchTreeMetricsService.invalidateAncestorPath(childId);
+
+        verify(metricsRedisAdapter).bumpTreeVersions(List.of(childId));
+    }
+
+    private static ChurchTreeNodeRow node(UUID id, UUID parentId, long people, long meetings,
+                                          long attended, long newAttendees) {
+        return new ChurchTreeNodeRow() {
+            @Override public UUID getParentId() { return parentId; }
+            @Override public Long getTotalPeople() { return people; }
+            @Override public UUID getId() { return id; }
+            @Override public Long getTotalNewAttendees() { return newAttendees; }
+            @Override public Long getTotalPeopleAttended() { return attended; }
+            @Override public Long getTotalMeetings() { return meetings; }
+        };
+    }
+}
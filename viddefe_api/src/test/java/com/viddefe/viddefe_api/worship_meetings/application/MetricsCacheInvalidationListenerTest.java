@@ -0,0 +1,165 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.churches.domain.model.ChurchModel;
+import com.viddefe.viddefe_api.churches.infrastructure.dto.ChurchUpdatedEvent;
+import com.viddefe.viddefe_api.homeGroups.infrastructure.dto.HomeGroupMembershipChangedEvent;
+import com.viddefe.viddefe_api.people.infrastructure.dto.PersonUpdatedEvent;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.ChurchTreeMetricsService;
+import com.viddefe.viddefe_api.worship_meetings.contracts.MetricsSeriesService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.PeopleAttendanceEventDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsNearCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsCacheInvalidationListener Tests")
+class MetricsCacheInvalidationListenerTest {
+
+    @Mock
+    private MetricsNearCache metricsNearCache;
+
+    @Mock
+    private ChurchLookup churchLookup;
+
+    @Mock
+    private ChurchTreeMetricsService churchTreeMetricsService;
+
+    @Mock
+    private MetricsSeriesService metricsSeriesService;
+
+    @InjectMocks
+    private MetricsCacheInvalidationListener listener;
+
+    private final OffsetDateTime meetingDate = OffsetDateTime.parse("2025-03-12T18:00:00-05:00");
+
+    @Test
+    @DisplayName("Should bump the group and its church on group attendance")
+    void shouldBumpGroupAndChurch() {
+        UUID groupId = UUID.randomUUID();
+        UUID churchId = UUID.randomUUID();
+
+        listener.invalidateMetrics(new PeopleAttendanceEventDto(
+                UUID.randomUUID(), groupId, TopologyEventType.GROUP_MEETING, churchId, List.of(meetingDate)
+        ));
+
+        InOrder order = inOrder(metricsNearCache, metricsSeriesService);
+        order.verify(metricsNearCache).bumpVersion(TopologyEventType.GROUP_MEETING, groupId);
+        order.verify(metricsSeriesService).invalidateBuckets(groupId, TopologyEventType.GROUP_MEETING, List.of(meetingDate));
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+        verifyNoMoreInteractions(metricsNearCache, metricsSeriesService);
+        verify(churchLookup, never()).getChurchById(any());
+        verify(churchTreeMetricsService, never()).invalidateAncestorPath(any());
+    }
+
+    @Test
+    @DisplayName("Should bump the church, its parent and its tree path on worship attendance")
+    void shouldBumpChurchAndParent() {
+        UUID churchId = UUID.randomUUID();
+        ChurchModel parent = new ChurchModel();
+        parent.setId(UUID.randomUUID());
+        ChurchModel church = new ChurchModel();
+        church.setId(churchId);
+        church.setParentChurch(parent);
+        when(churchLookup.getChurchById(churchId)).thenReturn(church);
+
+        listener.invalidateMetrics(new PeopleAttendanceEventDto(
+                UUID.randomUUID(), churchId, TopologyEventType.TEMPLE_WORHSIP, churchId, List.of(meetingDate)
+        ));
+
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, parent.getId());
+        verify(churchTreeMetricsService).invalidateAncestorPath(churchId);
+    }
+
+    @Test
+    @DisplayName("Should only bump the context when the church is unknown")
+    void shouldOnlyBumpContextWithoutChurch() {
+        UUID groupId = UUID.randomUUID();
+
+        listener.invalidateMetrics(new PeopleAttendanceEventDto(
+                UUID.randomUUID(), groupId, TopologyEventType.GROUP_MEETING, null, List.of(meetingDate)
+        ));
+
+        verify(metricsNearCache).bumpVersion(TopologyEventType.GROUP_MEETING, groupId);
+        verifyNoMoreInteractions(metricsNearCache);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the old and the new tree path of a re-parented church")
+    void shouldInvalidateBothPathsOnReparent() {
+        UUID churchId = UUID.randomUUID();
+        UUID newParentId = UUID.randomUUID();
+        UUID oldParentId = UUID.randomUUID();
+
+        listener.onChurchUpdated(new ChurchUpdatedEvent(churchId, newParentId, oldParentId));
+
+        verify(churchTreeMetricsService).invalidateAncestorPath(churchId);
+        verify(churchTreeMetricsService).invalidateAncestorPath(newParentId);
+        verify(churchTreeMetricsService).invalidateAncestorPath(oldParentId);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the former parent path of a deleted church")
+    void shouldInvalidateFormerParentOnDelete() {
+        UUID churchId = UUID.randomUUID();
+        UUID parentId = UUID.randomUUID();
+
+        listener.onChurchUpdated(new ChurchUpdatedEvent(churchId, null, parentId));
+
+        verify(churchTreeMetricsService).invalidateAncestorPath(churchId);
+        verify(churchTreeMetricsService).invalidateAncestorPath(parentId);
+        verifyNoMoreInteractions(churchTreeMetricsService);
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, parentId);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the metrics and tree path of both churches of a transferred person")
+    void shouldInvalidateBothChurchesOfPerson() {
+        UUID churchId = UUID.randomUUID();
+        UUID parentId = UUID.randomUUID();
+        UUID previousChurchId = UUID.randomUUID();
+        when(churchLookup.findAncestorPathIds(churchId)).thenReturn(List.of(parentId, churchId));
+        when(churchLookup.findAncestorPathIds(previousChurchId)).thenReturn(List.of(previousChurchId));
+
+        listener.onPersonUpdated(new PersonUpdatedEvent(UUID.randomUUID(), churchId, previousChurchId));
+
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, parentId);
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, previousChurchId);
+        verifyNoMoreInteractions(metricsNearCache);
+        verify(churchTreeMetricsService).invalidateAncestorPath(churchId);
+        verify(churchTreeMetricsService).invalidateAncestorPath(previousChurchId);
+        verifyNoMoreInteractions(churchTreeMetricsService);
+    }
+
+    @Test
+    @DisplayName("Should bump the group and its church when the group members change")
+    void shouldBumpGroupOnMembershipChange() {
+        UUID groupId = UUID.randomUUID();
+        UUID churchId = UUID.randomUUID();
+
+        listener.onHomeGroupMembershipChanged(new HomeGroupMembershipChangedEvent(groupId, churchId));
+
+        verify(metricsNearCache).bumpVersion(TopologyEventType.GROUP_MEETING, groupId);
+        verify(metricsNearCache).bumpVersion(TopologyEventType.TEMPLE_WORHSIP, churchId);
+        verifyNoMoreInteractions(metricsNearCache);
+    }
+}
@@ -0,0 +1,64 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsQueryExecutor Tests")
+class MetricsQueryExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MetricsQueryExecutor metricsQueryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        metricsQueryExecutor = new MetricsQueryExecutor(transactionManager, 10);
+    }
+
+    @Test
+    @DisplayName("Should run the query on a virtual thread inside a read-only transaction")
+    void shouldRunOnVirtualThreadInReadOnlyTransaction() {
+        CompletableFuture<Boolean> future = metricsQueryExecutor.supply(() -> Thread.currentThread().isVirtual());
+
+        assertThat(MetricsQueryExecutor.join(future)).isTrue();
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the concurrent queries well below the connection pool size")
+    void shouldDeriveConcurrencyFromPoolSize() {
+        assertThat(MetricsQueryExecutor.concurrencyLimit(10)).isEqualTo(3);
+        assertThat(MetricsQueryExecutor.concurrencyLimit(30)).isEqualTo(10);
+        assertThat(MetricsQueryExecutor.concurrencyLimit(2)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the original exception on join")
+    void shouldRethrowOriginalException() {
+        CompletableFuture<Object> future = metricsQueryExecutor.supply(() -> {
+            throw new EntityNotFoundException("Church not found");
+        });
+
+        assertThatThrownBy(() -> MetricsQueryExecutor.join(future))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Church not found");
+    }
+}
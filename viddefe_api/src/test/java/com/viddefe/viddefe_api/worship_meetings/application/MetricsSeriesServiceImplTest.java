@@ -0,0 +1,191 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.churches.contracts.ChurchLookup;
+import com.viddefe.viddefe_api.homeGroups.contracts.HomeGroupReader;
+import com.viddefe.viddefe_api.worship_meetings.configuration.MetricsGranularity;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesPointDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsSeriesRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.redis.MetricsRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.viddefe.viddefe_api.worship_meetings.contracts.AttendanceRollupService.ROLLUP_ZONE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsSeriesServiceImpl Tests")
+class MetricsSeriesServiceImplTest {
+
+    @Mock
+    private AttendanceRollupService attendanceRollupService;
+
+    @Mock
+    private MetricsRedisAdapter metricsRedisAdapter;
+
+    @Mock
+    private ChurchLookup churchLookup;
+
+    @Mock
+    private HomeGroupReader homeGroupReader;
+
+    @InjectMocks
+    private MetricsSeriesServiceImpl metricsSeriesService;
+
+    private final TopologyEventType type = TopologyEventType.GROUP_MEETING;
+    private final MetricsGranularity granularity = MetricsGranularity.WEEK;
+    private UUID groupId;
+    private LocalDate currentWeek;
+
+    @BeforeEach
+    void setUp() {
+        groupId = UUID.randomUUID();
+        currentWeek = granularity.truncate(LocalDate.now(ROLLUP_ZONE));
+    }
+
+    @Test
+    @DisplayName("Should compute every bucket in one query and store only the closed ones")
+    @SuppressWarnings("unchecked")
+    void shouldComputeMissingBucketsInOneQuery() {
+        LocalDate firstWeek = currentWeek.minusWeeks(2);
+        when(metricsRedisAdapter.currentVersion(type, groupId)).thenReturn(3L);
+        when(metricsRedisAdapter.getSeriesMetrics(eq(type), eq(groupId), eq(granularity), anyList()))
+                .thenReturn(Map.of());
+        when(attendanceRollupService.findSeriesMetrics(groupId, type, granularity, firstWeek, currentWeek.plusDays(6)))
+                .thenReturn(List.of(row(firstWeek, 8, 2, 1), row(currentWeek, 5, 1, 0)));
+        when(homeGroupReader.findTotalPeopleByGroupId(groupId)).thenReturn(10L);
+
+        List<MetricsSeriesPointDto> series = metricsSeriesService.getAttendanceSeries(
+                groupId, type, granularity, atNoon(firstWeek.plusDays(2)), atNoon(LocalDate.now(ROLLUP_ZONE))
+        );
+
+        assertThat(series).extracting(MetricsSeriesPointDto::getBucketStart)
+                .containsExactly(firstWeek, firstWeek.plusWeeks(1), currentWeek);
+        assertThat(series).extracting(MetricsSeriesPointDto::getClosed).containsExactly(true, true, false);
+        assertThat(series.get(0).getBucketEnd()).isEqualTo(firstWeek.plusDays(6));
+        assertThat(series.get(0).getAverageAttendancePerMeeting()).isEqualTo(4.0);
+        assertThat(series.get(0).getAttendanceRate()).isEqualTo(40.0);
+        assertThat(series.get(1).getTotalMeetings()).isZero();
+        assertThat(series.get(2).getTotalPeopleAttended()).isEqualTo(5L);
+
+        ArgumentCaptor<List<MetricsSeriesPointDto>> saved = ArgumentCaptor.forClass(List.class);
+        verify(metricsRedisAdapter).saveAllSeriesMetrics(
+                eq(type), eq(groupId), eq(3L), eq(granularity), saved.capture(), any()
+        );
+        assertThat(saved.getValue()).extracting(MetricsSeriesPointDto::getBucketStart)
+                .containsExactly(firstWeek, firstWeek.plusWeeks(1));
+    }
+
+    @Test
+    @DisplayName("Should serve closed buckets from Redis and recompute only the open one")
+    void shouldRecomputeOnlyOpenBucket() {
+        LocalDate lastWeek = currentWeek.minusWeeks(1);
+        MetricsSeriesPointDto cached = MetricsSeriesPointDto.builder().bucketStart(lastWeek).closed(true).build();
+        when(metricsRedisAdapter.currentVersion(type, groupId)).thenReturn(0L);
+        when(metricsRedisAdapter.getSeriesMetrics(type, groupId, granularity, List.of(lastWeek)))
+                .thenReturn(Map.of(lastWeek, cached));
+        when(attendanceRollupService.findSeriesMetrics(groupId, type, granularity, currentWeek, currentWeek.plusDays(6)))
+                .thenReturn(List.of());
+        when(homeGroupReader.findTotalPeopleByGroupId(groupId)).thenReturn(10L);
+
+        List<MetricsSeriesPointDto> series = metricsSeriesService.getAttendanceSeries(
+                groupId, type, granularity, atNoon(lastWeek), atNoon(LocalDate.now(ROLLUP_ZONE))
+        );
+
+        assertThat(series.get(0)).isSameAs(cached);
+        assertThat(series.get(1).getClosed()).isFalse();
+        verify(metricsRedisAdapter).saveAllSeriesMetrics(eq(type), eq(groupId), eq(0L), eq(granularity), eq(List.of()), any());
+    }
+
+    @Test
+    @DisplayName("Should not query the database when every closed bucket is cached")
+    void shouldSkipQueryWhenAllCached() {
+        LocalDate firstWeek = currentWeek.minusWeeks(3);
+        LocalDate secondWeek = currentWeek.minusWeeks(2);
+        Map<LocalDate, MetricsSeriesPointDto> cached = Map.of(
+                firstWeek, MetricsSeriesPointDto.builder().bucketStart(firstWeek).build(),
+                secondWeek, MetricsSeriesPointDto.builder().bucketStart(secondWeek).build()
+        );
+        when(metricsRedisAdapter.currentVersion(type, groupId)).thenReturn(0L);
+        when(metricsRedisAdapter.getSeriesMetrics(type, groupId, granularity, List.of(firstWeek, secondWeek)))
+                .thenReturn(cached);
+
+        List<MetricsSeriesPointDto> series = metricsSeriesService.getAttendanceSeries(
+                groupId, type, granularity, atNoon(firstWeek), atNoon(secondWeek.plusDays(3))
+        );
+
+        assertThat(series).hasSize(2);
+        verifyNoInteractions(attendanceRollupService, homeGroupReader);
+        verify(metricsRedisAdapter, never()).saveAllSeriesMetrics(any(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject ranges that produce too many buckets")
+    void shouldRejectTooManyBuckets() {
+        OffsetDateTime start = atNoon(LocalDate.now(ROLLUP_ZONE).minusYears(2));
+
+        assertThatThrownBy(() -> metricsSeriesService.getAttendanceSeries(
+                groupId, type, MetricsGranularity.DAY, start, atNoon(LocalDate.now(ROLLUP_ZONE))
+        )).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(metricsRedisAdapter);
+    }
+
+    @Test
+    @DisplayName("Should evict only the buckets containing the changed dates, in every granularity")
+    void shouldEvictOnlyTouchedBuckets() {
+        LocalDate changedDay = LocalDate.of(2025, 3, 12);
+        LocalDate movedToDay = LocalDate.of(2025, 3, 13);
+
+        metricsSeriesService.invalidateBuckets(groupId, type, List.of(atNoon(changedDay), atNoon(movedToDay)));
+
+        verify(metricsRedisAdapter).evictSeriesBuckets(type, groupId, Map.of(
+                MetricsGranularity.DAY, Set.of(changedDay, movedToDay),
+                MetricsGranularity.WEEK, Set.of(LocalDate.of(2025, 3, 10)),
+                MetricsGranularity.MONTH, Set.of(LocalDate.of(2025, 3, 1))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should not touch Redis when no date changed")
+    void shouldSkipEvictionWithoutDates() {
+        metricsSeriesService.invalidateBuckets(groupId, type, List.of());
+
+        verifyNoInteractions(metricsRedisAdapter);
+    }
+
+    private static OffsetDateTime atNoon(LocalDate day) {
+        return day.atTime(12, 0).atZone(ROLLUP_ZONE).toOffsetDateTime();
+    }
+
+    private static MetricsSeriesRow row(LocalDate bucketStart, long attended, long meetings, long newAttendees) {
+        return new MetricsSeriesRow() {
+            @Override public LocalDate getBucketStart() { return bucketStart; }
+            @Override public Long getTotalNewAttendees() { return newAttendees; }
+            @Override public Long getTotalPeopleAttended() { return attended; }
+            @Override public Long getTotalMeetings() { return meetings; }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.MinistryFunctionRepository;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryFunctionKeyRow;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MinistryReminderKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinistryFunctionReminderSentWriterImpl Tests")
+class MinistryFunctionReminderSentWriterImplTest {
+
+    @Mock
+    private MinistryFunctionRepository ministryFunctionRepository;
+
+    @InjectMocks
+    private MinistryFunctionReminderSentWriterImpl writer;
+
+    @Test
+    @DisplayName("Should mark only the exact meeting/person pairs with a single update")
+    @SuppressWarnings("unchecked")
+    void shouldMarkExactPairsOnly() {
+        UUID meetingA = UUID.randomUUID();
+        UUID meetingB = UUID.randomUUID();
+        UUID ana = UUID.randomUUID();
+        UUID luis = UUID.randomUUID();
+        MinistryFunctionKeyRow anaInA = row(meetingA, ana);
+        MinistryFunctionKeyRow luisInB = row(meetingB, luis);
+        // Matches both id sets but was not in the batch
+        MinistryFunctionKeyRow luisInA = row(meetingA, luis);
+        when(ministryFunctionRepository.findKeys(anyCollection(), anyCollection()))
+                .thenReturn(List.of(anaInA, luisInB, luisInA));
+        when(ministryFunctionRepository.markRemindersSent(anyCollection(), any(Instant.class))).thenReturn(2);
+
+        int marked = writer.writeMinistryFunctionRemindersSent(List.of(
+                new MinistryReminderKey(meetingA, ana),
+                new MinistryReminderKey(meetingB, luis)
+        ));
+
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(ministryFunctionRepository, times(1)).markRemindersSent(ids.capture(), any(Instant.class));
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(anaInA.getId(), luisInB.getId());
+        assertThat(marked).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an empty batch")
+    void shouldSkipEmptyBatch() {
+        assertThat(writer.writeMinistryFunctionRemindersSent(List.of())).isZero();
+
+        verifyNoInteractions(ministryFunctionRepository);
+    }
+
+    private static MinistryFunctionKeyRow row(UUID meetingId, UUID peopleId) {
+        UUID id = UUID.randomUUID();
+        return new MinistryFunctionKeyRow() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getMeetingId() {
+                return meetingId;
+            }
+
+            @Override
+            public UUID getPeopleId() {
+                return peopleId;
+            }
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.viddefe.viddefe_api.worship_meetings.application;
+
+import com.viddefe.viddefe_api.common.scheduling.LeaseLock;
+import com.viddefe.viddefe_api.common.scheduling.ShardedJobRunner;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationEventBatch;
+import com.viddefe.viddefe_api.notifications.Infrastructure.dto.NotificationMeetingEvent;
+import com.viddefe.viddefe_api.notifications.contracts.NotificationEventPublisher;
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.domain.repository.MinistryFunctionRepository;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.DueMinistryReminderRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MinistryNotificationJobRoutine Tests")
+class MinistryNotificationJobRoutineTest {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    @Mock
+    private MinistryFunctionRepository ministryFunctionRepository;
+
+    @Mock
+    private NotificationEventPublisher notificationEventPublisher;
+
+    @Mock
+    private LeaseLock leaseLock;
+
+    private final UUID churchId = UUID.randomUUID();
+
+    private MinistryNotificationJobRoutine routine;
+
+    @BeforeEach
+    void setUp() {
+        routine = new MinistryNotificationJobRoutine(
+                ministryFunctionRepository, notificationEventPublisher,
+                new ShardedJobRunner(leaseLock), 1, Duration.ofMinutes(19));
+    }
+
+    @Test
+    @DisplayName("Should ask the database for meetings 5 hours to 1 day ahead not reminded today")
+    void shouldPushDueWindowIntoQuery() {
+        grantLeases();
+        when(ministryFunctionRepository.findChurchIdsWithDueReminders(any(), any(), any()))
+                .thenReturn(List.of(churchId));
+        when(ministryFunctionRepository.findDueRemindersAfter(any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        routine.execute();
+
+        ArgumentCaptor<OffsetDateTime> windowStart = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> windowEnd = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<Instant> sentBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(ministryFunctionRepository).findDueRemindersAfter(
+                eq(List.of(churchId)), windowStart.capture(), windowEnd.capture(), sentBefore.capture(),
+                eq(FIRST_ID), eq(Limit.of(100)));
+        assertThat(Duration.between(windowStart.getValue(), windowEnd.getValue())).isEqualTo(Duration.ofHours(19));
+        assertThat(sentBefore.getValue()).isEqualTo(Instant.now().truncatedTo(ChronoUnit.DAYS));
+        verifyNoInteractions(notificationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should page with the last id and publish one batch per page")
+    void shouldPageByKeyset() {
+        List<DueMinistryReminderRow> firstPage = new ArrayList<>();
+        IntStream.range(0, 100).forEach(i -> firstPage.add(row(TopologyEventType.TEMPLE_WORHSIP, null)));
+        DueMinistryReminderRow last = row(TopologyEventType.GROUP_MEETING, "Jóvenes");
+        UUID afterFirstPage = firstPage.getLast().getId();
+        grantLeases();
+        when(ministryFunctionRepository.findChurchIdsWithDueReminders(any(), any(), any()))
+                .thenReturn(List.of(churchId));
+        when(ministryFunctionRepository.findDueRemindersAfter(any(), any(), any(), any(), eq(FIRST_ID), any()))
+                .thenReturn(firstPage);
+        when(ministryFunctionRepository.findDueRemindersAfter(any(), any(), any(), any(), eq(afterFirstPage), any()))
+                .thenReturn(List.of(last));
+
+        routine.execute();
+
+        ArgumentCaptor<NotificationEventBatch> batches = ArgumentCaptor.forClass(NotificationEventBatch.class);
+        verify(notificationEventPublisher, times(2)).publishAll(batches.capture());
+        assertThat(batches.getAllValues().get(0).events()).hasSize(100);
+        NotificationMeetingEvent groupReminder =
+                (NotificationMeetingEvent) batches.getAllValues().get(1).events().getFirst();
+        assertThat(groupReminder.getMeetingId()).isEqualTo(last.getMeetingId());
+        assertThat(groupReminder.getPersonId()).isEqualTo(last.getPeopleId());
+        assertThat(groupReminder.getVariables()).containsEntry("groupName", "Jóvenes").containsEntry("name", "Ana");
+        verify(ministryFunctionRepository, times(2)).findDueRemindersAfter(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not send reminders of a shard leased by another replica")
+    void shouldSkipShardLeasedElsewhere() {
+        when(ministryFunctionRepository.findChurchIdsWithDueReminders(any(), any(), any()))
+                .thenReturn(List.of(churchId));
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn(Optional.empty());
+
+        routine.execute();
+
+        verify(ministryFunctionRepository, never()).findDueRemindersAfter(any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(notificationEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not take any lease when no church has due reminders")
+    void shouldSkipWhenNothingIsDue() {
+        when(ministryFunctionRepository.findChurchIdsWithDueReminders(any(), any(), any()))
+                .thenReturn(List.of());
+
+        routine.execute();
+
+        verifyNoInteractions(leaseLock, notificationEventPublisher);
+    }
+
+    private void grantLeases() {
+        when(leaseLock.tryAcquire(anyString(), any())).thenReturn(Optional.of("token"));
+    }
+
+    private static DueMinistryReminderRow row(TopologyEventType eventType, String groupName) {
+        UUID id = UUID.randomUUID();
+        UUID meetingId = UUID.randomUUID();
+        UUID peopleId = UUID.randomUUID();
+        OffsetDateTime scheduledDate = OffsetDateTime.now(ZoneOffset.UTC).plusHours(10);
+        return new DueMinistryReminderRow() {
+            @Override public UUID getId() { return id; }
+            @Override public UUID getMeetingId() { return meetingId; }
+            @Override public UUID getPeopleId() { return peopleId; }
+            @Override public TopologyEventType getEventType() { return eventType; }
+            @Override public String getFirstName() { return "Ana"; }
+            @Override public String getRole() { return "Alabanza"; }
+            @Override public String getMeetingName() { return "Reunión"; }
+            @Override public OffsetDateTime getScheduledDate() { return scheduledDate; }
+            @Override public String getChurchName() { return "Central"; }
+            @Override public String getGroupName() { return groupName; }
+        };
+    }
+}
@@ -0,0 +1,215 @@
+package com.viddefe.viddefe_api.worship_meetings.infrastructure.redis;
+
+import com.viddefe.viddefe_api.worship_meetings.configuration.TopologyEventType;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.ContextMetricsDto;
+import com.viddefe.viddefe_api.worship_meetings.infrastructure.dto.MetricsAttendanceDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MetricsNearCache Tests")
+class MetricsNearCacheTest {
+
+    private static final Duration TTL = Duration.ofHours(6);
+
+    @Mock
+    private MetricsRedisAdapter metricsRedisAdapter;
+
+    private MetricsNearCache metricsNearCache;
+
+    private final TopologyEventType type = TopologyEventType.TEMPLE_WORHSIP;
+    private final OffsetDateTime start = OffsetDateTime.of(2025, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private final OffsetDateTime end = OffsetDateTime.of(2025, 3, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private UUID churchId;
+
+    @BeforeEach
+    void setUp() {
+        metricsNearCache = new MetricsNearCache(metricsRedisAdapter, new SimpleMeterRegistry());
+        churchId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should compute once and serve later calls from memory")
+    void shouldComputeOnceAndServeFromMemory() {
+        MetricsAttendanceDto metrics = MetricsAttendanceDto.builder().totalMeetings(4L).build();
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(0L);
+        when(metricsRedisAdapter.getMetrics(type, churchId, 0L, start, end)).thenReturn(Optional.empty());
+        AtomicInteger computations = new AtomicInteger();
+
+        MetricsAttendanceDto first = metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+            computations.incrementAndGet();
+            return metrics;
+        });
+        MetricsAttendanceDto second = metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+            computations.incrementAndGet();
+            return metrics;
+        });
+
+        assertThat(first).isSameAs(metrics);
+        assertThat(second).isSameAs(metrics);
+        assertThat(computations).hasValue(1);
+        verify(metricsRedisAdapter, times(1)).getMetrics(type, churchId, 0L, start, end);
+        verify(metricsRedisAdapter).saveMetrics(type, churchId, 0L, metrics, TTL, start, end);
+    }
+
+    @Test
+    @DisplayName("Should share one in-flight computation between concurrent callers")
+    void shouldShareInFlightComputation() throws Exception {
+        MetricsAttendanceDto metrics = MetricsAttendanceDto.builder().totalMeetings(4L).build();
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(0L);
+        when(metricsRedisAdapter.getMetrics(type, churchId, 0L, start, end)).thenReturn(Optional.empty());
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        CompletableFuture<MetricsAttendanceDto> leader = CompletableFuture.supplyAsync(() ->
+                metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+                    computations.incrementAndGet();
+                    computing.countDown();
+                    await(release);
+                    return metrics;
+                }));
+        assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<MetricsAttendanceDto> follower = CompletableFuture.supplyAsync(() ->
+                metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+                    computations.incrementAndGet();
+                    return metrics;
+                }));
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(metrics);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(metrics);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should use the Redis entry without computing")
+    void shouldUseRedisEntry() {
+        MetricsAttendanceDto metrics = MetricsAttendanceDto.builder().totalMeetings(2L).build();
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(3L);
+        when(metricsRedisAdapter.getMetrics(type, churchId, 3L, start, end)).thenReturn(Optional.of(metrics));
+
+        MetricsAttendanceDto result = metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+            throw new AssertionError("Should not compute");
+        });
+
+        assertThat(result).isSameAs(metrics);
+        verify(metricsRedisAdapter, never()).saveMetrics(any(), any(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should read a new version after a local bump")
+    void shouldReadNewVersionAfterBump() {
+        MetricsAttendanceDto stale = MetricsAttendanceDto.builder().totalMeetings(1L).build();
+        MetricsAttendanceDto fresh = MetricsAttendanceDto.builder().totalMeetings(2L).build();
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(0L, 1L);
+        when(metricsRedisAdapter.getMetrics(eq(type), eq(churchId), anyLong(), eq(start), eq(end)))
+                .thenReturn(Optional.empty());
+
+        metricsNearCache.get(type, churchId, start, end, TTL, () -> stale);
+        metricsNearCache.bumpVersion(type, churchId);
+        MetricsAttendanceDto result = metricsNearCache.get(type, churchId, start, end, TTL, () -> fresh);
+
+        assertThat(result).isSameAs(fresh);
+        verify(metricsRedisAdapter).bumpVersion(type, churchId);
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed computation")
+    void shouldNotCacheFailure() {
+        MetricsAttendanceDto metrics = MetricsAttendanceDto.builder().totalMeetings(4L).build();
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(0L);
+        when(metricsRedisAdapter.getMetrics(type, churchId, 0L, start, end)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> metricsNearCache.get(type, churchId, start, end, TTL, () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(metricsNearCache.get(type, churchId, start, end, TTL, () -> metrics)).isSameAs(metrics);
+    }
+
+    @Test
+    @DisplayName("Should batch version reads and Redis writes of side-effect metrics")
+    void shouldBatchPutAll() {
+        UUID groupId = UUID.randomUUID();
+        MetricsAttendanceDto churchMetrics = MetricsAttendanceDto.builder().totalMeetings(4L).build();
+        MetricsAttendanceDto groupMetrics = MetricsAttendanceDto.builder().totalMeetings(2L).build();
+        List<ContextMetricsDto> entries = List.of(
+                new ContextMetricsDto(type, churchId, churchMetrics),
+                new ContextMetricsDto(TopologyEventType.GROUP_MEETING, groupId, groupMetrics)
+        );
+        Map<MetricsVersionKey, Long> versions = Map.of(
+                new MetricsVersionKey(type, churchId), 2L,
+                new MetricsVersionKey(TopologyEventType.GROUP_MEETING, groupId), 5L
+        );
+        when(metricsRedisAdapter.currentVersions(any())).thenReturn(versions);
+
+        Map<MetricsVersionKey, Long> read = metricsNearCache.currentVersions(versions.keySet());
+        metricsNearCache.putAll(entries, read, start, end, TTL);
+        MetricsAttendanceDto cached = metricsNearCache.get(
+                TopologyEventType.GROUP_MEETING, groupId, start, end, TTL, () -> {
+                    throw new AssertionError("Should be served from memory");
+                });
+
+        assertThat(cached).isSameAs(groupMetrics);
+        verify(metricsRedisAdapter, times(1)).currentVersions(any());
+        verify(metricsRedisAdapter, times(1)).saveAllMetrics(entries, versions, TTL, start, end);
+        verify(metricsRedisAdapter, never()).saveMetrics(any(), any(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should store side-effect metrics under the versions read before computing them")
+    void shouldPutAllUnderVersionsReadBeforeCompute() {
+        MetricsAttendanceDto stale = MetricsAttendanceDto.builder().totalMeetings(4L).build();
+        MetricsAttendanceDto fresh = MetricsAttendanceDto.builder().totalMeetings(5L).build();
+        MetricsVersionKey versionKey = new MetricsVersionKey(type, churchId);
+        when(metricsRedisAdapter.currentVersions(any())).thenReturn(Map.of(versionKey, 0L));
+        when(metricsRedisAdapter.currentVersion(type, churchId)).thenReturn(1L);
+        when(metricsRedisAdapter.getMetrics(type, churchId, 1L, start, end)).thenReturn(Optional.empty());
+
+        Map<MetricsVersionKey, Long> versions = metricsNearCache.currentVersions(List.of(versionKey));
+        // Attendance registered while the side-effect metrics were being computed
+        metricsNearCache.bumpVersion(type, churchId);
+        List<ContextMetricsDto> entries = List.of(new ContextMetricsDto(type, churchId, stale));
+        metricsNearCache.putAll(entries, versions, start, end, TTL);
+
+        assertThat(metricsNearCache.get(type, churchId, start, end, TTL, () -> fresh)).isSameAs(fresh);
+        verify(metricsRedisAdapter).saveAllMetrics(entries, versions, TTL, start, end);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}